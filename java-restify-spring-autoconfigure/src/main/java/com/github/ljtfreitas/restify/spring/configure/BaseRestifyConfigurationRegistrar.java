@@ -36,6 +36,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.env.Environment;
@@ -49,11 +50,17 @@ public abstract class BaseRestifyConfigurationRegistrar implements ImportBeanDef
 
 	private static final Logger log = LoggerFactory.getLogger(RestifyConfigurationRegistrar.class);
 
+	private static final String RESTIFY_CLIENTS_BEAN_NAME = "restifyClients";
+
 	private RestifyApiClientProperties properties;
 
 	protected BeanFactory beanFactory;
 
 	protected void doScan(List<String> packages, RestifyableTypeScanner scanner, BeanDefinitionRegistry registry) {
+		if (!registry.containsBeanDefinition(RESTIFY_CLIENTS_BEAN_NAME)) {
+			registry.registerBeanDefinition(RESTIFY_CLIENTS_BEAN_NAME, new RootBeanDefinition(RestifyClients.class));
+		}
+
 		packages.forEach(p -> {
 			scanner.findCandidateComponents(p)
 				.stream()
@@ -71,7 +78,8 @@ public abstract class BaseRestifyConfigurationRegistrar implements ImportBeanDef
 				.objectType(type.objectType())
 					.endpoint(endpoint)
 						.asyncExecutorServiceName("restifyAsyncExecutorService")
-							.authentication(apiAuthentication(restifyApiClient.getAuthentication()));
+							.authentication(apiAuthentication(restifyApiClient.getAuthentication()))
+								.warmup(Optional.ofNullable(restifyApiClient.getWarmup()).orElseGet(properties::warmup));
 
 		BeanDefinition bean = builder.build();
 
@@ -31,6 +31,8 @@ class RestifyApiClient {
 
 	private RestifyApiAuthentication authentication;
 
+	private Integer warmup;
+
 	public String getEndpoint() {
 		return endpoint;
 	}
@@ -47,6 +49,14 @@ class RestifyApiClient {
 		this.authentication = authentication;
 	}
 
+	public Integer getWarmup() {
+		return warmup;
+	}
+
+	public void setWarmup(Integer warmup) {
+		this.warmup = warmup;
+	}
+
 	public static class RestifyApiAuthentication {
 
 		private Basic basic;
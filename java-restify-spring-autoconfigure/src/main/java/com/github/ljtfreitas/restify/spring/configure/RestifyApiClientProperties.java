@@ -49,6 +49,10 @@ class RestifyApiClientProperties {
 		return restifyApiClient;
 	}
 
+	public Integer warmup() {
+		return environment.getProperty("restify.warmup", Integer.class);
+	}
+
 	public String resolve(String expression) {
 		return ((ConfigurableEnvironment) environment).resolvePlaceholders(expression);
 	}
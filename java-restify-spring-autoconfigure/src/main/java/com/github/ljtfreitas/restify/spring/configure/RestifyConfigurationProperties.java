@@ -25,6 +25,9 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.spring.configure;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -36,6 +39,10 @@ public class RestifyConfigurationProperties {
 
 	private RestifyAsyncProperties async = new RestifyAsyncProperties();
 
+	private RestifyHttpProperties http = new RestifyHttpProperties();
+
+	private Integer warmup;
+
 	public void setError(RestifyErrorProperties error) {
 		this.error = error;
 	}
@@ -52,6 +59,22 @@ public class RestifyConfigurationProperties {
 		return async;
 	}
 
+	public void setHttp(RestifyHttpProperties http) {
+		this.http = http;
+	}
+
+	public RestifyHttpProperties getHttp() {
+		return http;
+	}
+
+	public void setWarmup(Integer warmup) {
+		this.warmup = warmup;
+	}
+
+	public Integer getWarmup() {
+		return warmup;
+	}
+
 	public static class RestifyErrorProperties {
 
 		private boolean emptyOnNotFound = false;
@@ -77,4 +100,130 @@ public class RestifyConfigurationProperties {
 			return timeout;
 		}
 	}
+
+	public static class RestifyHttpProperties {
+
+		private String client;
+
+		private RestifyApacheHttpClientProperties apache = new RestifyApacheHttpClientProperties();
+
+		public void setClient(String client) {
+			this.client = client;
+		}
+
+		public String getClient() {
+			return client;
+		}
+
+		public void setApache(RestifyApacheHttpClientProperties apache) {
+			this.apache = apache;
+		}
+
+		public RestifyApacheHttpClientProperties getApache() {
+			return apache;
+		}
+	}
+
+	public static class RestifyApacheHttpClientProperties {
+
+		private Integer connectionTimeout = null;
+
+		private Integer connectionRequestTimeout = null;
+
+		private Integer readTimeout = null;
+
+		private Integer maxConnections = null;
+
+		private Integer maxConnectionsPerRoute = null;
+
+		private Map<String, Integer> routes = new LinkedHashMap<>();
+
+		private Long timeToLive = null;
+
+		private Long keepAlive = null;
+
+		private Integer validateAfterInactivity = null;
+
+		private Long idleTimeout = null;
+
+		public void setConnectionTimeout(Integer connectionTimeout) {
+			this.connectionTimeout = connectionTimeout;
+		}
+
+		public Integer getConnectionTimeout() {
+			return connectionTimeout;
+		}
+
+		public void setConnectionRequestTimeout(Integer connectionRequestTimeout) {
+			this.connectionRequestTimeout = connectionRequestTimeout;
+		}
+
+		public Integer getConnectionRequestTimeout() {
+			return connectionRequestTimeout;
+		}
+
+		public void setReadTimeout(Integer readTimeout) {
+			this.readTimeout = readTimeout;
+		}
+
+		public Integer getReadTimeout() {
+			return readTimeout;
+		}
+
+		public void setMaxConnections(Integer maxConnections) {
+			this.maxConnections = maxConnections;
+		}
+
+		public Integer getMaxConnections() {
+			return maxConnections;
+		}
+
+		public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		}
+
+		public Integer getMaxConnectionsPerRoute() {
+			return maxConnectionsPerRoute;
+		}
+
+		public void setRoutes(Map<String, Integer> routes) {
+			this.routes = routes;
+		}
+
+		public Map<String, Integer> getRoutes() {
+			return routes;
+		}
+
+		public void setTimeToLive(Long timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		public Long getTimeToLive() {
+			return timeToLive;
+		}
+
+		public void setKeepAlive(Long keepAlive) {
+			this.keepAlive = keepAlive;
+		}
+
+		public Long getKeepAlive() {
+			return keepAlive;
+		}
+
+		public void setValidateAfterInactivity(Integer validateAfterInactivity) {
+			this.validateAfterInactivity = validateAfterInactivity;
+		}
+
+		public Integer getValidateAfterInactivity() {
+			return validateAfterInactivity;
+		}
+
+		public void setIdleTimeout(Long idleTimeout) {
+			this.idleTimeout = idleTimeout;
+		}
+
+		public Long getIdleTimeout() {
+			return idleTimeout;
+		}
+	}
 }
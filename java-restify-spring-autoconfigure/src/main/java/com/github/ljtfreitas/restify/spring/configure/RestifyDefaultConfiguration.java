@@ -25,12 +25,15 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.spring.configure;
 
+import java.util.Optional;
+
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestConfiguration;
 import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.jdk.JdkHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.okhttp.OkHttpClientRequestFactory;
@@ -38,6 +41,7 @@ import com.github.ljtfreitas.restify.http.client.response.DefaultEndpointRespons
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseErrorFallback;
 import com.github.ljtfreitas.restify.http.spring.client.call.exec.HttpHeadersEndpointCallExecutableFactory;
 import com.github.ljtfreitas.restify.http.spring.client.call.exec.ResponseEntityEndpointCallExecutableFactory;
+import com.github.ljtfreitas.restify.spring.configure.RestifyConfigurationProperties.RestifyApacheHttpClientProperties;
 
 @Configuration
 public class RestifyDefaultConfiguration {
@@ -52,8 +56,24 @@ public class RestifyDefaultConfiguration {
 	@ConditionalOnMissingBean
 	@ConditionalOnProperty(name = "restify.http.client", havingValue = "http-client")
 	@Bean
-	public HttpClientRequestFactory apacheHttpClientRequestFactory() {
-		return new ApacheHttpClientRequestFactory();
+	public HttpClientRequestFactory apacheHttpClientRequestFactory(RestifyConfigurationProperties properties) {
+		RestifyApacheHttpClientProperties apache = properties.getHttp().getApache();
+
+		ApacheHttpClientRequestConfiguration.Builder builder = new ApacheHttpClientRequestConfiguration.Builder();
+
+		Optional.ofNullable(apache.getConnectionTimeout()).ifPresent(builder::connectionTimeout);
+		Optional.ofNullable(apache.getConnectionRequestTimeout()).ifPresent(builder::connectionRequestTimeout);
+		Optional.ofNullable(apache.getReadTimeout()).ifPresent(builder::readTimeout);
+		Optional.ofNullable(apache.getMaxConnections()).ifPresent(builder::maxConnections);
+		Optional.ofNullable(apache.getMaxConnectionsPerRoute()).ifPresent(builder::maxConnectionsPerRoute);
+		Optional.ofNullable(apache.getTimeToLive()).ifPresent(builder::timeToLive);
+		Optional.ofNullable(apache.getKeepAlive()).ifPresent(builder::keepAlive);
+		Optional.ofNullable(apache.getValidateAfterInactivity()).ifPresent(builder::validateAfterInactivity);
+		Optional.ofNullable(apache.getIdleTimeout()).ifPresent(builder::idleTimeout);
+
+		apache.getRoutes().forEach(builder::maxConnectionsPerRoute);
+
+		return new ApacheHttpClientRequestFactory(builder.build());
 	}
 
 	@ConditionalOnMissingBean
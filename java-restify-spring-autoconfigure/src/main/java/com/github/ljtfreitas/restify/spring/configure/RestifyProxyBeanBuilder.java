@@ -61,6 +61,13 @@ class RestifyProxyBeanBuilder {
 		return this;
 	}
 
+	public RestifyProxyBeanBuilder warmup(Integer warmup) {
+		if (warmup != null) {
+			builder.addPropertyValue("warmup", warmup);
+		}
+		return this;
+	}
+
 	public BeanDefinition build() {
 		BeanDefinition beanDefinition = doBuild();
 		beanDefinition.setPrimary(true);
@@ -27,11 +27,15 @@ package com.github.ljtfreitas.restify.spring.configure;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import org.springframework.beans.factory.FactoryBean;
 
+import com.github.ljtfreitas.restify.http.RestifyClient;
 import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
 import com.github.ljtfreitas.restify.http.client.authentication.Authentication;
 import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutableProvider;
@@ -66,8 +70,26 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 
 	private ExecutorService asyncExecutorService;
 
+	private Integer warmup;
+
+	private RestifyClients restifyClients;
+
 	@Override
 	public Object getObject() throws Exception {
+		RestifyClient restifyClient = Optional.ofNullable(restifyClients)
+				.map(clients -> clients.of(configuration(), this::restifyClient))
+					.orElseGet(this::restifyClient);
+
+		return restifyClient.target(objectType, endpoint());
+	}
+
+	private List<Object> configuration() {
+		return Arrays.asList(httpClientRequestFactory, restifyContractReader, endpointRequestExecutor, new ArrayList<>(interceptors),
+				new ArrayList<>(converters), new ArrayList<>(executables), authentication, endpointResponseErrorFallback,
+				asyncExecutorService, warmup);
+	}
+
+	private RestifyClient restifyClient() {
 		RestifyProxyBuilder builder = new RestifyProxyBuilder();
 
 		builder.client(httpClientRequestFactory)
@@ -85,7 +107,11 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 			builder.interceptors().authentication(authentication);
 		}
 
-		return builder.target(objectType, endpoint()).build();
+		if (warmup != null) {
+			builder.warmup(warmup);
+		}
+
+		return builder.build();
 	}
 
 	private String endpoint() {
@@ -157,4 +183,12 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 	public void setAsyncExecutorService(ExecutorService asyncExecutorService) {
 		this.asyncExecutorService = asyncExecutorService;
 	}
+
+	public void setWarmup(Integer warmup) {
+		this.warmup = warmup;
+	}
+
+	public void setRestifyClients(RestifyClients restifyClients) {
+		this.restifyClients = restifyClients;
+	}
 }
@@ -0,0 +1,79 @@
+package com.github.ljtfreitas.restify.spring.configure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyClient;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class RestifyProxyFactoryBeanTest {
+
+	private Collection<RestifyClient> created;
+
+	private RestifyClients restifyClients;
+
+	@Before
+	public void setup() {
+		created = new ArrayList<>();
+
+		restifyClients = new RestifyClients() {
+			@Override
+			RestifyClient of(List<Object> configuration, Supplier<RestifyClient> client) {
+				return super.of(configuration, () -> {
+					RestifyClient restifyClient = client.get();
+					created.add(restifyClient);
+					return restifyClient;
+				});
+			}
+		};
+	}
+
+	@Test
+	public void shouldShareClientBetweenProxiesWithTheSameConfiguration() throws Exception {
+		assertNotNull(factoryBeanOf(MyApi.class).getObject());
+		assertNotNull(factoryBeanOf(MyOtherApi.class).getObject());
+
+		assertEquals(1, created.size());
+	}
+
+	@Test
+	public void shouldCreateClientForEachConfiguration() throws Exception {
+		factoryBeanOf(MyApi.class).getObject();
+
+		RestifyProxyFactoryBean factoryBean = factoryBeanOf(MyOtherApi.class);
+		factoryBean.setWarmup(1);
+		factoryBean.getObject();
+
+		assertEquals(2, created.size());
+	}
+
+	private RestifyProxyFactoryBean factoryBeanOf(Class<?> type) {
+		RestifyProxyFactoryBean factoryBean = new RestifyProxyFactoryBean();
+		factoryBean.setObjectType(type);
+		factoryBean.setRestifyClients(restifyClients);
+		return factoryBean;
+	}
+
+	@Path("http://my.api.com")
+	interface MyApi {
+
+		@Path("/my") @Get
+		String get();
+	}
+
+	@Path("http://my.other.api.com")
+	interface MyOtherApi {
+
+		@Path("/other") @Get
+		String get();
+	}
+}
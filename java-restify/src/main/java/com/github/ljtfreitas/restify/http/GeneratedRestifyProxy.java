@@ -0,0 +1,109 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.lang.reflect.Method;
+
+import com.github.ljtfreitas.restify.http.client.EndpointMethodInvocationPlan;
+
+public abstract class GeneratedRestifyProxy {
+
+	public static final String SUFFIX = "_RestifyProxy";
+
+	private final RestifyProxyHandler handler;
+
+	protected GeneratedRestifyProxy(RestifyProxyHandler handler) {
+		this.handler = handler;
+	}
+
+	protected LazyEndpointMethodInvocationPlan plan(Class<?> type, String name, Class<?>... parameterTypes) {
+		try {
+			Method method = type.getMethod(name, parameterTypes);
+
+			if (!handler.endpointType().find(method).isPresent()) {
+				throw new IllegalStateException("Method [" + method + "] is not a endpoint method of type [" + type + "].");
+			}
+
+			return new LazyEndpointMethodInvocationPlan(handler, method);
+
+		} catch (NoSuchMethodException e) {
+			throw new RestifyProxyMethodException("Method [" + name + "] not found on type [" + type + "]. "
+					+ "Is the generated proxy out of date?", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return handler.toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof GeneratedRestifyProxy) {
+			GeneratedRestifyProxy that = (GeneratedRestifyProxy) obj;
+			return handler.endpointType().equals(that.handler.endpointType());
+
+		} else return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return handler.hashCode();
+	}
+
+	public static String nameOf(Class<?> type) {
+		String name = type.getName();
+
+		int packageEnd = name.lastIndexOf('.');
+
+		return name.substring(0, packageEnd + 1) + name.substring(packageEnd + 1).replace('$', '_') + SUFFIX;
+	}
+
+	public static final class LazyEndpointMethodInvocationPlan {
+
+		private final RestifyProxyHandler handler;
+		private final Method method;
+
+		private volatile EndpointMethodInvocationPlan plan;
+
+		private LazyEndpointMethodInvocationPlan(RestifyProxyHandler handler, Method method) {
+			this.handler = handler;
+			this.method = method;
+		}
+
+		public Object execute(Object[] args) {
+			EndpointMethodInvocationPlan plan = this.plan;
+
+			if (plan == null) {
+				plan = handler.planOf(method)
+						.orElseThrow(() -> new IllegalStateException("Method [" + method + "] is not a endpoint method."));
+				this.plan = plan;
+			}
+
+			return plan.execute(args);
+		}
+	}
+}
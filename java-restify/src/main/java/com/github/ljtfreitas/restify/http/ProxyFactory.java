@@ -25,19 +25,40 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http;
 
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.util.Optional;
 
 class ProxyFactory {
 
-	private final InvocationHandler handler;
+	private final RestifyProxyHandler handler;
 
-	public ProxyFactory(InvocationHandler handler) {
+	public ProxyFactory(RestifyProxyHandler handler) {
 		this.handler = handler;
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T> T create(Class<T> type) {
-		return (T) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[] {type}, handler);
+		return generated(type)
+				.orElseGet(() -> (T) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[] {type}, handler));
+	}
+
+	private <T> Optional<T> generated(Class<T> type) {
+		try {
+			Class<?> generatedType = Class.forName(GeneratedRestifyProxy.nameOf(type), true, type.getClassLoader());
+
+			if (type.isAssignableFrom(generatedType) && GeneratedRestifyProxy.class.isAssignableFrom(generatedType)) {
+				Object proxy = generatedType.getConstructor(RestifyProxyHandler.class).newInstance(handler);
+				return Optional.of(type.cast(proxy));
+
+			} else {
+				return Optional.empty();
+			}
+
+		} catch (ClassNotFoundException e) {
+			return Optional.empty();
+
+		} catch (ReflectiveOperationException e) {
+			throw new RestifyProxyMethodException("Cannot create generated proxy instance of type [" + type + "]", e);
+		}
 	}
 }
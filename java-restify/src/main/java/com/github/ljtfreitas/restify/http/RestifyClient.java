@@ -0,0 +1,87 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.EndpointMethodExecutor;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.contract.RestifyContract;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+
+public class RestifyClient implements Closeable {
+
+	private final RestifyContract contract;
+	private final EndpointMethodExecutor endpointMethodExecutor;
+	private final HttpClientRequestFactory httpClientRequestFactory;
+	private final Optional<RestifyProxyWarmup> warmup;
+
+	RestifyClient(RestifyContract contract, EndpointMethodExecutor endpointMethodExecutor,
+			HttpClientRequestFactory httpClientRequestFactory) {
+		this(contract, endpointMethodExecutor, httpClientRequestFactory, null);
+	}
+
+	RestifyClient(RestifyContract contract, EndpointMethodExecutor endpointMethodExecutor,
+			HttpClientRequestFactory httpClientRequestFactory, RestifyProxyWarmup warmup) {
+		this.contract = contract;
+		this.endpointMethodExecutor = endpointMethodExecutor;
+		this.httpClientRequestFactory = httpClientRequestFactory;
+		this.warmup = Optional.ofNullable(warmup);
+	}
+
+	public <T> T target(Class<T> type) {
+		return target(type, (String) null);
+	}
+
+	public <T> T target(Class<T> type, URL endpoint) {
+		return target(type, endpoint.toString());
+	}
+
+	public <T> T target(Class<T> type, URI endpoint) {
+		return target(type, endpoint.toString());
+	}
+
+	public <T> T target(Class<T> type, String endpoint) {
+		EndpointTarget target = new EndpointTarget(type, endpoint);
+
+		RestifyProxyHandler restifyProxyHandler = new RestifyProxyHandler(contract.read(target), endpointMethodExecutor);
+
+		warmup.ifPresent(w -> w.warmup(restifyProxyHandler));
+
+		return new ProxyFactory(restifyProxyHandler).create(type);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (httpClientRequestFactory instanceof Closeable) {
+			((Closeable) httpClientRequestFactory).close();
+		}
+	}
+}
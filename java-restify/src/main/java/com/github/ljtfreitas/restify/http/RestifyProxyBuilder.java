@@ -25,6 +25,7 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http;
 
+import java.io.Closeable;
 import java.net.Proxy;
 import java.net.URI;
 import java.net.URL;
@@ -81,12 +82,16 @@ import com.github.ljtfreitas.restify.http.client.message.form.multipart.Multipar
 import com.github.ljtfreitas.restify.http.client.message.form.multipart.MultipartFormMapMessageWriter;
 import com.github.ljtfreitas.restify.http.client.message.form.multipart.MultipartFormObjectMessageWriter;
 import com.github.ljtfreitas.restify.http.client.message.form.multipart.MultipartFormParametersMessageWriter;
+import com.github.ljtfreitas.restify.http.client.request.AsyncEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestWriter;
 import com.github.ljtfreitas.restify.http.client.request.EndpointVersion;
 import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.RestifyAsyncEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.RestifyEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.compression.CompressionHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.AcceptHeaderEndpointRequestInterceptor;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.AcceptVersionHeaderEndpointRequestInterceptor;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.ContentTypeHeaderEndpointRequestInterceptor;
@@ -100,12 +105,14 @@ import com.github.ljtfreitas.restify.http.client.response.EndpointResponseErrorF
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseReader;
 import com.github.ljtfreitas.restify.http.contract.ContentType;
 import com.github.ljtfreitas.restify.http.contract.DefaultRestifyContract;
+import com.github.ljtfreitas.restify.http.contract.IndexedRestifyContract;
 import com.github.ljtfreitas.restify.http.contract.RestifyContract;
 import com.github.ljtfreitas.restify.http.contract.metadata.DefaultRestifyContractReader;
-import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
 import com.github.ljtfreitas.restify.http.contract.metadata.RestifyContractExpressionResolver;
 import com.github.ljtfreitas.restify.http.contract.metadata.RestifyContractReader;
 import com.github.ljtfreitas.restify.http.contract.metadata.SimpleRestifyContractExpressionResolver;
+import com.github.ljtfreitas.restify.http.util.Preconditions;
+import com.github.ljtfreitas.restify.http.util.Tryable;
 
 public class RestifyProxyBuilder {
 
@@ -117,6 +124,10 @@ public class RestifyProxyBuilder {
 
 	private EndpointRequestExecutor endpointRequestExecutor;
 
+	private Integer compressionThreshold;
+
+	private Integer warmupConnections;
+
 	private HttpMessageConvertersBuilder httpMessageConvertersBuilder = new HttpMessageConvertersBuilder(this);
 
 	private EndpointRequestInterceptorsBuilder endpointRequestInterceptorsBuilder = new EndpointRequestInterceptorsBuilder(this);
@@ -127,7 +138,12 @@ public class RestifyProxyBuilder {
 
 	private HttpClientRequestConfigurationBuilder httpClientRequestConfigurationBuilder = new HttpClientRequestConfigurationBuilder(this);
 
+	private RestifyClient restifyClient;
+
+	private HttpClientRequestFactory builtHttpClientRequestFactory;
+
 	public RestifyProxyBuilder client(HttpClientRequestFactory httpClientRequestFactory) {
+		transportChanged();
 		this.httpClientRequestFactory = httpClientRequestFactory;
 		return this;
 	}
@@ -136,19 +152,35 @@ public class RestifyProxyBuilder {
 		return httpClientRequestConfigurationBuilder;
 	}
 
+	public RestifyProxyBuilder compression() {
+		this.compressionThreshold = CompressionHttpClientRequestFactory.DEFAULT_THRESHOLD;
+		return transportChanged();
+	}
+
+	public RestifyProxyBuilder compression(int threshold) {
+		this.compressionThreshold = threshold;
+		return transportChanged();
+	}
+
+	public RestifyProxyBuilder warmup(int connections) {
+		Preconditions.isTrue(connections >= 0, "Warm-up connections must be greater than or equal to zero.");
+		this.warmupConnections = connections;
+		return changed();
+	}
+
 	public RestifyProxyBuilder contract(RestifyContractReader contract) {
 		this.contractReader = contract;
-		return this;
+		return changed();
 	}
 
 	public RestifyProxyBuilder expression(RestifyContractExpressionResolver expression) {
 		this.expressionResolver = expression;
-		return this;
+		return changed();
 	}
 
 	public RestifyProxyBuilder executor(EndpointRequestExecutor endpointRequestExecutor) {
 		this.endpointRequestExecutor = endpointRequestExecutor;
-		return this;
+		return changed();
 	}
 
 	public HttpMessageConvertersBuilder converters() {
@@ -157,7 +189,7 @@ public class RestifyProxyBuilder {
 
 	public RestifyProxyBuilder converters(HttpMessageConverter...converters) {
 		this.httpMessageConvertersBuilder.add(converters);
-		return this;
+		return changed();
 	}
 
 	public EndpointRequestInterceptorsBuilder interceptors() {
@@ -166,7 +198,7 @@ public class RestifyProxyBuilder {
 
 	public RestifyProxyBuilder interceptors(EndpointRequestInterceptor...interceptors) {
 		this.endpointRequestInterceptorsBuilder.add(interceptors);
-		return this;
+		return changed();
 	}
 
 	public EndpointCallExecutablesBuilder executables() {
@@ -175,7 +207,7 @@ public class RestifyProxyBuilder {
 
 	public RestifyProxyBuilder executables(EndpointCallExecutableProvider providers) {
 		this.endpointMethodExecutablesBuilder.add(providers);
-		return this;
+		return changed();
 	}
 
 	public EndpointResponseErrorFallbackBuilder error() {
@@ -184,9 +216,116 @@ public class RestifyProxyBuilder {
 
 	public RestifyProxyBuilder error(EndpointResponseErrorFallback fallback) {
 		this.endpointResponseErrorFallbackBuilder = new EndpointResponseErrorFallbackBuilder(this, fallback);
+		return changed();
+	}
+
+	public RestifyClient build() {
+		if (restifyClient == null) {
+			restifyClient = doBuild();
+		}
+		return restifyClient;
+	}
+
+	private RestifyProxyBuilder changed() {
+		this.restifyClient = null;
 		return this;
 	}
 
+	private RestifyProxyBuilder transportChanged() {
+		HttpClientRequestFactory replaced = this.builtHttpClientRequestFactory;
+
+		this.builtHttpClientRequestFactory = null;
+
+		// a factory given to client(...) belongs to the caller; only the default transport is released here
+		if (replaced instanceof Closeable && httpClientRequestFactory == null) {
+			Tryable.run(((Closeable) replaced)::close);
+		}
+
+		return changed();
+	}
+
+	private RestifyClient doBuild() {
+		if (builtHttpClientRequestFactory == null) {
+			builtHttpClientRequestFactory = httpClientRequestFactory();
+		}
+
+		HttpClientRequestFactory httpClientRequestFactory = builtHttpClientRequestFactory;
+
+		HttpMessageConverters messageConverters = httpMessageConvertersBuilder.build();
+
+		EndpointMethodExecutor endpointMethodExecutor = new EndpointMethodExecutor(endpointCallExecutables(),
+				endpointMethodCallFactory(httpClientRequestFactory, messageConverters));
+
+		RestifyProxyWarmup warmup = Optional.ofNullable(warmupConnections)
+				.map(c -> new RestifyProxyWarmup(c, httpClientRequestFactory, messageConverters))
+					.orElse(null);
+
+		return new RestifyClient(contract(), endpointMethodExecutor, httpClientRequestFactory, warmup);
+	}
+
+	private EndpointCallExecutables endpointCallExecutables() {
+		return endpointMethodExecutablesBuilder.build();
+	}
+
+	private EndpointCallFactory endpointMethodCallFactory(HttpClientRequestFactory httpClientRequestFactory,
+			HttpMessageConverters messageConverters) {
+		return new EndpointCallFactory(endpointRequestFactory(), endpointRequestExecutor(httpClientRequestFactory, messageConverters),
+				asyncEndpointRequestExecutor(httpClientRequestFactory, messageConverters).orElse(null));
+	}
+
+	private EndpointRequestFactory endpointRequestFactory() {
+		return new EndpointRequestFactory(endpointRequestInterceptorsBuilder.build());
+	}
+
+	private EndpointRequestExecutor endpointRequestExecutor(HttpClientRequestFactory httpClientRequestFactory,
+			HttpMessageConverters messageConverters) {
+		return Optional.ofNullable(endpointRequestExecutor)
+				.orElseGet(() -> new RestifyEndpointRequestExecutor(httpClientRequestFactory,
+						new EndpointRequestWriter(messageConverters),
+						new EndpointResponseReader(messageConverters, endpointResponseErrorFallbackBuilder())));
+	}
+
+	private Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor(HttpClientRequestFactory httpClientRequestFactory,
+			HttpMessageConverters messageConverters) {
+		boolean async = endpointRequestExecutor == null && this.httpClientRequestFactory instanceof AsyncHttpClientRequestFactory;
+
+		return Optional.of(httpClientRequestFactory)
+				.filter(f -> async)
+				.map(f -> new RestifyAsyncEndpointRequestExecutor((AsyncHttpClientRequestFactory) f,
+						new EndpointRequestWriter(messageConverters),
+						new EndpointResponseReader(messageConverters, endpointResponseErrorFallbackBuilder()),
+						endpointMethodExecutablesBuilder.async.executor()));
+	}
+
+	private EndpointResponseErrorFallback endpointResponseErrorFallbackBuilder() {
+		return endpointResponseErrorFallbackBuilder.build();
+	}
+
+	private HttpClientRequestFactory httpClientRequestFactory() {
+		HttpClientRequestFactory httpClientRequestFactory = Optional.ofNullable(this.httpClientRequestFactory)
+				.orElseGet(() -> new JdkHttpClientRequestFactory(httpClientRequestConfiguration()));
+
+		return Optional.ofNullable(compressionThreshold)
+				.<HttpClientRequestFactory> map(t -> new CompressionHttpClientRequestFactory(httpClientRequestFactory, t))
+				.orElse(httpClientRequestFactory);
+	}
+
+	private HttpClientRequestConfiguration httpClientRequestConfiguration() {
+		return httpClientRequestConfigurationBuilder.build();
+	}
+
+	private RestifyContract contract() {
+		return Optional.ofNullable(contractReader)
+				.<RestifyContract> map(c -> new DefaultRestifyContract(c))
+				.orElseGet(() -> new IndexedRestifyContract(expressionResolver(),
+						new DefaultRestifyContract(new DefaultRestifyContractReader(expressionResolver()))));
+	}
+
+	private RestifyContractExpressionResolver expressionResolver() {
+		return Optional.ofNullable(expressionResolver)
+				.orElseGet(() -> new SimpleRestifyContractExpressionResolver());
+	}
+
 	public <T> RestifyProxyBuilderOnTarget<T> target(Class<T> target) {
 		return new RestifyProxyBuilderOnTarget<>(target, null);
 	}
@@ -213,63 +352,7 @@ public class RestifyProxyBuilder {
 		}
 
 		public T build() {
-			RestifyProxyHandler restifyProxyHandler = doBuild();
-
-			return new ProxyFactory(restifyProxyHandler).create(type);
-		}
-
-		private RestifyProxyHandler doBuild() {
-			EndpointTarget target = new EndpointTarget(type, endpoint);
-
-			EndpointMethodExecutor endpointMethodExecutor = new EndpointMethodExecutor(endpointCallExecutables(), endpointMethodCallFactory()); 
-
-			RestifyContract restifyContract = contract();
-
-			return new RestifyProxyHandler(restifyContract.read(target), endpointMethodExecutor);
-		}
-
-		private EndpointCallExecutables endpointCallExecutables() {
-			return endpointMethodExecutablesBuilder.build();
-		}
-
-		private EndpointCallFactory endpointMethodCallFactory() {
-			return new EndpointCallFactory(endpointRequestFactory(), endpointRequestExecutor());
-		}
-
-		private EndpointRequestFactory endpointRequestFactory() {
-			return new EndpointRequestFactory(endpointRequestInterceptorsBuilder.build());
-		}
-
-		private EndpointRequestExecutor endpointRequestExecutor() {
-			HttpMessageConverters messageConverters = httpMessageConvertersBuilder.build();
-			return Optional.ofNullable(endpointRequestExecutor)
-					.orElseGet(() -> new RestifyEndpointRequestExecutor(httpClientRequestFactory(), 
-							new EndpointRequestWriter(messageConverters),
-							new EndpointResponseReader(messageConverters, endpointResponseErrorFallbackBuilder())));
-		}
-
-		private EndpointResponseErrorFallback endpointResponseErrorFallbackBuilder() {
-			return endpointResponseErrorFallbackBuilder.build();
-		}
-
-		private HttpClientRequestFactory httpClientRequestFactory() {
-			return Optional.ofNullable(httpClientRequestFactory)
-					.orElseGet(() -> new JdkHttpClientRequestFactory(httpClientRequestConfiguration()));
-		}
-
-		private HttpClientRequestConfiguration httpClientRequestConfiguration() {
-			return httpClientRequestConfigurationBuilder.build();
-		}
-
-		private RestifyContract contract() {
-			return Optional.ofNullable(contractReader)
-					.map(c -> new DefaultRestifyContract(c))
-					.orElseGet(() -> new DefaultRestifyContract(new DefaultRestifyContractReader(expressionResolver())));
-		}
-
-		private RestifyContractExpressionResolver expressionResolver() {
-			return Optional.ofNullable(expressionResolver)
-					.orElseGet(() -> new SimpleRestifyContractExpressionResolver());
+			return RestifyProxyBuilder.this.build().target(type, endpoint);
 		}
 	}
 
@@ -285,12 +368,14 @@ public class RestifyProxyBuilder {
 		public HttpMessageConvertersBuilder wildcard() {
 			converters.add(new InputStreamMessageConverter());
 			converters.add(new ByteArrayMessageConverter());
+			changed();
 			return this;
 		}
 
 		public HttpMessageConvertersBuilder wildcard(int bufferSize) {
 			converters.add(new InputStreamMessageConverter(bufferSize));
 			converters.add(new ByteArrayMessageConverter(bufferSize));
+			changed();
 			return this;
 		}
 
@@ -298,6 +383,7 @@ public class RestifyProxyBuilder {
 			converters.add(new OctetInputStreamMessageConverter());
 			converters.add(new OctetByteArrayMessageConverter());
 			converters.add(new OctetSerializableMessageConverter<>());
+			changed();
 			return this;
 		}
 
@@ -305,16 +391,19 @@ public class RestifyProxyBuilder {
 			converters.add(new OctetInputStreamMessageConverter(bufferSize));
 			converters.add(new OctetByteArrayMessageConverter(bufferSize));
 			converters.add(new OctetSerializableMessageConverter<>());
+			changed();
 			return this;
 		}
 
 		public HttpMessageConvertersBuilder json() {
 			converters.add(JsonMessageConverter.available());
+			changed();
 			return this;
 		}
 
 		public HttpMessageConvertersBuilder xml() {
 			converters.add(new JaxbXmlMessageConverter<Object>());
+			changed();
 			return this;
 		}
 
@@ -322,6 +411,7 @@ public class RestifyProxyBuilder {
 			converters.add(new TextPlainMessageConverter());
 			converters.add(new TextHtmlMessageConverter());
 			converters.add(new ScalarMessageConverter());
+			changed();
 			return this;
 		}
 
@@ -333,6 +423,7 @@ public class RestifyProxyBuilder {
 			converters.add(new MultipartFormObjectMessageWriter());
 			converters.add(new MultipartFormFileObjectMessageWriter());
 			converters.add(new MultipartFormMapMessageWriter());
+			changed();
 			return this;
 		}
 
@@ -342,6 +433,7 @@ public class RestifyProxyBuilder {
 
 		public HttpMessageConvertersBuilder add(HttpMessageConverter...converters) {
 			this.converters.addAll(Arrays.asList(converters));
+			changed();
 			return this;
 		}
 
@@ -365,46 +457,55 @@ public class RestifyProxyBuilder {
 
 		public EndpointRequestInterceptorsBuilder authentication(Authentication authentication) {
 			interceptors.add(new AuthenticationEndpoinRequestInterceptor(authentication));
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder accept(String... contentTypes) {
 			interceptors.add(new AcceptHeaderEndpointRequestInterceptor(contentTypes));
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder accept(ContentType... contentTypes) {
 			interceptors.add(new AcceptHeaderEndpointRequestInterceptor(contentTypes));
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder contentType(String contentType) {
 			interceptors.add(new ContentTypeHeaderEndpointRequestInterceptor(contentType));
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder contentType(ContentType contentType) {
 			interceptors.add(new ContentTypeHeaderEndpointRequestInterceptor(contentType));
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder acceptVersion() {
 			interceptors.add(new AcceptVersionHeaderEndpointRequestInterceptor());
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder acceptVersion(String version) {
 			interceptors.add(new AcceptVersionHeaderEndpointRequestInterceptor(EndpointVersion.of(version)));
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder acceptVersion(EndpointVersion version) {
 			interceptors.add(new AcceptVersionHeaderEndpointRequestInterceptor(version));
+			changed();
 			return this;
 		}
 
 		public EndpointRequestInterceptorsBuilder add(EndpointRequestInterceptor...interceptors) {
 			this.interceptors.addAll(Arrays.asList(interceptors));
+			changed();
 			return this;
 		}
 
@@ -441,26 +542,31 @@ public class RestifyProxyBuilder {
 
 		public EndpointCallExecutablesBuilder async() {
 			async.all();
+			changed();
 			return this;
 		}
 
 		public EndpointCallExecutablesBuilder async(Executor executor) {
 			async.with(executor);
+			changed();
 			return this;
 		}
 
 		public EndpointCallExecutablesBuilder async(ExecutorService executorService) {
 			async.with(executorService);
+			changed();
 			return this;
 		}
 
 		public EndpointCallExecutablesBuilder add(EndpointCallExecutableProvider endpointCallExecutableProvider) {
 			providers.add(endpointCallExecutableProvider);
+			changed();
 			return this;
 		}
 
 		public EndpointCallExecutablesBuilder add(EndpointCallExecutableProvider...providers) {
 			this.providers.addAll(Arrays.asList(providers));
+			changed();
 			return this;
 		}
 
@@ -469,9 +575,10 @@ public class RestifyProxyBuilder {
 		}
 
 		private EndpointCallExecutables build() {
-			providers.addAll(built);
-			providers.addAll(async.build());
-			return new EndpointCallExecutables(providers);
+			Collection<EndpointCallExecutableProvider> all = new ArrayList<>(providers);
+			all.addAll(built);
+			all.addAll(async.build());
+			return new EndpointCallExecutables(all);
 		}
 	}
 
@@ -479,6 +586,8 @@ public class RestifyProxyBuilder {
 
 		private final Collection<EndpointCallExecutableProvider> providers = new ArrayList<>();
 
+		private Executor executor;
+
 		private AsyncEndpointCallExecutablesBuilder all() {
 			with(Executors.newCachedThreadPool());
 			return this;
@@ -492,6 +601,7 @@ public class RestifyProxyBuilder {
 		}
 
 		private AsyncEndpointCallExecutablesBuilder with(Executor executor) {
+			this.executor = executor;
 			providers.add(new CompletableFutureEndpointCallExecutableFactory<Object, Object>(executor));
 			providers.add(new CompletableFutureCallbackEndpointCallExecutableFactory<Object, Object>(executor));
 			providers.add(new AsyncEndpointCallExecutableFactory<Object, Object>(executor));
@@ -499,6 +609,10 @@ public class RestifyProxyBuilder {
 			return this;
 		}
 
+		private Executor executor() {
+			return executor == null ? all().executor : executor;
+		}
+
 		private Collection<EndpointCallExecutableProvider> build() {
 			return providers.isEmpty() ? all().build() : providers;
 		}
@@ -522,11 +636,13 @@ public class RestifyProxyBuilder {
 
 		public RestifyProxyBuilder emptyOnNotFound() {
 			this.emptyOnNotFound = true;
+			changed();
 			return context;
 		}
 
 		public RestifyProxyBuilder using(EndpointResponseErrorFallback fallback) {
 			this.fallback = fallback;
+			changed();
 			return context;
 		}
 
@@ -549,31 +665,37 @@ public class RestifyProxyBuilder {
 
 		public HttpClientRequestConfigurationBuilder connectionTimeout(int connectionTimeout) {
 			builder.connectionTimeout(connectionTimeout);
+			transportChanged();
 			return this;
 		}
 
 		public HttpClientRequestConfigurationBuilder connectionTimeout(Duration connectionTimeout) {
 			builder.connectionTimeout(connectionTimeout);
+			transportChanged();
 			return this;
 		}
 
 		public HttpClientRequestConfigurationBuilder readTimeout(int readTimeout) {
 			builder.readTimeout(readTimeout);
+			transportChanged();
 			return this;
 		}
 
 		public HttpClientRequestConfigurationBuilder readTimeout(Duration readTimeout) {
 			builder.readTimeout(readTimeout);
+			transportChanged();
 			return this;
 		}
 
 		public HttpClientRequestConfigurationBuilder charset(Charset charset) {
 			builder.charset(charset);
+			transportChanged();
 			return this;
 		}
 
 		public HttpClientRequestConfigurationBuilder proxy(Proxy proxy) {
 			builder.proxy(proxy);
+			transportChanged();
 			return this;
 		}
 
@@ -583,6 +705,7 @@ public class RestifyProxyBuilder {
 
 		public HttpClientRequestConfigurationBuilder followRedirects(boolean enabled) {
 			builder.followRedirects(enabled);
+			transportChanged();
 			return this;
 		}
 
@@ -592,6 +715,7 @@ public class RestifyProxyBuilder {
 
 		public HttpClientRequestConfigurationBuilder useCaches(boolean enabled) {
 			builder.useCaches(enabled);
+			transportChanged();
 			return this;
 		}
 
@@ -599,8 +723,19 @@ public class RestifyProxyBuilder {
 			return new HttpClientRequestSslConfigurationBuilder();
 		}
 
+		public HttpClientRequestKeepAliveConfigurationBuilder keepAlive() {
+			return new HttpClientRequestKeepAliveConfigurationBuilder();
+		}
+
+		public HttpClientRequestConfigurationBuilder keepAlive(boolean enabled) {
+			builder.keepAlive(enabled);
+			transportChanged();
+			return this;
+		}
+
 		public RestifyProxyBuilder using(HttpClientRequestConfiguration httpClientRequestConfiguration) {
 			this.httpClientRequestConfiguration = httpClientRequestConfiguration;
+			transportChanged();
 			return context;
 		}
 
@@ -616,11 +751,13 @@ public class RestifyProxyBuilder {
 
 			public HttpClientRequestConfigurationBuilder enabled() {
 				builder.followRedirects().enabled();
+				transportChanged();
 				return HttpClientRequestConfigurationBuilder.this;
 			}
 
 			public HttpClientRequestConfigurationBuilder disabled() {
 				builder.followRedirects().disabled();
+				transportChanged();
 				return HttpClientRequestConfigurationBuilder.this;
 			}
 		}
@@ -629,11 +766,13 @@ public class RestifyProxyBuilder {
 
 			public HttpClientRequestConfigurationBuilder enabled() {
 				builder.useCaches().enabled();
+				transportChanged();
 				return HttpClientRequestConfigurationBuilder.this;
 			}
 
 			public HttpClientRequestConfigurationBuilder disabled() {
 				builder.useCaches().disabled();
+				transportChanged();
 				return HttpClientRequestConfigurationBuilder.this;
 			}
 		}
@@ -642,11 +781,13 @@ public class RestifyProxyBuilder {
 
 			public HttpClientRequestConfigurationBuilder sslSocketFactory(SSLSocketFactory sslSocketFactory) {
 				builder.ssl().sslSocketFactory(sslSocketFactory);
+				transportChanged();
 				return HttpClientRequestConfigurationBuilder.this;
 			}
 
 			public HttpClientRequestConfigurationBuilder hostnameVerifier(HostnameVerifier hostnameVerifier) {
 				builder.ssl().hostnameVerifier(hostnameVerifier);
+				transportChanged();
 				return HttpClientRequestConfigurationBuilder.this;
 			}
 
@@ -654,5 +795,30 @@ public class RestifyProxyBuilder {
 				return context;
 			}
 		}
+
+		public class HttpClientRequestKeepAliveConfigurationBuilder {
+
+			public HttpClientRequestKeepAliveConfigurationBuilder enabled() {
+				builder.keepAlive().enabled();
+				transportChanged();
+				return this;
+			}
+
+			public HttpClientRequestConfigurationBuilder disabled() {
+				builder.keepAlive().disabled();
+				transportChanged();
+				return HttpClientRequestConfigurationBuilder.this;
+			}
+
+			public HttpClientRequestKeepAliveConfigurationBuilder drainLimit(int drainLimit) {
+				builder.keepAlive().drainLimit(drainLimit);
+				transportChanged();
+				return this;
+			}
+
+			public HttpClientRequestConfigurationBuilder and() {
+				return HttpClientRequestConfigurationBuilder.this;
+			}
+		}
 	}
 }
@@ -30,9 +30,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.github.ljtfreitas.restify.http.client.EndpointMethodExecutor;
-import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.client.EndpointMethodInvocationPlan;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
 import com.github.ljtfreitas.restify.http.contract.metadata.reflection.JavaDefaultMethodExecutor;
 
@@ -40,6 +42,7 @@ public class RestifyProxyHandler implements InvocationHandler {
 
 	private final EndpointType endpointType;
 	private final EndpointMethodExecutor endpointMethodExecutor;
+	private final ConcurrentMap<Method, EndpointMethodInvocationPlan> plans = new ConcurrentHashMap<>();
 
 	public RestifyProxyHandler(EndpointType endpointType, EndpointMethodExecutor endpointMethodExecutor) {
 		this.endpointType = endpointType;
@@ -48,14 +51,27 @@ public class RestifyProxyHandler implements InvocationHandler {
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-		Optional<EndpointMethod> endpointMethod = endpointType.find(method);
+		EndpointMethodInvocationPlan plan = plans.get(method);
 
-		return endpointMethod.isPresent() ? endpointMethodExecutor.execute(endpointMethod.get(), args)
+		if (plan == null) {
+			plan = planOf(method).orElse(null);
+		}
+
+		return plan != null ? plan.execute(args)
 				: method.isDefault() ?
 					executeProxyMethod(method, proxy, args)
 						: executeObjectMethod(method, proxy, args);
 	}
 
+	public Optional<EndpointMethodInvocationPlan> planOf(Method method) {
+		return endpointType.find(method)
+				.map(endpointMethod -> plans.computeIfAbsent(method, m -> endpointMethodExecutor.plan(endpointMethod)));
+	}
+
+	EndpointType endpointType() {
+		return endpointType;
+	}
+
 	private Object executeProxyMethod(Method method, Object proxy, Object[] args) {
 		try {
 			return JavaDefaultMethodExecutor.execute(method, proxy, args);
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.github.ljtfreitas.restify.http.client.EndpointMethodInvocationPlan;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.message.HttpMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.HttpMessageConverters;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.WarmableHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.contract.ContentType;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.reflection.JavaType;
+
+class RestifyProxyWarmup {
+
+	private static final Pattern ENDPOINT_HOST = Pattern.compile("^([a-zA-Z][a-zA-Z0-9+.-]*://[^/?#{}]+)(?:[/?#].*)?$");
+
+	private final int connections;
+	private final HttpClientRequestFactory httpClientRequestFactory;
+	private final HttpMessageConverters messageConverters;
+
+	RestifyProxyWarmup(int connections, HttpClientRequestFactory httpClientRequestFactory, HttpMessageConverters messageConverters) {
+		this.connections = connections;
+		this.httpClientRequestFactory = httpClientRequestFactory;
+		this.messageConverters = messageConverters;
+	}
+
+	void warmup(RestifyProxyHandler restifyProxyHandler) {
+		Collection<EndpointMethodInvocationPlan> plans = Arrays.stream(restifyProxyHandler.endpointType().javaType().getMethods())
+				.map(restifyProxyHandler::planOf)
+					.filter(Optional::isPresent)
+						.map(Optional::get)
+							.collect(Collectors.toList());
+
+		plans.forEach(this::converters);
+
+		if (connections > 0 && httpClientRequestFactory instanceof WarmableHttpClientRequestFactory) {
+			WarmableHttpClientRequestFactory warmable = (WarmableHttpClientRequestFactory) httpClientRequestFactory;
+
+			plans.stream()
+				.map(plan -> hostOf(plan.endpointMethod()))
+					.filter(Objects::nonNull)
+						.distinct()
+							.forEach(host -> warmable.warmup(host, connections));
+		}
+	}
+
+	private void converters(EndpointMethodInvocationPlan plan) {
+		EndpointMethod endpointMethod = plan.endpointMethod();
+
+		endpointMethod.parameters().ofBody().map(p -> p.javaType()).ifPresent(bodyType ->
+			header(endpointMethod, Headers.CONTENT_TYPE)
+				.flatMap(contentType -> messageConverters.writerOf(contentType, bodyType.classType()))
+					.ifPresent(writer -> prepare(writer, bodyType.unwrap())));
+
+		JavaType responseType = plan.responseType();
+
+		if (!responseType.voidType()) {
+			Type type = responseType.unwrap();
+
+			header(endpointMethod, Headers.ACCEPT).ifPresent(accept -> messageConverters.readerOf(accept, type));
+
+			messageConverters.readersOf(type).forEach(reader -> prepare(reader, type));
+		}
+	}
+
+	private Optional<ContentType> header(EndpointMethod endpointMethod, String name) {
+		return endpointMethod.headers().first(name)
+				.map(h -> h.value())
+					.filter(v -> !v.contains("{") && !v.contains(","))
+						.map(ContentType::of);
+	}
+
+	private void prepare(HttpMessageConverter converter, Type type) {
+		try {
+			converter.prepare(type);
+		} catch (RuntimeException e) {
+			// the same failure will be reported (if the type is used) on the first invocation
+		}
+	}
+
+	private URI hostOf(EndpointMethod endpointMethod) {
+		Matcher matcher = ENDPOINT_HOST.matcher(endpointMethod.path());
+
+		try {
+			return matcher.matches() ? new URI(matcher.group(1)) : null;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
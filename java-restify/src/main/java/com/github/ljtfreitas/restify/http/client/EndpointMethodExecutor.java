@@ -25,8 +25,11 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client;
 
-import com.github.ljtfreitas.restify.http.client.call.EndpointCall;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import com.github.ljtfreitas.restify.http.client.call.EndpointCallFactory;
+import com.github.ljtfreitas.restify.http.client.call.EndpointCallTemplate;
 import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutable;
 import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutables;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
@@ -35,6 +38,7 @@ public class EndpointMethodExecutor {
 
 	private final EndpointCallExecutables endpointCallExecutables;
 	private final EndpointCallFactory endpointCallFactory;
+	private final ConcurrentMap<EndpointMethod, EndpointMethodInvocationPlan> plans = new ConcurrentHashMap<>();
 
 	public EndpointMethodExecutor(EndpointCallExecutables endpointCallExecutables, EndpointCallFactory endpointCallFactory) {
 		this.endpointCallExecutables = endpointCallExecutables;
@@ -42,10 +46,20 @@ public class EndpointMethodExecutor {
 	}
 
 	public Object execute(EndpointMethod endpointMethod, Object[] args) {
+		EndpointMethodInvocationPlan plan = plans.get(endpointMethod);
+
+		if (plan == null) {
+			plan = plans.computeIfAbsent(endpointMethod, this::plan);
+		}
+
+		return plan.execute(args);
+	}
+
+	public EndpointMethodInvocationPlan plan(EndpointMethod endpointMethod) {
 		EndpointCallExecutable<Object, Object> executable = endpointCallExecutables.of(endpointMethod);
 
-		EndpointCall<Object> call = endpointCallFactory.createWith(endpointMethod, args, executable.returnType());
+		EndpointCallTemplate<Object> callTemplate = endpointCallFactory.templateOf(endpointMethod, executable.returnType());
 
-		return executable.execute(call, args);
+		return new EndpointMethodInvocationPlan(endpointMethod, executable, callTemplate);
 	}
 }
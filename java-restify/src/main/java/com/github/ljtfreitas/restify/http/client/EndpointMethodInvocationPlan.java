@@ -0,0 +1,80 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client;
+
+import com.github.ljtfreitas.restify.http.client.call.EndpointCall;
+import com.github.ljtfreitas.restify.http.client.call.EndpointCallTemplate;
+import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutable;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.reflection.JavaType;
+
+public class EndpointMethodInvocationPlan {
+
+	private final EndpointMethod endpointMethod;
+	private final EndpointCallExecutable<Object, Object> executable;
+	private final EndpointCallTemplate<Object> callTemplate;
+
+	public EndpointMethodInvocationPlan(EndpointMethod endpointMethod, EndpointCallExecutable<Object, Object> executable,
+			EndpointCallTemplate<Object> callTemplate) {
+		this.endpointMethod = endpointMethod;
+		this.executable = executable;
+		this.callTemplate = callTemplate;
+	}
+
+	public EndpointMethod endpointMethod() {
+		return endpointMethod;
+	}
+
+	public EndpointCallExecutable<Object, Object> executable() {
+		return executable;
+	}
+
+	public JavaType responseType() {
+		return callTemplate.request().responseType();
+	}
+
+	public Object execute(Object[] args) {
+		EndpointCall<Object> call = callTemplate.createWith(args);
+
+		return executable.execute(call, args);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+
+		report
+			.append("EndpointMethodInvocationPlan: [")
+				.append("Endpoint Method: ")
+					.append(endpointMethod)
+				.append(", ")
+				.append("Response Type: ")
+					.append(responseType())
+			.append("]");
+
+		return report.toString();
+	}
+}
@@ -58,7 +58,7 @@ public class Header {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(name, value);
+		return Objects.hash(name.toLowerCase(), value);
 	}
 
 	@Override
@@ -25,49 +25,86 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class Headers {
 
 	public static final String ACCEPT = "Accept";
+	public static final String ACCEPT_ENCODING = "Accept-Encoding";
+	public static final String AUTHORIZATION = "Authorization";
 	public static final String CONNECTION = "Connection";
+	public static final String CONTENT_ENCODING = "Content-Encoding";
 	public static final String CONTENT_LENGTH = "Content-Length";
 	public static final String CONTENT_TYPE = "Content-Type";
 	public static final String HOST = "Host";
 
-	private final Collection<Header> headers;
+	private static final HeaderName[] KNOWN_NAMES = {
+			new HeaderName(ACCEPT),
+			new HeaderName(ACCEPT_ENCODING),
+			new HeaderName(AUTHORIZATION),
+			new HeaderName(CONNECTION),
+			new HeaderName(CONTENT_ENCODING),
+			new HeaderName(CONTENT_LENGTH),
+			new HeaderName(CONTENT_TYPE),
+			new HeaderName(HOST)
+	};
+
+	private final List<Header> headers;
+	private final Map<HeaderName, List<Header>> index;
 
 	public Headers() {
-		this.headers = new LinkedHashSet<>();
+		this.headers = new ArrayList<>();
+		this.index = new HashMap<>();
 	}
 
 	public Headers(Header... headers) {
-		this.headers = new LinkedHashSet<>(Arrays.asList(headers));
+		this();
+		Arrays.stream(headers).forEach(this::add);
 	}
 
 	public Headers(Headers source) {
-		this.headers = new LinkedHashSet<>(source.headers);
+		this();
+		source.all().forEach(this::add);
 	}
 
 	public void add(Header header) {
-		headers.add(header);
+		List<Header> values = index.computeIfAbsent(nameOf(header.name()), n -> new ArrayList<>(1));
+
+		if (!values.contains(header)) {
+			values.add(header);
+			headers.add(header);
+		}
 	}
 
 	public void put(String name, String value) {
-		headers.add(new Header(name, value));
+		add(new Header(name, value));
 	}
 
 	public void put(String name, Collection<String> values) {
-		values.forEach(value -> headers.add(new Header(name, value)));
+		values.forEach(value -> add(new Header(name, value)));
 	}
 
 	public void replace(String name, String value) {
-		headers.removeIf(h -> h.name().equalsIgnoreCase(name));
-		headers.add(new Header(name, value));
+		List<Header> values = index.remove(nameOf(name));
+
+		if (values != null) {
+			Iterator<Header> iterator = headers.iterator();
+			while (iterator.hasNext()) {
+				if (values.contains(iterator.next())) {
+					iterator.remove();
+				}
+			}
+		}
+
+		add(new Header(name, value));
 	}
 
 	public Collection<Header> all() {
@@ -75,12 +112,57 @@ public class Headers {
 	}
 
 	public Optional<Header> get(String name) {
-		return headers.stream().filter(h -> h.name().equalsIgnoreCase(name))
-				.findFirst();
+		List<Header> values = index.get(nameOf(name));
+		return values == null || values.isEmpty() ? Optional.empty() : Optional.of(values.get(0));
+	}
+
+	public Collection<Header> getAll(String name) {
+		List<Header> values = index.get(nameOf(name));
+		return values == null ? Collections.emptyList() : Collections.unmodifiableCollection(values);
 	}
 
 	@Override
 	public String toString() {
 		return headers.toString();
 	}
+
+	private static HeaderName nameOf(String name) {
+		for (HeaderName known : KNOWN_NAMES) {
+			if (known.name == name) return known;
+		}
+		return new HeaderName(name);
+	}
+
+	private static class HeaderName {
+
+		private final String name;
+		private final int hash;
+
+		private HeaderName(String name) {
+			this.name = name;
+			this.hash = hashOf(name);
+		}
+
+		private static int hashOf(String name) {
+			int hash = 0;
+			for (int i = 0; i < name.length(); i++) {
+				hash = 31 * hash + Character.toLowerCase(name.charAt(i));
+			}
+			return hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof HeaderName) {
+				HeaderName that = (HeaderName) obj;
+				return this.hash == that.hash && this.name.equalsIgnoreCase(that.name);
+
+			} else return false;
+		}
+	}
 }
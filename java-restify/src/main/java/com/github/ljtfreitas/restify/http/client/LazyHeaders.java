@@ -0,0 +1,107 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class LazyHeaders extends Headers {
+
+	private final Function<String, ? extends Collection<String>> source;
+	private final Consumer<BiConsumer<String, String>> entries;
+
+	private boolean materialized = false;
+
+	public LazyHeaders(Function<String, ? extends Collection<String>> source, Consumer<BiConsumer<String, String>> entries) {
+		this.source = source;
+		this.entries = entries;
+	}
+
+	@Override
+	public void add(Header header) {
+		materialize();
+		super.add(header);
+	}
+
+	@Override
+	public void replace(String name, String value) {
+		materialize();
+		super.replace(name, value);
+	}
+
+	@Override
+	public Collection<Header> all() {
+		materialize();
+		return super.all();
+	}
+
+	@Override
+	public Optional<Header> get(String name) {
+		if (materialized) {
+			return super.get(name);
+
+		} else {
+			return valuesOf(name).stream()
+					.findFirst()
+						.map(value -> new Header(name, value));
+		}
+	}
+
+	@Override
+	public Collection<Header> getAll(String name) {
+		if (materialized) {
+			return super.getAll(name);
+
+		} else {
+			return valuesOf(name).stream()
+					.map(value -> new Header(name, value))
+						.collect(Collectors.toList());
+		}
+	}
+
+	private Collection<String> valuesOf(String name) {
+		Collection<String> values = source.apply(name);
+		return values == null ? Collections.emptyList() : values;
+	}
+
+	private void materialize() {
+		if (!materialized) {
+			materialized = true;
+			entries.accept((name, value) -> super.add(new Header(name, value)));
+		}
+	}
+
+	@Override
+	public String toString() {
+		materialize();
+		return super.toString();
+	}
+}
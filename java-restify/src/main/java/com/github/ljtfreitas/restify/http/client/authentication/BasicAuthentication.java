@@ -29,17 +29,14 @@ import java.util.Base64;
 
 public class BasicAuthentication implements Authentication {
 
-	private final String user;
-	private final String password;
+	private final String content;
 
 	public BasicAuthentication(String user, String password) {
-		this.user = user;
-		this.password = password;
+		this.content = "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes());
 	}
 
 	@Override
 	public String content() {
-		String content = user + ":" + password;
-		return "Basic " + Base64.getEncoder().encodeToString(content.getBytes());
+		return content;
 	}
 }
@@ -25,17 +25,30 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.call;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.github.ljtfreitas.restify.http.client.request.AsyncEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
 
 class DefaultEndpointCall<T> implements EndpointCall<T> {
 
 	private final EndpointRequest endpointRequest;
 	private final EndpointRequestExecutor endpointRequestExecutor;
+	private final Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor;
 
 	public DefaultEndpointCall(EndpointRequest endpointRequest, EndpointRequestExecutor endpointRequestExecutor) {
+		this(endpointRequest, endpointRequestExecutor, Optional.empty());
+	}
+
+	public DefaultEndpointCall(EndpointRequest endpointRequest, EndpointRequestExecutor endpointRequestExecutor,
+			Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor) {
 		this.endpointRequest = endpointRequest;
 		this.endpointRequestExecutor = endpointRequestExecutor;
+		this.asyncEndpointRequestExecutor = asyncEndpointRequestExecutor;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -44,6 +57,13 @@ class DefaultEndpointCall<T> implements EndpointCall<T> {
 		return (T) endpointRequestExecutor.execute(endpointRequest).body();
 	}
 
+	@Override
+	public CompletableFuture<T> executeAsync(Executor executor) {
+		return asyncEndpointRequestExecutor
+				.map(e -> e.<T> executeAsync(endpointRequest).thenApply(EndpointResponse::body))
+					.orElseGet(() -> EndpointCall.super.executeAsync(executor));
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder report = new StringBuilder();
@@ -25,8 +25,14 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.call;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface EndpointCall<T> {
 
 	public T execute();
 
+	public default CompletableFuture<T> executeAsync(Executor executor) {
+		return CompletableFuture.supplyAsync(this::execute, executor);
+	}
 }
@@ -26,10 +26,13 @@
 package com.github.ljtfreitas.restify.http.client.call;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.Optional;
 
+import com.github.ljtfreitas.restify.http.client.request.AsyncEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestTemplate;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 import com.github.ljtfreitas.restify.http.contract.metadata.reflection.JavaType;
@@ -38,17 +41,31 @@ public class EndpointCallFactory {
 
 	private final EndpointRequestFactory endpointRequestFactory;
 	private final EndpointRequestExecutor endpointRequestExecutor;
+	private final Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor;
 
 	public EndpointCallFactory(EndpointRequestFactory endpointRequestFactory,
 			EndpointRequestExecutor endpointRequestExecutor) {
+		this(endpointRequestFactory, endpointRequestExecutor, null);
+	}
+
+	public EndpointCallFactory(EndpointRequestFactory endpointRequestFactory,
+			EndpointRequestExecutor endpointRequestExecutor, AsyncEndpointRequestExecutor asyncEndpointRequestExecutor) {
 		this.endpointRequestFactory = endpointRequestFactory;
 		this.endpointRequestExecutor = endpointRequestExecutor;
+		this.asyncEndpointRequestExecutor = Optional.ofNullable(asyncEndpointRequestExecutor);
 	}
 
 	public <T> EndpointCall<T> createWith(EndpointMethod endpointMethod, Object[] args, JavaType returnType) {
 		return doCreate(endpointMethod, args, returnType);
 	}
 
+	public <T> EndpointCallTemplate<T> templateOf(EndpointMethod endpointMethod, JavaType returnType) {
+		EndpointRequestTemplate endpointRequestTemplate = endpointRequestFactory.templateOf(endpointMethod, rawTypeOf(returnType));
+
+		return new EndpointCallTemplate<>(endpointRequestTemplate, endpointRequestFactory, endpointRequestExecutor,
+				asyncEndpointRequestExecutor, returnType.is(EndpointResponse.class));
+	}
+
 	private <T> EndpointCall<T> doCreate(EndpointMethod endpointMethod, Object[] args, JavaType returnType) {
 		EndpointRequest endpointRequest = endpointRequestFactory.createWith(endpointMethod, args, rawTypeOf(returnType));
 
@@ -56,13 +73,13 @@ public class EndpointCallFactory {
 			return endpointResponseCall(endpointRequest);
 
 		} else {
-			return new DefaultEndpointCall<>(endpointRequest, endpointRequestExecutor);
+			return new DefaultEndpointCall<>(endpointRequest, endpointRequestExecutor, asyncEndpointRequestExecutor);
 		}
 	}
 
 	@SuppressWarnings("unchecked")
 	private <T> EndpointCall<T> endpointResponseCall(EndpointRequest endpointRequest) {
-		return (EndpointCall<T>) new EndpointResponseCall<>(endpointRequest, endpointRequestExecutor);
+		return (EndpointCall<T>) new EndpointResponseCall<>(endpointRequest, endpointRequestExecutor, asyncEndpointRequestExecutor);
 	}
 
 	private JavaType rawTypeOf(JavaType returnType) {
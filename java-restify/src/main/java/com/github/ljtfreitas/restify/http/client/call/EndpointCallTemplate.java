@@ -0,0 +1,78 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.call;
+
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.request.AsyncEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestTemplate;
+
+public class EndpointCallTemplate<T> {
+
+	private final EndpointRequestTemplate endpointRequestTemplate;
+	private final EndpointRequestFactory endpointRequestFactory;
+	private final EndpointRequestExecutor endpointRequestExecutor;
+	private final Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor;
+	private final boolean endpointResponse;
+
+	EndpointCallTemplate(EndpointRequestTemplate endpointRequestTemplate, EndpointRequestFactory endpointRequestFactory,
+			EndpointRequestExecutor endpointRequestExecutor, Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor,
+			boolean endpointResponse) {
+		this.endpointRequestTemplate = endpointRequestTemplate;
+		this.endpointRequestFactory = endpointRequestFactory;
+		this.endpointRequestExecutor = endpointRequestExecutor;
+		this.asyncEndpointRequestExecutor = asyncEndpointRequestExecutor;
+		this.endpointResponse = endpointResponse;
+	}
+
+	public EndpointRequestTemplate request() {
+		return endpointRequestTemplate;
+	}
+
+	@SuppressWarnings("unchecked")
+	public EndpointCall<T> createWith(Object[] args) {
+		EndpointRequest endpointRequest = endpointRequestFactory.createWith(endpointRequestTemplate, args);
+
+		return endpointResponse ? (EndpointCall<T>) new EndpointResponseCall<>(endpointRequest, endpointRequestExecutor, asyncEndpointRequestExecutor)
+				: new DefaultEndpointCall<>(endpointRequest, endpointRequestExecutor, asyncEndpointRequestExecutor);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+
+		report
+			.append("EndpointCallTemplate: [")
+				.append("Request: ")
+					.append(endpointRequestTemplate)
+			.append("]");
+
+		return report.toString();
+	}
+}
@@ -25,6 +25,12 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.call;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.github.ljtfreitas.restify.http.client.request.AsyncEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
@@ -34,10 +40,17 @@ class EndpointResponseCall<T> implements EndpointCall<EndpointResponse<T>> {
 
 	private final EndpointRequest endpointRequest;
 	private final EndpointRequestExecutor endpointRequestExecutor;
+	private final Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor;
 
 	public EndpointResponseCall(EndpointRequest endpointRequest, EndpointRequestExecutor endpointRequestExecutor) {
+		this(endpointRequest, endpointRequestExecutor, Optional.empty());
+	}
+
+	public EndpointResponseCall(EndpointRequest endpointRequest, EndpointRequestExecutor endpointRequestExecutor,
+			Optional<AsyncEndpointRequestExecutor> asyncEndpointRequestExecutor) {
 		this.endpointRequest = endpointRequest;
 		this.endpointRequestExecutor = endpointRequestExecutor;
+		this.asyncEndpointRequestExecutor = asyncEndpointRequestExecutor;
 	}
 
 	@Override
@@ -48,4 +61,22 @@ class EndpointResponseCall<T> implements EndpointCall<EndpointResponse<T>> {
 			return EndpointResponse.error(e);
 		}
 	}
+
+	@Override
+	public CompletableFuture<EndpointResponse<T>> executeAsync(Executor executor) {
+		return asyncEndpointRequestExecutor
+				.map(e -> e.<T> executeAsync(endpointRequest).exceptionally(this::errorOf))
+					.orElseGet(() -> EndpointCall.super.executeAsync(executor));
+	}
+
+	private EndpointResponse<T> errorOf(Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+		if (cause instanceof RestifyEndpointResponseException) {
+			return EndpointResponse.error((RestifyEndpointResponseException) cause);
+
+		} else {
+			throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+		}
+	}
 }
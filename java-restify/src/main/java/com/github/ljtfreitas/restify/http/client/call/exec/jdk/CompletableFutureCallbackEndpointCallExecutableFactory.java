@@ -97,7 +97,7 @@ public class CompletableFutureCallbackEndpointCallExecutableFactory<T, O> implem
 		public Void execute(EndpointCall<O> call, Object[] args) {
 			BiConsumer<? super T, ? super Throwable> callback = callbackParameter(args);
 
-			CompletableFuture.supplyAsync(() -> delegate.execute(call, args), executor).whenComplete(callback);
+			call.executeAsync(executor).thenApply(o -> delegate.execute(() -> o, args)).whenComplete(callback);
 
 			return null;
 		}
@@ -85,7 +85,7 @@ public class CompletableFutureEndpointCallExecutableFactory<T, O> implements End
 
 		@Override
 		public CompletableFuture<T> execute(EndpointCall<O> call, Object[] args) {
-			return CompletableFuture.supplyAsync(() -> delegate.execute(call, args), executor);
+			return call.executeAsync(executor).thenApply(o -> delegate.execute(() -> o, args));
 		}
 	}
 }
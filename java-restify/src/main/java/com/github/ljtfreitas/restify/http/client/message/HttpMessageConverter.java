@@ -25,8 +25,15 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.message;
 
+import java.lang.reflect.Type;
+
 public interface HttpMessageConverter {
 
 	public String contentType();
 
+	/**
+	 * Builds ahead of time whatever is lazily created to read or write the type (e.g. JAXB contexts).
+	 */
+	public default void prepare(Type type) {
+	}
 }
@@ -28,45 +28,148 @@ package com.github.ljtfreitas.restify.http.client.message;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import com.github.ljtfreitas.restify.http.contract.ContentType;
 
 public class HttpMessageConverters {
 
-	private final Collection<HttpMessageConverter> converters;
+	private static final int DEFAULT_CACHE_SIZE = 256;
+
+	private final int cacheSize;
+
+	private volatile HttpMessageConverterTable table;
 
 	public HttpMessageConverters(Collection<HttpMessageConverter> converters) {
-		this.converters = new ArrayList<>(converters);
+		this(converters, DEFAULT_CACHE_SIZE);
+	}
+
+	public HttpMessageConverters(Collection<HttpMessageConverter> converters, int cacheSize) {
+		this.cacheSize = cacheSize;
+		this.table = new HttpMessageConverterTable(converters.stream()
+				.map(HttpMessageConverterEntry::new)
+					.collect(Collectors.toList()));
+	}
+
+	public synchronized HttpMessageConverters add(HttpMessageConverter converter) {
+		List<HttpMessageConverterEntry> converters = new ArrayList<>(table.converters);
+		converters.add(new HttpMessageConverterEntry(converter));
+
+		table = new HttpMessageConverterTable(converters);
+
+		return this;
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T> Optional<HttpMessageReader<T>> readerOf(ContentType contentType, Type type) {
-		return converters.stream()
-				.filter(c -> c instanceof HttpMessageReader)
-					.map(c -> (HttpMessageReader<T>) c)
-						.filter(c -> contentType.compatible(c.contentType()) && c.canRead(type))
-							.map(c -> ((HttpMessageReader<T>) c))
+		HttpMessageConverterKey key = new HttpMessageConverterKey(contentType, type);
+
+		HttpMessageConverterTable table = this.table;
+
+		Optional<HttpMessageReader<?>> reader = table.readers.get(key);
+
+		if (reader == null) {
+			reader = table.converters.stream()
+					.filter(e -> e.converter instanceof HttpMessageReader && contentType.compatible(e.contentType))
+						.<HttpMessageReader<?>> map(e -> (HttpMessageReader<?>) e.converter)
+							.filter(c -> c.canRead(type))
 								.findFirst();
+
+			cache(table.readers, key, reader);
+		}
+
+		return reader.map(c -> (HttpMessageReader<T>) c);
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T> Collection<HttpMessageReader<T>> readersOf(Type type) {
-		return converters.stream()
-				.filter(c -> c instanceof HttpMessageReader)
-					.map(c -> (HttpMessageReader<T>) c)
+		return table.converters.stream()
+				.filter(e -> e.converter instanceof HttpMessageReader)
+					.map(e -> (HttpMessageReader<T>) e.converter)
 						.filter(c -> c.canRead(type))
 							.collect(Collectors.toList());
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T> Optional<HttpMessageWriter<T>> writerOf(ContentType contentType, Class<?> type) {
-		return converters.stream()
-				.filter(c -> c instanceof HttpMessageWriter)
-					.map(c -> (HttpMessageWriter<T>) c)
-						.filter(c -> contentType.compatible(c.contentType()) && c.canWrite(type))
-							.map(c -> (HttpMessageWriter<T>) c)
+		HttpMessageConverterKey key = new HttpMessageConverterKey(contentType, type);
+
+		HttpMessageConverterTable table = this.table;
+
+		Optional<HttpMessageWriter<?>> writer = table.writers.get(key);
+
+		if (writer == null) {
+			writer = table.converters.stream()
+					.filter(e -> e.converter instanceof HttpMessageWriter && contentType.compatible(e.contentType))
+						.<HttpMessageWriter<?>> map(e -> (HttpMessageWriter<?>) e.converter)
+							.filter(c -> c.canWrite(type))
 								.findFirst();
+
+			cache(table.writers, key, writer);
+		}
+
+		return writer.map(c -> (HttpMessageWriter<T>) c);
+	}
+
+	private <T> void cache(ConcurrentMap<HttpMessageConverterKey, T> cache, HttpMessageConverterKey key, T value) {
+		if (cache.size() < cacheSize) {
+			cache.putIfAbsent(key, value);
+		}
+	}
+
+	private static class HttpMessageConverterTable {
+
+		private final List<HttpMessageConverterEntry> converters;
+
+		private final ConcurrentMap<HttpMessageConverterKey, Optional<HttpMessageReader<?>>> readers = new ConcurrentHashMap<>();
+		private final ConcurrentMap<HttpMessageConverterKey, Optional<HttpMessageWriter<?>>> writers = new ConcurrentHashMap<>();
+
+		private HttpMessageConverterTable(List<HttpMessageConverterEntry> converters) {
+			this.converters = Collections.unmodifiableList(converters);
+		}
+	}
+
+	private static class HttpMessageConverterEntry {
+
+		private final HttpMessageConverter converter;
+		private final ContentType contentType;
+
+		private HttpMessageConverterEntry(HttpMessageConverter converter) {
+			this.converter = converter;
+			this.contentType = ContentType.of(converter.contentType());
+		}
+	}
+
+	private static class HttpMessageConverterKey {
+
+		private final ContentType contentType;
+		private final Type type;
+
+		private HttpMessageConverterKey(ContentType contentType, Type type) {
+			this.contentType = contentType;
+			this.type = type;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(contentType, type);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof HttpMessageConverterKey) {
+				HttpMessageConverterKey that = (HttpMessageConverterKey) obj;
+
+				return contentType.equals(that.contentType)
+					&& type.equals(that.type);
+
+			} else return false;
+		}
 	}
 }
@@ -28,10 +28,15 @@ package com.github.ljtfreitas.restify.http.client.message.converter.json;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.github.ljtfreitas.restify.http.client.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.request.RestifyHttpMessageWriteException;
@@ -42,10 +47,17 @@ public class JacksonMessageConverter<T> extends JsonMessageConverter<T> {
 
 	private final ObjectMapper objectMapper;
 
+	private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
 	public JacksonMessageConverter() {
 		this(new ObjectMapper());
 	}
 
+	/**
+	 * Readers and writers are cached per type and keep the configuration the mapper had when they were created; configure
+	 * the mapper (features, modules) before the converter is used.
+	 */
 	public JacksonMessageConverter(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
 	}
@@ -59,9 +71,7 @@ public class JacksonMessageConverter<T> extends JsonMessageConverter<T> {
 	@Override
 	public T read(HttpResponseMessage httpResponseMessage, Type expectedType) throws RestifyHttpMessageReadException {
 		try {
-			TypeFactory typeFactory = objectMapper.getTypeFactory();
-
-			return objectMapper.readValue(httpResponseMessage.body(), typeFactory.constructType(expectedType));
+			return readerOf(expectedType).readValue(httpResponseMessage.body());
 
 		} catch (IOException e) {
 			throw new RestifyHttpMessageReadException(e);
@@ -83,12 +93,28 @@ public class JacksonMessageConverter<T> extends JsonMessageConverter<T> {
 
 			JsonGenerator generator = objectMapper.getFactory().createGenerator(httpRequestMessage.output(), encoding);
 
-			objectMapper.writeValue(generator, body);
+			writerOf(body.getClass()).writeValue(generator, body);
 			generator.flush();
 
 		} catch (IOException e) {
 			throw new RestifyHttpMessageWriteException(e);
 		}
+	}
+
+	@Override
+	public void prepare(Type type) {
+		readerOf(type);
+
+		if (type instanceof Class) {
+			writerOf((Class<?>) type);
+		}
+	}
+
+	private ObjectReader readerOf(Type type) {
+		return readers.computeIfAbsent(objectMapper.getTypeFactory().constructType(type), objectMapper::reader);
+	}
 
+	private ObjectWriter writerOf(Class<?> type) {
+		return writers.computeIfAbsent(type, objectMapper::writerWithType);
 	}
 }
@@ -88,6 +88,13 @@ public class JaxbXmlMessageConverter<T> implements HttpMessageReader<T>, HttpMes
 		}
 	}
 
+	@Override
+	public void prepare(Type type) {
+		if (canRead(type)) {
+			contextOf((Class<?>) type);
+		}
+	}
+
 	private JAXBContext contextOf(Class<?> type) {
 		return contexts.compute(type, (k, v) -> v == null ? newContextOf(k) : v);
 	}
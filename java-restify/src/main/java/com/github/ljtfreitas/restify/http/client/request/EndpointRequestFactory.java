@@ -25,14 +25,7 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request;
 
-import java.net.URI;
-import java.net.URISyntaxException;
-
-import com.github.ljtfreitas.restify.http.RestifyHttpException;
-import com.github.ljtfreitas.restify.http.client.Header;
-import com.github.ljtfreitas.restify.http.client.Headers;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointRequestInterceptorStack;
-import com.github.ljtfreitas.restify.http.contract.metadata.EndpointHeaderParameterResolver;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 import com.github.ljtfreitas.restify.http.contract.metadata.reflection.JavaType;
 
@@ -45,32 +38,18 @@ public class EndpointRequestFactory {
 	}
 
 	public EndpointRequest createWith(EndpointMethod endpointMethod, Object[] args) {
-		return interceptors.apply(newRequest(endpointMethod, args, endpointMethod.returnType()));
+		return createWith(templateOf(endpointMethod, endpointMethod.returnType()), args);
 	}
 
 	public EndpointRequest createWith(EndpointMethod endpointMethod, Object[] args, JavaType responseType) {
-		return interceptors.apply(newRequest(endpointMethod, args, responseType));
+		return createWith(templateOf(endpointMethod, responseType), args);
 	}
 
-	private EndpointRequest newRequest(EndpointMethod endpointMethod, Object[] args, JavaType responseType) {
-		try {
-			URI endpoint = new URI(endpointMethod.expand(args));
-
-			Object body = endpointMethod.parameters()
-					.ofBody()
-						.map(p -> args[p.position()]).orElse(null);
-
-			Headers headers = new Headers();
-			endpointMethod.headers().all().stream()
-				.forEach(h -> headers.add(new Header(h.name(), new EndpointHeaderParameterResolver(h.value(), endpointMethod.parameters())
-						.resolve(args))));
-
-			EndpointVersion version = endpointMethod.version().map(EndpointVersion::of).orElse(null);
-
-			return new EndpointRequest(endpoint, endpointMethod.httpMethod(), headers, body, responseType, version);
+	public EndpointRequest createWith(EndpointRequestTemplate template, Object[] args) {
+		return template.createWith(args);
+	}
 
-		} catch (URISyntaxException e) {
-			throw new RestifyHttpException(e);
-		}
+	public EndpointRequestTemplate templateOf(EndpointMethod endpointMethod, JavaType responseType) {
+		return new EndpointRequestTemplate(endpointMethod, responseType, interceptors.compile(endpointMethod));
 	}
 }
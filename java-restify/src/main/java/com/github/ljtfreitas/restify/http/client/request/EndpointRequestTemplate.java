@@ -0,0 +1,129 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Header;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointRequestInterceptorChain;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointHeader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointHeaderParameterResolver;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointUriTemplate;
+import com.github.ljtfreitas.restify.http.contract.metadata.reflection.JavaType;
+
+public class EndpointRequestTemplate {
+
+	private final EndpointMethod endpointMethod;
+	private final JavaType responseType;
+	private final EndpointUriTemplate uriTemplate;
+	private final Collection<EndpointHeaderTemplate> headers;
+	private final int bodyPosition;
+	private final EndpointVersion version;
+	private final EndpointRequestInterceptorChain interceptors;
+
+	public EndpointRequestTemplate(EndpointMethod endpointMethod) {
+		this(endpointMethod, endpointMethod.returnType());
+	}
+
+	public EndpointRequestTemplate(EndpointMethod endpointMethod, JavaType responseType) {
+		this(endpointMethod, responseType, EndpointRequestInterceptorChain.empty());
+	}
+
+	public EndpointRequestTemplate(EndpointMethod endpointMethod, JavaType responseType,
+			EndpointRequestInterceptorChain interceptors) {
+		this.endpointMethod = endpointMethod;
+		this.responseType = responseType;
+		this.uriTemplate = new EndpointUriTemplate(endpointMethod.path(), endpointMethod.parameters());
+		this.headers = endpointMethod.headers().all().stream()
+				.map(h -> new EndpointHeaderTemplate(h, endpointMethod))
+					.collect(Collectors.toList());
+		this.bodyPosition = endpointMethod.parameters().ofBody().map(EndpointMethodParameter::position).orElse(-1);
+		this.version = endpointMethod.version().map(EndpointVersion::of).orElse(null);
+		this.interceptors = interceptors;
+	}
+
+	public EndpointMethod endpointMethod() {
+		return endpointMethod;
+	}
+
+	public JavaType responseType() {
+		return responseType;
+	}
+
+	public EndpointRequest createWith(Object[] args) {
+		try {
+			URI endpoint = uriTemplate.toURI(args);
+
+			Object body = bodyPosition >= 0 ? args[bodyPosition] : null;
+
+			Headers headers = new Headers();
+			this.headers.forEach(h -> headers.add(h.resolve(args)));
+
+			return interceptors.apply(new EndpointRequest(endpoint, endpointMethod.httpMethod(), headers, body, responseType, version));
+
+		} catch (URISyntaxException e) {
+			throw new RestifyHttpException(e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+
+		report
+			.append("EndpointRequestTemplate: [")
+				.append("Endpoint Method: ")
+					.append(endpointMethod)
+				.append(", ")
+				.append("Response Type: ")
+					.append(responseType)
+			.append("]");
+
+		return report.toString();
+	}
+
+	private class EndpointHeaderTemplate {
+
+		private final String name;
+		private final EndpointHeaderParameterResolver resolver;
+
+		private EndpointHeaderTemplate(EndpointHeader header, EndpointMethod endpointMethod) {
+			this.name = header.name();
+			this.resolver = new EndpointHeaderParameterResolver(header.value(), endpointMethod.parameters());
+		}
+
+		private Header resolve(Object[] args) {
+			return new Header(name, resolver.resolve(args));
+		}
+	}
+}
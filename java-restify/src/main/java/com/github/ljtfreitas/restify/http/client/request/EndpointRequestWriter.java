@@ -28,6 +28,7 @@ package com.github.ljtfreitas.restify.http.client.request;
 import static com.github.ljtfreitas.restify.http.client.Headers.CONTENT_TYPE;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 import com.github.ljtfreitas.restify.http.client.Header;
 import com.github.ljtfreitas.restify.http.client.message.HttpMessageConverters;
@@ -61,7 +62,20 @@ public class EndpointRequestWriter {
 			httpRequestMessage.output().close();
 
 		} catch (IOException e) {
+			abort(httpRequestMessage, e);
 			throw new RestifyHttpMessageWriteException("Error on write HTTP body of type [" + contentType + "].", e);
+
+		} catch (RuntimeException e) {
+			abort(httpRequestMessage, e);
+			throw e;
+		}
+	}
+
+	private void abort(HttpRequestMessage httpRequestMessage, Throwable cause) {
+		OutputStream output = httpRequestMessage.output();
+
+		if (output instanceof Abortable) {
+			((Abortable) output).abort(cause);
 		}
 	}
 
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class PipedRequestBody {
+
+	private static final int DEFAULT_CHUNKS = 4;
+
+	private static final byte[] END = new byte[0];
+
+	private final BlockingQueue<byte[]> chunks;
+	private final int chunkSize;
+
+	private final PipedRequestBodyOutputStream output;
+	private final PipedRequestBodyInputStream input;
+
+	private volatile Throwable failure = null;
+	private volatile boolean closed = false;
+
+	public PipedRequestBody(int chunkSize) {
+		this(chunkSize, DEFAULT_CHUNKS);
+	}
+
+	public PipedRequestBody(int chunkSize, int chunks) {
+		isTrue(chunkSize > 0, "Chunk size must be positive.");
+		isTrue(chunks > 0, "Chunks must be positive.");
+		this.chunkSize = chunkSize;
+		this.chunks = new ArrayBlockingQueue<>(chunks);
+		this.output = new PipedRequestBodyOutputStream();
+		this.input = new PipedRequestBodyInputStream();
+	}
+
+	public OutputStream output() {
+		return output;
+	}
+
+	public InputStream input() {
+		return input;
+	}
+
+	private class PipedRequestBodyOutputStream extends OutputStream implements Abortable {
+
+		private final byte[] buffer = new byte[chunkSize];
+		private int count = 0;
+		private boolean finished = false;
+
+		@Override
+		public void write(int b) throws IOException {
+			if (count == buffer.length) {
+				flush();
+			}
+			buffer[count++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				if (count == buffer.length) {
+					flush();
+				}
+
+				int size = Math.min(len, buffer.length - count);
+
+				System.arraycopy(b, off, buffer, count, size);
+
+				count += size;
+				off += size;
+				len -= size;
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (count > 0) {
+				put(Arrays.copyOf(buffer, count));
+				count = 0;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!finished) {
+				flush();
+				put(END);
+				finished = true;
+			}
+		}
+
+		@Override
+		public void abort(Throwable cause) {
+			failure = cause;
+			finished = true;
+			chunks.clear();
+			chunks.offer(END);
+		}
+
+		private void put(byte[] chunk) throws IOException {
+			try {
+				while (!chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+					if (closed) {
+						throw new IOException("The request body is no longer being read.");
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while writing the request body.");
+			}
+		}
+	}
+
+	private class PipedRequestBodyInputStream extends InputStream {
+
+		private byte[] chunk = null;
+		private int position = 0;
+
+		@Override
+		public int read() throws IOException {
+			return next() ? chunk[position++] & 0xff : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+
+			if (!next()) {
+				return -1;
+			}
+
+			int size = Math.min(len, chunk.length - position);
+
+			System.arraycopy(chunk, position, b, off, size);
+			position += size;
+
+			return size;
+		}
+
+		private boolean next() throws IOException {
+			if (chunk == END) {
+				return false;
+			}
+
+			if (chunk == null || position == chunk.length) {
+				try {
+					chunk = chunks.take();
+					position = 0;
+
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while reading the request body.");
+				}
+			}
+
+			if (chunk == END) {
+				if (failure != null) {
+					throw new IOException("The request body was aborted.", failure);
+				}
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+			chunks.clear();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponseReader;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+public class RestifyAsyncEndpointRequestExecutor implements AsyncEndpointRequestExecutor {
+
+	private final AsyncHttpClientRequestFactory httpClientRequestFactory;
+	private final EndpointRequestWriter endpointRequestWriter;
+	private final EndpointResponseReader endpointResponseReader;
+	private final Executor executor;
+
+	public RestifyAsyncEndpointRequestExecutor(AsyncHttpClientRequestFactory httpClientRequestFactory,
+			EndpointRequestWriter endpointRequestWriter, EndpointResponseReader endpointResponseReader, Executor executor) {
+		this.httpClientRequestFactory = httpClientRequestFactory;
+		this.endpointRequestWriter = endpointRequestWriter;
+		this.endpointResponseReader = endpointResponseReader;
+		this.executor = nonNull(executor, "Executor used to read the responses cannot be null.");
+	}
+
+	@Override
+	public <T> CompletableFuture<EndpointResponse<T>> executeAsync(EndpointRequest endpointRequest) {
+		try {
+			return doExecute(endpointRequest)
+					.thenApplyAsync(response -> responseOf(response, endpointRequest), executor);
+
+		} catch (RuntimeException e) {
+			CompletableFuture<EndpointResponse<T>> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+	}
+
+	private CompletableFuture<HttpResponseMessage> doExecute(EndpointRequest endpointRequest) {
+		AsyncHttpClientRequest httpClientRequest = httpClientRequestFactory.createOf(endpointRequest);
+
+		endpointRequest.body().ifPresent(b -> endpointRequestWriter.write(endpointRequest, httpClientRequest));
+
+		return httpClientRequest.executeAsync();
+	}
+
+	private <T> EndpointResponse<T> responseOf(HttpResponseMessage response, EndpointRequest endpointRequest) {
+		try (HttpResponseMessage r = response) {
+			return endpointResponseReader.read(r, endpointRequest.responseType());
+
+		} catch (RestifyHttpException e) {
+			throw e;
+
+		} catch (IOException e) {
+			throw new RestifyHttpException("I/O error on HTTP request: [" + endpointRequest.method() + " " +
+					endpointRequest.endpoint() + "]", e);
+
+		} catch (Exception e) {
+			throw new RestifyHttpException("Error on HTTP request: [" + endpointRequest.method() + " " +
+					endpointRequest.endpoint() + "]", e);
+		}
+	}
+}
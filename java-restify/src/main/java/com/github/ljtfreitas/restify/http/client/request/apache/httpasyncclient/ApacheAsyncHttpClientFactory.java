@@ -0,0 +1,131 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpasyncclient;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.EndpointAddressDnsResolver;
+
+class ApacheAsyncHttpClientFactory {
+
+	private final ApacheAsyncHttpClientRequestConfiguration configuration;
+
+	private PoolingNHttpClientConnectionManager connectionManager;
+
+	public ApacheAsyncHttpClientFactory(ApacheAsyncHttpClientRequestConfiguration configuration) {
+		this.configuration = configuration;
+	}
+
+	public CloseableHttpAsyncClient create() {
+		HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+				.useSystemProperties()
+				.setConnectionManager(connectionManager())
+				.setDefaultRequestConfig(requestConfig());
+
+		builder.setKeepAliveStrategy(configuration.keepAlive()
+				.<ConnectionKeepAliveStrategy> map(keepAlive -> (response, context) -> keepAlive)
+					.orElse(DefaultConnectionKeepAliveStrategy.INSTANCE));
+
+		return builder.build();
+	}
+
+	public RequestConfig requestConfig() {
+		return RequestConfig.custom()
+				.setAuthenticationEnabled(true)
+				.setConnectTimeout(configuration.connectionTimeout())
+				.setConnectionRequestTimeout(configuration.connectionRequestTimeout())
+				.setSocketTimeout(configuration.readTimeout())
+					.build();
+	}
+
+	public PoolingNHttpClientConnectionManager connectionManager() {
+		if (connectionManager == null) {
+			connectionManager = newConnectionManager();
+		}
+		return connectionManager;
+	}
+
+	private PoolingNHttpClientConnectionManager newConnectionManager() {
+		DnsResolver dnsResolver = configuration.resolver()
+				.<DnsResolver> map(EndpointAddressDnsResolver::new)
+					.orElse(null);
+
+		PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(ioReactor(), null,
+				registry(), null, dnsResolver, configuration.timeToLive(), TimeUnit.MILLISECONDS);
+
+		connectionManager.setMaxTotal(configuration.maxConnections());
+		connectionManager.setDefaultMaxPerRoute(configuration.maxConnectionsPerRoute());
+
+		configuration.routes().forEach((host, max) -> connectionManager.setMaxPerRoute(routeOf(host), max));
+
+		return connectionManager;
+	}
+
+	private DefaultConnectingIOReactor ioReactor() {
+		IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+				.setIoThreadCount(configuration.ioThreads())
+				.setConnectTimeout(configuration.connectionTimeout())
+				.setSoTimeout(configuration.readTimeout())
+					.build();
+
+		try {
+			return new DefaultConnectingIOReactor(ioReactorConfig);
+		} catch (IOReactorException e) {
+			throw new RestifyHttpException("Cannot create the I/O reactor of the Apache HttpAsyncClient", e);
+		}
+	}
+
+	private HttpRoute routeOf(HttpHost host) {
+		return new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName()));
+	}
+
+	private Registry<SchemeIOSessionStrategy> registry() {
+		return RegistryBuilder.<SchemeIOSessionStrategy> create()
+				.register("http", NoopIOSessionStrategy.INSTANCE)
+				.register("https", SSLIOSessionStrategy.getSystemDefaultStrategy())
+					.build();
+	}
+}
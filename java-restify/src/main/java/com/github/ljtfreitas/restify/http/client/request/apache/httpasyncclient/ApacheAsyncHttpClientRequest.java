@@ -0,0 +1,194 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpasyncclient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.protocol.BasicAsyncRequestProducer;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.protocol.HttpContext;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+class ApacheAsyncHttpClientRequest implements AsyncHttpClientRequest {
+
+	private static final Collection<String> ENTITY_ENCLOSING_METHODS = Arrays.asList("POST", "PUT", "PATCH");
+
+	private final HttpAsyncClient httpAsyncClient;
+	private final URI uri;
+	private final String method;
+	private final HttpContext httpContext;
+	private final Charset charset;
+	private final Headers headers;
+	private final int responseBufferSize;
+	private final boolean bufferRequestBody;
+	private final int chunkSize;
+
+	private ByteArrayOutputStream byteArrayOutputStream;
+
+	private ApacheAsyncRequestProducer streamingProducer;
+	private CompletableFuture<HttpResponseMessage> streamingResponse;
+
+	public ApacheAsyncHttpClientRequest(HttpAsyncClient httpAsyncClient, URI uri, String method, HttpContext httpContext,
+			Charset charset, Headers headers, int responseBufferSize) {
+		this(httpAsyncClient, uri, method, httpContext, charset, headers, responseBufferSize, true, 0);
+	}
+
+	public ApacheAsyncHttpClientRequest(HttpAsyncClient httpAsyncClient, URI uri, String method, HttpContext httpContext,
+			Charset charset, Headers headers, int responseBufferSize, boolean bufferRequestBody, int chunkSize) {
+		this.httpAsyncClient = httpAsyncClient;
+		this.uri = uri;
+		this.method = method;
+		this.httpContext = httpContext;
+		this.charset = charset;
+		this.headers = headers;
+		this.responseBufferSize = responseBufferSize;
+		this.bufferRequestBody = bufferRequestBody;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public HttpResponseMessage execute() throws RestifyHttpException {
+		try {
+			return executeAsync().join();
+
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RestifyHttpException ? (RestifyHttpException) e.getCause() :
+				new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e.getCause());
+		}
+	}
+
+	@Override
+	public CompletableFuture<HttpResponseMessage> executeAsync() throws RestifyHttpException {
+		if (streamingResponse != null) {
+			try {
+				streamingProducer.output().close();
+
+				return streamingResponse;
+
+			} catch (IOException e) {
+				throw new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e);
+			}
+		}
+
+		byte[] body = byteArrayOutputStream == null ? new byte[0] : byteArrayOutputStream.toByteArray();
+
+		HttpEntity entity = (body.length > 0 || ENTITY_ENCLOSING_METHODS.contains(method)) ? new NByteArrayEntity(body) : null;
+
+		return send(new BasicAsyncRequestProducer(URIUtils.extractHost(uri), requestOf(entity)));
+	}
+
+	private CompletableFuture<HttpResponseMessage> send(HttpAsyncRequestProducer requestProducer) {
+		ApacheAsyncResponseConsumer responseConsumer = new ApacheAsyncResponseConsumer(this, responseBufferSize);
+
+		httpAsyncClient.execute(requestProducer, responseConsumer, httpContext, null);
+
+		return responseConsumer.response();
+	}
+
+	private ApacheAsyncRequestProducer stream() {
+		long contentLength = headers.get(Headers.CONTENT_LENGTH).map(h -> Long.valueOf(h.value())).orElse(-1L);
+
+		BasicHttpEntity entity = new BasicHttpEntity();
+		entity.setContentLength(contentLength);
+		entity.setChunked(contentLength < 0);
+
+		ApacheAsyncRequestProducer requestProducer = new ApacheAsyncRequestProducer(URIUtils.extractHost(uri),
+				requestOf(entity), chunkSize);
+
+		streamingResponse = send(requestProducer);
+
+		return requestProducer;
+	}
+
+	private HttpRequest requestOf(HttpEntity entity) {
+		RequestBuilder builder = RequestBuilder.create(method).setUri(uri);
+
+		headers.all().stream()
+			.filter(h -> !Headers.CONTENT_LENGTH.equalsIgnoreCase(h.name()))
+				.forEach(h -> builder.addHeader(h.name(), h.value()));
+
+		if (entity != null) {
+			builder.setEntity(entity);
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public URI uri() {
+		return uri;
+	}
+
+	@Override
+	public String method() {
+		return method;
+	}
+
+	@Override
+	public OutputStream output() {
+		if (bufferRequestBody) {
+			if (byteArrayOutputStream == null) {
+				byteArrayOutputStream = new ByteArrayOutputStream();
+			}
+			return byteArrayOutputStream;
+
+		} else {
+			if (streamingProducer == null) {
+				streamingProducer = stream();
+			}
+			return streamingProducer.output();
+		}
+	}
+
+	@Override
+	public Charset charset() {
+		return charset;
+	}
+
+	@Override
+	public Headers headers() {
+		return headers;
+	}
+}
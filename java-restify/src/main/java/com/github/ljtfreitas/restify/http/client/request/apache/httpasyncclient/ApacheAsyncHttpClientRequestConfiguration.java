@@ -0,0 +1,250 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpasyncclient;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.http.HttpHost;
+
+import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+import com.github.ljtfreitas.restify.http.client.request.resolver.EndpointAddressResolver;
+
+public class ApacheAsyncHttpClientRequestConfiguration {
+
+	private static final int DEFAULT_MAX_CONNECTIONS = 200;
+	private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+	private static final int DEFAULT_RESPONSE_BUFFER_SIZE = 1024 * 64;
+	private static final int DEFAULT_CHUNK_SIZE = 4096;
+
+	private int connectionTimeout = 0;
+	private int connectionRequestTimeout = 0;
+	private int readTimeout = 0;
+	private Charset charset = Encoding.UTF_8.charset();
+	private int ioThreads = Runtime.getRuntime().availableProcessors();
+	private int responseBufferSize = DEFAULT_RESPONSE_BUFFER_SIZE;
+	private boolean bufferRequestBody = true;
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+	private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+	private Map<HttpHost, Integer> routes = new LinkedHashMap<>();
+	private long timeToLive = -1;
+	private Long keepAlive = null;
+	private EndpointAddressResolver resolver = null;
+
+	private ApacheAsyncHttpClientRequestConfiguration() {
+	}
+
+	public int connectionTimeout() {
+		return connectionTimeout;
+	}
+
+	public int connectionRequestTimeout() {
+		return connectionRequestTimeout;
+	}
+
+	public int readTimeout() {
+		return readTimeout;
+	}
+
+	public Charset charset() {
+		return charset;
+	}
+
+	public int ioThreads() {
+		return ioThreads;
+	}
+
+	public int responseBufferSize() {
+		return responseBufferSize;
+	}
+
+	public boolean bufferRequestBody() {
+		return bufferRequestBody;
+	}
+
+	public int chunkSize() {
+		return chunkSize;
+	}
+
+	public int maxConnections() {
+		return maxConnections;
+	}
+
+	public int maxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	public Map<HttpHost, Integer> routes() {
+		return Collections.unmodifiableMap(routes);
+	}
+
+	public long timeToLive() {
+		return timeToLive;
+	}
+
+	public Optional<Long> keepAlive() {
+		return Optional.ofNullable(keepAlive);
+	}
+
+	public Optional<EndpointAddressResolver> resolver() {
+		return Optional.ofNullable(resolver);
+	}
+
+	public static ApacheAsyncHttpClientRequestConfiguration useDefault() {
+		return new ApacheAsyncHttpClientRequestConfiguration();
+	}
+
+	public static class Builder {
+
+		private final ApacheAsyncHttpClientRequestConfiguration configuration = new ApacheAsyncHttpClientRequestConfiguration();
+
+		public Builder connectionTimeout(int connectionTimeout) {
+			configuration.connectionTimeout = connectionTimeout;
+			return this;
+		}
+
+		public Builder connectionTimeout(Duration duration) {
+			configuration.connectionTimeout = (int) duration.toMillis();
+			return this;
+		}
+
+		public Builder connectionRequestTimeout(int connectionRequestTimeout) {
+			configuration.connectionRequestTimeout = connectionRequestTimeout;
+			return this;
+		}
+
+		public Builder connectionRequestTimeout(Duration duration) {
+			configuration.connectionRequestTimeout = (int) duration.toMillis();
+			return this;
+		}
+
+		public Builder readTimeout(int readTimeout) {
+			configuration.readTimeout = readTimeout;
+			return this;
+		}
+
+		public Builder readTimeout(Duration duration) {
+			configuration.readTimeout = (int) duration.toMillis();
+			return this;
+		}
+
+		public Builder charset(Charset charset) {
+			configuration.charset = charset;
+			return this;
+		}
+
+		public Builder ioThreads(int ioThreads) {
+			isTrue(ioThreads > 0, "I/O threads must be positive.");
+			configuration.ioThreads = ioThreads;
+			return this;
+		}
+
+		public Builder responseBufferSize(int responseBufferSize) {
+			isTrue(responseBufferSize > 0, "Response buffer size must be positive.");
+			configuration.responseBufferSize = responseBufferSize;
+			return this;
+		}
+
+		public Builder bufferRequestBody(boolean bufferRequestBody) {
+			configuration.bufferRequestBody = bufferRequestBody;
+			return this;
+		}
+
+		public Builder chunkSize(int chunkSize) {
+			isTrue(chunkSize > 0, "Chunk size must be positive.");
+			configuration.chunkSize = chunkSize;
+			return this;
+		}
+
+		public Builder maxConnections(int maxConnections) {
+			isTrue(maxConnections > 0, "Max connections must be positive.");
+			configuration.maxConnections = maxConnections;
+			return this;
+		}
+
+		public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+			isTrue(maxConnectionsPerRoute > 0, "Max connections per route must be positive.");
+			configuration.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			return this;
+		}
+
+		public Builder maxConnectionsPerRoute(String endpoint, int maxConnections) {
+			return maxConnectionsPerRoute(URI.create(endpoint), maxConnections);
+		}
+
+		public Builder maxConnectionsPerRoute(URI endpoint, int maxConnections) {
+			isTrue(maxConnections > 0, "Max connections per route must be positive.");
+			configuration.routes.put(hostOf(endpoint), maxConnections);
+			return this;
+		}
+
+		public Builder timeToLive(long timeToLive) {
+			configuration.timeToLive = timeToLive;
+			return this;
+		}
+
+		public Builder timeToLive(Duration duration) {
+			configuration.timeToLive = duration.toMillis();
+			return this;
+		}
+
+		public Builder keepAlive(long keepAlive) {
+			isTrue(keepAlive >= 0, "Keep-alive must be zero or positive.");
+			configuration.keepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder keepAlive(Duration duration) {
+			return keepAlive(duration.toMillis());
+		}
+
+		public Builder resolver(EndpointAddressResolver resolver) {
+			configuration.resolver = resolver;
+			return this;
+		}
+
+		public ApacheAsyncHttpClientRequestConfiguration build() {
+			return configuration;
+		}
+
+		private HttpHost hostOf(URI endpoint) {
+			String scheme = Optional.ofNullable(endpoint.getScheme()).orElse("http");
+
+			int port = endpoint.getPort() != -1 ? endpoint.getPort() : "https".equalsIgnoreCase(scheme) ? 443 : 80;
+
+			return new HttpHost(endpoint.getHost(), port, scheme);
+		}
+	}
+}
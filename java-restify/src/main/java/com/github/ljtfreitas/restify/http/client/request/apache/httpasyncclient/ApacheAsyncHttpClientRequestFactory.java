@@ -0,0 +1,94 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpasyncclient;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+
+import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class ApacheAsyncHttpClientRequestFactory implements AsyncHttpClientRequestFactory, Closeable {
+
+	private final CloseableHttpAsyncClient httpAsyncClient;
+	private final Charset charset;
+	private final int responseBufferSize;
+	private final boolean bufferRequestBody;
+	private final int chunkSize;
+
+	public ApacheAsyncHttpClientRequestFactory() {
+		this(ApacheAsyncHttpClientRequestConfiguration.useDefault());
+	}
+
+	public ApacheAsyncHttpClientRequestFactory(ApacheAsyncHttpClientRequestConfiguration configuration) {
+		this(new ApacheAsyncHttpClientFactory(configuration).create(), configuration.charset(), configuration.responseBufferSize(),
+				configuration.bufferRequestBody(), configuration.chunkSize());
+	}
+
+	public ApacheAsyncHttpClientRequestFactory(CloseableHttpAsyncClient httpAsyncClient) {
+		this(httpAsyncClient, Encoding.UTF_8.charset());
+	}
+
+	public ApacheAsyncHttpClientRequestFactory(CloseableHttpAsyncClient httpAsyncClient, Charset charset) {
+		this(httpAsyncClient, charset, ApacheAsyncHttpClientRequestConfiguration.useDefault());
+	}
+
+	private ApacheAsyncHttpClientRequestFactory(CloseableHttpAsyncClient httpAsyncClient, Charset charset,
+			ApacheAsyncHttpClientRequestConfiguration configuration) {
+		this(httpAsyncClient, charset, configuration.responseBufferSize(), configuration.bufferRequestBody(),
+				configuration.chunkSize());
+	}
+
+	private ApacheAsyncHttpClientRequestFactory(CloseableHttpAsyncClient httpAsyncClient, Charset charset, int responseBufferSize,
+			boolean bufferRequestBody, int chunkSize) {
+		this.httpAsyncClient = httpAsyncClient;
+		this.charset = charset;
+		this.responseBufferSize = responseBufferSize;
+		this.bufferRequestBody = bufferRequestBody;
+		this.chunkSize = chunkSize;
+
+		if (!httpAsyncClient.isRunning()) {
+			httpAsyncClient.start();
+		}
+	}
+
+	@Override
+	public ApacheAsyncHttpClientRequest createOf(EndpointRequest endpointRequest) {
+		return new ApacheAsyncHttpClientRequest(httpAsyncClient, endpointRequest.endpoint(), endpointRequest.method(),
+				HttpClientContext.create(), charset, endpointRequest.headers(), responseBufferSize,
+				bufferRequestBody, chunkSize);
+	}
+
+	@Override
+	public void close() throws IOException {
+		httpAsyncClient.close();
+	}
+}
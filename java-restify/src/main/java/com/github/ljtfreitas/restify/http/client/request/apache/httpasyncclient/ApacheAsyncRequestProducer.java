@@ -0,0 +1,233 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpasyncclient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.protocol.HttpContext;
+
+import com.github.ljtfreitas.restify.http.client.request.Abortable;
+
+class ApacheAsyncRequestProducer implements HttpAsyncRequestProducer {
+
+	private static final int DEFAULT_CHUNKS = 4;
+
+	private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+	private final HttpHost target;
+	private final HttpRequest request;
+	private final BlockingQueue<ByteBuffer> chunks = new ArrayBlockingQueue<>(DEFAULT_CHUNKS);
+	private final ApacheAsyncRequestBodyOutputStream output;
+
+	private volatile IOControl ioControl;
+	private volatile Throwable failure = null;
+	private volatile boolean closed = false;
+
+	private ByteBuffer current = null;
+
+	public ApacheAsyncRequestProducer(HttpHost target, HttpRequest request, int chunkSize) {
+		this.target = target;
+		this.request = request;
+		this.output = new ApacheAsyncRequestBodyOutputStream(chunkSize);
+	}
+
+	public OutputStream output() {
+		return output;
+	}
+
+	@Override
+	public HttpHost getTarget() {
+		return target;
+	}
+
+	@Override
+	public HttpRequest generateRequest() {
+		return request;
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioControl) throws IOException {
+		this.ioControl = ioControl;
+
+		while (true) {
+			if (failure != null) {
+				throw new IOException("The request body was aborted.", failure);
+			}
+
+			if (current == null) {
+				current = chunks.poll();
+			}
+
+			if (current == null) {
+				ioControl.suspendOutput();
+
+				// the writer may have enqueued a chunk between poll and suspend
+				if (!chunks.isEmpty() || failure != null) {
+					ioControl.requestOutput();
+				}
+				return;
+
+			} else if (current == END) {
+				encoder.complete();
+				return;
+			}
+
+			encoder.write(current);
+
+			if (current.hasRemaining()) {
+				return;
+			}
+
+			current = null;
+		}
+	}
+
+	@Override
+	public void requestCompleted(HttpContext context) {
+	}
+
+	@Override
+	public void failed(Exception e) {
+		close();
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return false;
+	}
+
+	@Override
+	public void resetRequest() {
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		chunks.clear();
+	}
+
+	private void requestOutput() {
+		IOControl ioControl = this.ioControl;
+
+		if (ioControl != null) {
+			ioControl.requestOutput();
+		}
+	}
+
+	private class ApacheAsyncRequestBodyOutputStream extends OutputStream implements Abortable {
+
+		private final byte[] buffer;
+		private int count = 0;
+		private boolean finished = false;
+
+		private ApacheAsyncRequestBodyOutputStream(int chunkSize) {
+			this.buffer = new byte[chunkSize];
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (count == buffer.length) {
+				flush();
+			}
+			buffer[count++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				if (count == buffer.length) {
+					flush();
+				}
+
+				int size = Math.min(len, buffer.length - count);
+
+				System.arraycopy(b, off, buffer, count, size);
+
+				count += size;
+				off += size;
+				len -= size;
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (count > 0) {
+				byte[] chunk = new byte[count];
+				System.arraycopy(buffer, 0, chunk, 0, count);
+
+				put(ByteBuffer.wrap(chunk));
+				count = 0;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!finished) {
+				flush();
+				put(END);
+				finished = true;
+			}
+		}
+
+		@Override
+		public void abort(Throwable cause) {
+			failure = cause;
+			finished = true;
+			chunks.clear();
+			requestOutput();
+		}
+
+		private void put(ByteBuffer chunk) throws IOException {
+			try {
+				while (!chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+					if (closed) {
+						throw new IOException("The request body is no longer being read.");
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while writing the request body.");
+			}
+
+			if (closed) {
+				throw new IOException("The request body is no longer being read.");
+			}
+
+			requestOutput();
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpasyncclient;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.LazyHeaders;
+import com.github.ljtfreitas.restify.http.client.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.response.StatusCode;
+
+class ApacheAsyncResponseConsumer implements HttpAsyncResponseConsumer<HttpResponseMessage> {
+
+	private final HttpRequestMessage httpRequest;
+	private final int bufferSize;
+	private final CompletableFuture<HttpResponseMessage> response = new CompletableFuture<>();
+
+	private ByteBuffer buffer;
+
+	private volatile ApacheAsyncResponseInputStream body;
+	private volatile Exception exception;
+	private volatile boolean done = false;
+
+	public ApacheAsyncResponseConsumer(HttpRequestMessage httpRequest, int bufferSize) {
+		this.httpRequest = httpRequest;
+		this.bufferSize = bufferSize;
+	}
+
+	public CompletableFuture<HttpResponseMessage> response() {
+		return response;
+	}
+
+	@Override
+	public void responseReceived(HttpResponse httpResponse) {
+		StatusLine statusLine = httpResponse.getStatusLine();
+
+		StatusCode statusCode = StatusCode.of(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+
+		Headers headers = new LazyHeaders(
+				name -> Arrays.stream(httpResponse.getHeaders(name))
+					.map(Header::getValue)
+						.collect(Collectors.toList()),
+				consumer -> Arrays.stream(httpResponse.getAllHeaders())
+					.forEach(h -> consumer.accept(h.getName(), h.getValue())));
+
+		body = new ApacheAsyncResponseInputStream(bufferSize);
+
+		response.complete(new ApacheAsyncHttpClientResponse(statusCode, headers, body, httpRequest));
+	}
+
+	@Override
+	public void consumeContent(ContentDecoder decoder, IOControl ioControl) throws IOException {
+		if (body.closed()) {
+			ioControl.shutdown();
+			return;
+		}
+
+		if (buffer == null) {
+			buffer = ByteBuffer.allocate(Math.min(bufferSize, 8192));
+		}
+
+		while (true) {
+			buffer.clear();
+
+			int count = decoder.read(buffer);
+
+			if (count > 0) {
+				buffer.flip();
+
+				byte[] chunk = new byte[count];
+				buffer.get(chunk);
+
+				if (!body.offer(ByteBuffer.wrap(chunk), ioControl)) {
+					return;
+				}
+
+			} else {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void responseCompleted(HttpContext context) {
+		done = true;
+		body.finish();
+	}
+
+	@Override
+	public void failed(Exception e) {
+		done = true;
+		exception = e;
+
+		RestifyHttpException failure = new RestifyHttpException("I/O error on HTTP request: [" + httpRequest.method() + " " +
+				httpRequest.uri() + "]", e);
+
+		if (!response.completeExceptionally(failure)) {
+			body.fail(e);
+		}
+	}
+
+	@Override
+	public boolean cancel() {
+		failed(new CancellationException("HTTP request cancelled."));
+		return true;
+	}
+
+	@Override
+	public Exception getException() {
+		return exception;
+	}
+
+	@Override
+	public HttpResponseMessage getResult() {
+		return response.getNow(null);
+	}
+
+	@Override
+	public boolean isDone() {
+		return done;
+	}
+
+	@Override
+	public void close() {
+	}
+}
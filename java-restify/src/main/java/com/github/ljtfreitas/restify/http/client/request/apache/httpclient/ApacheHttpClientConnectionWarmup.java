@@ -0,0 +1,94 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpclient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+
+class ApacheHttpClientConnectionWarmup {
+
+	private static final int DEFAULT_WARMUP_TIMEOUT = 30 * 1000;
+
+	private final HttpClientConnectionManager connectionManager;
+	private final ApacheHttpClientRequestConfiguration configuration;
+
+	ApacheHttpClientConnectionWarmup(HttpClientConnectionManager connectionManager, ApacheHttpClientRequestConfiguration configuration) {
+		this.connectionManager = connectionManager;
+		this.configuration = configuration;
+	}
+
+	void warmup(URI endpoint, int connections) {
+		HttpHost host = hostOf(endpoint);
+
+		HttpRoute route = new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName()));
+
+		int max = Math.min(connections, configuration.routes().getOrDefault(host, configuration.maxConnectionsPerRoute()));
+
+		Collection<HttpClientConnection> opened = new ArrayList<>();
+
+		try {
+			for (int i = 0; i < max; i++) {
+				HttpClientConnection connection = connectionManager.requestConnection(route, null)
+						.get(timeout(configuration.connectionRequestTimeout()), TimeUnit.MILLISECONDS);
+
+				opened.add(connection);
+
+				if (!connection.isOpen()) {
+					HttpClientContext context = HttpClientContext.create();
+
+					connectionManager.connect(connection, route, configuration.connectionTimeout(), context);
+					connectionManager.routeComplete(connection, route, context);
+				}
+			}
+
+		} catch (Exception e) {
+			// warm-up is a best effort; the connections will be opened again by the first requests
+
+		} finally {
+			opened.forEach(c -> connectionManager.releaseConnection(c, null, configuration.keepAlive().orElse(0L), TimeUnit.MILLISECONDS));
+		}
+	}
+
+	private int timeout(int timeout) {
+		return timeout > 0 ? timeout : DEFAULT_WARMUP_TIMEOUT;
+	}
+
+	private HttpHost hostOf(URI endpoint) {
+		String scheme = endpoint.getScheme() == null ? "http" : endpoint.getScheme();
+
+		int port = endpoint.getPort() != -1 ? endpoint.getPort() : "https".equalsIgnoreCase(scheme) ? 443 : 80;
+
+		return new HttpHost(endpoint.getHost(), port, scheme);
+	}
+}
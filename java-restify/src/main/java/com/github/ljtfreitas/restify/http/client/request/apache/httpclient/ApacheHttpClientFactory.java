@@ -0,0 +1,117 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.apache.httpclient;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+class ApacheHttpClientFactory {
+
+	private final ApacheHttpClientRequestConfiguration configuration;
+
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	public ApacheHttpClientFactory(ApacheHttpClientRequestConfiguration configuration) {
+		this.configuration = configuration;
+	}
+
+	public CloseableHttpClient create() {
+		HttpClientBuilder builder = HttpClients.custom()
+				.useSystemProperties()
+				.setConnectionManager(connectionManager())
+				.setDefaultRequestConfig(requestConfig());
+
+		builder.setKeepAliveStrategy(configuration.keepAlive()
+				.<ConnectionKeepAliveStrategy> map(keepAlive -> (response, context) -> keepAlive)
+					.orElse(DefaultConnectionKeepAliveStrategy.INSTANCE));
+
+		if (configuration.idleTimeout() > 0) {
+			builder.evictExpiredConnections()
+				.evictIdleConnections(configuration.idleTimeout(), TimeUnit.MILLISECONDS);
+		}
+
+		return builder.build();
+	}
+
+	public RequestConfig requestConfig() {
+		return RequestConfig.custom()
+				.setAuthenticationEnabled(true)
+				.setConnectTimeout(configuration.connectionTimeout())
+				.setConnectionRequestTimeout(configuration.connectionRequestTimeout())
+				.setSocketTimeout(configuration.readTimeout())
+					.build();
+	}
+
+	public PoolingHttpClientConnectionManager connectionManager() {
+		if (connectionManager == null) {
+			connectionManager = newConnectionManager();
+		}
+		return connectionManager;
+	}
+
+	private PoolingHttpClientConnectionManager newConnectionManager() {
+		DnsResolver dnsResolver = configuration.resolver()
+				.<DnsResolver> map(EndpointAddressDnsResolver::new)
+					.orElse(null);
+
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry(), null, null,
+				dnsResolver, configuration.timeToLive(), TimeUnit.MILLISECONDS);
+
+		connectionManager.setMaxTotal(configuration.maxConnections());
+		connectionManager.setDefaultMaxPerRoute(configuration.maxConnectionsPerRoute());
+		connectionManager.setValidateAfterInactivity(configuration.validateAfterInactivity());
+
+		configuration.routes().forEach((host, max) -> connectionManager.setMaxPerRoute(routeOf(host), max));
+
+		return connectionManager;
+	}
+
+	private HttpRoute routeOf(HttpHost host) {
+		return new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName()));
+	}
+
+	private Registry<ConnectionSocketFactory> registry() {
+		return RegistryBuilder.<ConnectionSocketFactory> create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+					.build();
+	}
+}
@@ -25,7 +25,6 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.apache.httpclient;
 
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -34,7 +33,12 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
@@ -42,14 +46,17 @@ import org.apache.http.StatusLine;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.protocol.HttpContext;
 
 import com.github.ljtfreitas.restify.http.RestifyHttpException;
-import com.github.ljtfreitas.restify.http.client.Header;
 import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.LazyHeaders;
 import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.PipedRequestBody;
 import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.response.StatusCode;
+import com.github.ljtfreitas.restify.http.util.Tryable;
 
 class ApacheHttpClientRequest implements HttpClientRequest {
 
@@ -58,27 +65,63 @@ class ApacheHttpClientRequest implements HttpClientRequest {
 	private final HttpContext httpContext;
 	private final Charset charset;
 	private final Headers headers;
+	private final Executor executor;
+	private final boolean bufferRequestBody;
+	private final int chunkSize;
 
-	private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(1024 * 100);
-	private final BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(byteArrayOutputStream);
+	private ByteArrayOutputStream byteArrayOutputStream;
+
+	private PipedRequestBody streamingBody;
+	private CompletableFuture<HttpResponseMessage> streamingResponse;
+
+	public ApacheHttpClientRequest(HttpClient httpClient, HttpUriRequest httpRequest, HttpContext httpContext, Charset charset,
+			Headers headers, Executor executor) {
+		this(httpClient, httpRequest, httpContext, charset, headers, executor, true, 0);
+	}
 
 	public ApacheHttpClientRequest(HttpClient httpClient, HttpUriRequest httpRequest, HttpContext httpContext, Charset charset,
-			Headers headers) {
+			Headers headers, Executor executor, boolean bufferRequestBody, int chunkSize) {
 		this.httpClient = httpClient;
 		this.httpRequest = httpRequest;
 		this.httpContext = httpContext;
 		this.charset = charset;
 		this.headers = headers;
+		this.executor = executor;
+		this.bufferRequestBody = bufferRequestBody;
+		this.chunkSize = chunkSize;
 	}
 
 	@Override
 	public HttpResponseMessage execute() throws RestifyHttpException {
-		headers.all().forEach(h -> httpRequest.addHeader(h.name(), h.value()));
+		if (streamingResponse != null) {
+			try {
+				streamingBody.output().close();
+
+				return streamingResponse.join();
+
+			} catch (IOException e) {
+				throw new RestifyHttpException("I/O error on HTTP request: [" + httpRequest.getMethod() + " " +
+						httpRequest.getURI() + "]", e);
+
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RestifyHttpException ? (RestifyHttpException) e.getCause() :
+					new RestifyHttpException("I/O error on HTTP request: [" + httpRequest.getMethod() + " " +
+							httpRequest.getURI() + "]", e.getCause());
+			}
+		}
 
-		if (httpRequest instanceof HttpEntityEnclosingRequest) {
-			HttpEntityEnclosingRequest entityEnclosingRequest = (HttpEntityEnclosingRequest) httpRequest;
-			HttpEntity requestEntity = new ByteArrayEntity(byteArrayOutputStream.toByteArray());
-			entityEnclosingRequest.setEntity(requestEntity);
+		return send(new ByteArrayEntity(byteArrayOutputStream == null ? new byte[0] : byteArrayOutputStream.toByteArray()));
+	}
+
+	private HttpResponseMessage send(HttpEntity requestEntity) {
+		boolean entityEnclosing = httpRequest instanceof HttpEntityEnclosingRequest;
+
+		headers.all().stream()
+			.filter(h -> !(entityEnclosing && Headers.CONTENT_LENGTH.equalsIgnoreCase(h.name())))
+				.forEach(h -> httpRequest.addHeader(h.name(), h.value()));
+
+		if (entityEnclosing) {
+			((HttpEntityEnclosingRequest) httpRequest).setEntity(requestEntity);
 		}
 
 		try {
@@ -90,7 +133,21 @@ class ApacheHttpClientRequest implements HttpClientRequest {
 			throw new RestifyHttpException("I/O error on HTTP request: [" + httpRequest.getMethod() + " " +
 					httpRequest.getURI() + "]", e);
 		}
+	}
+
+	private CompletableFuture<HttpResponseMessage> stream(PipedRequestBody body) {
+		long contentLength = headers.get(Headers.CONTENT_LENGTH).map(h -> Long.valueOf(h.value())).orElse(-1L);
 
+		InputStreamEntity requestEntity = new InputStreamEntity(body.input(), contentLength);
+		requestEntity.setChunked(contentLength < 0);
+
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return send(requestEntity);
+			} finally {
+				Tryable.run(body.input()::close);
+			}
+		}, executor);
 	}
 
 	private ApacheHttpClientResponse responseOf(HttpResponse httpResponse) throws IOException {
@@ -98,9 +155,12 @@ class ApacheHttpClientRequest implements HttpClientRequest {
 
 		StatusCode statusCode = StatusCode.of(statusLine.getStatusCode(), statusLine.getReasonPhrase());
 
-		Headers headers = new Headers();
-		Arrays.stream(httpResponse.getAllHeaders())
-			.forEach(h -> headers.add(new Header(h.getName(), h.getValue())));
+		Headers headers = new LazyHeaders(
+				name -> Arrays.stream(httpResponse.getHeaders(name))
+					.map(Header::getValue)
+						.collect(Collectors.toList()),
+				consumer -> Arrays.stream(httpResponse.getAllHeaders())
+					.forEach(h -> consumer.accept(h.getName(), h.getValue())));
 
 		HttpEntity entity = httpResponse.getEntity();
 
@@ -121,7 +181,19 @@ class ApacheHttpClientRequest implements HttpClientRequest {
 
 	@Override
 	public OutputStream output() {
-		return bufferedOutputStream;
+		if (bufferRequestBody) {
+			if (byteArrayOutputStream == null) {
+				byteArrayOutputStream = new ByteArrayOutputStream();
+			}
+			return byteArrayOutputStream;
+
+		} else {
+			if (streamingBody == null) {
+				streamingBody = new PipedRequestBody(chunkSize);
+				streamingResponse = stream(streamingBody);
+			}
+			return streamingBody.output();
+		}
 	}
 
 	@Override
@@ -27,9 +27,12 @@ package com.github.ljtfreitas.restify.http.client.request.apache.httpclient;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
@@ -48,14 +51,19 @@ import org.apache.http.protocol.HttpContext;
 
 import com.github.ljtfreitas.restify.http.client.charset.Encoding;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.WarmableHttpClientRequestFactory;
 
-public class ApacheHttpClientRequestFactory implements HttpClientRequestFactory, Closeable {
+public class ApacheHttpClientRequestFactory implements WarmableHttpClientRequestFactory, Closeable {
 
 	private final HttpClient httpClient;
 	private final RequestConfig requestConfig;
 	private final HttpContext httpContext;
 	private final Charset charset;
+	private final boolean bufferRequestBody;
+	private final int chunkSize;
+	private final ApacheHttpClientConnectionWarmup warmup;
+
+	private ExecutorService executor;
 
 	public ApacheHttpClientRequestFactory() {
 		this(HttpClients.createSystem(), null);
@@ -73,6 +81,16 @@ public class ApacheHttpClientRequestFactory implements HttpClientRequestFactory,
 		this(HttpClients.createSystem(), null, httpContext);
 	}
 
+	public ApacheHttpClientRequestFactory(ApacheHttpClientRequestConfiguration configuration) {
+		this(new ApacheHttpClientFactory(configuration), configuration);
+	}
+
+	private ApacheHttpClientRequestFactory(ApacheHttpClientFactory apacheHttpClientFactory, ApacheHttpClientRequestConfiguration configuration) {
+		this(apacheHttpClientFactory.create(), apacheHttpClientFactory.requestConfig(), HttpClientContext.create(),
+				configuration.charset(), configuration.bufferRequestBody(),
+				configuration.chunkSize(), new ApacheHttpClientConnectionWarmup(apacheHttpClientFactory.connectionManager(), configuration));
+	}
+
 	public ApacheHttpClientRequestFactory(Charset charset) {
 		this(HttpClients.createSystem(), null, HttpClientContext.create(), charset);
 	}
@@ -86,10 +104,18 @@ public class ApacheHttpClientRequestFactory implements HttpClientRequestFactory,
 	}
 
 	public ApacheHttpClientRequestFactory(HttpClient httpClient, RequestConfig requestConfig, HttpContext httpContext, Charset charset) {
+		this(httpClient, requestConfig, httpContext, charset, true, 0, null);
+	}
+
+	private ApacheHttpClientRequestFactory(HttpClient httpClient, RequestConfig requestConfig, HttpContext httpContext, Charset charset,
+			boolean bufferRequestBody, int chunkSize, ApacheHttpClientConnectionWarmup warmup) {
 		this.httpClient = httpClient;
 		this.requestConfig = requestConfig;
 		this.httpContext = httpContext;
 		this.charset = charset;
+		this.bufferRequestBody = bufferRequestBody;
+		this.chunkSize = chunkSize;
+		this.warmup = warmup;
 	}
 
 	@Override
@@ -99,7 +125,19 @@ public class ApacheHttpClientRequestFactory implements HttpClientRequestFactory,
 
 		HttpContext context = configure(httpRequest);
 
-		return new ApacheHttpClientRequest(httpClient, httpRequest, context, charset, endpointRequest.headers());
+		return new ApacheHttpClientRequest(httpClient, httpRequest, context, charset, endpointRequest.headers(),
+				command -> executor().execute(command), bufferRequestBody, chunkSize);
+	}
+
+	private synchronized ExecutorService executor() {
+		if (executor == null) {
+			executor = Executors.newCachedThreadPool(r -> {
+				Thread thread = new Thread(r, "restify-apache-request-body");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return executor;
 	}
 
 	private HttpContext configure(HttpUriRequest httpRequest) {
@@ -172,8 +210,21 @@ public class ApacheHttpClientRequestFactory implements HttpClientRequestFactory,
 		}
 	}
 
+	@Override
+	public void warmup(URI endpoint, int connections) {
+		if (warmup != null) {
+			warmup.warmup(endpoint, connections);
+		}
+	}
+
 	@Override
 	public void close() throws IOException {
+		synchronized (this) {
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
+
 		if (httpClient instanceof Closeable) {
 			((Closeable) this.httpClient).close();
 		}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+class CodecPool<T> {
+
+	private static final int DEFAULT_MAX_IDLE = 32;
+
+	private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final Supplier<T> factory;
+	private final Consumer<T> reset;
+	private final Consumer<T> destroy;
+	private final int maxIdle;
+
+	CodecPool(Supplier<T> factory, Consumer<T> reset, Consumer<T> destroy) {
+		this(factory, reset, destroy, DEFAULT_MAX_IDLE);
+	}
+
+	CodecPool(Supplier<T> factory, Consumer<T> reset, Consumer<T> destroy, int maxIdle) {
+		this.factory = factory;
+		this.reset = reset;
+		this.destroy = destroy;
+		this.maxIdle = maxIdle;
+	}
+
+	T acquire() {
+		T codec = idle.poll();
+
+		if (codec == null) {
+			return factory.get();
+		}
+
+		size.decrementAndGet();
+
+		return codec;
+	}
+
+	void release(T codec) {
+		reset.accept(codec);
+
+		if (size.incrementAndGet() <= maxIdle) {
+			idle.offer(codec);
+
+		} else {
+			size.decrementAndGet();
+			destroy.accept(codec);
+		}
+	}
+}
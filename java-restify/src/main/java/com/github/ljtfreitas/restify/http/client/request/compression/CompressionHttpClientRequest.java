@@ -0,0 +1,96 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+class CompressionHttpClientRequest implements AsyncHttpClientRequest {
+
+	private final HttpClientRequest delegate;
+	private final Optional<ContentEncoding> encoding;
+	private final int threshold;
+
+	private OutputStream output;
+
+	CompressionHttpClientRequest(HttpClientRequest delegate, Optional<ContentEncoding> encoding, int threshold) {
+		this.delegate = delegate;
+		this.encoding = encoding;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public URI uri() {
+		return delegate.uri();
+	}
+
+	@Override
+	public String method() {
+		return delegate.method();
+	}
+
+	@Override
+	public OutputStream output() {
+		if (output == null) {
+			output = encoding.<OutputStream> map(e -> new ThresholdCompressionOutputStream(delegate, e, threshold))
+					.orElseGet(delegate::output);
+		}
+		return output;
+	}
+
+	@Override
+	public Headers headers() {
+		return delegate.headers();
+	}
+
+	@Override
+	public Charset charset() {
+		return delegate.charset();
+	}
+
+	@Override
+	public HttpResponseMessage execute() throws RestifyHttpException {
+		return CompressionHttpClientResponse.of(delegate.execute());
+	}
+
+	@Override
+	public CompletableFuture<HttpResponseMessage> executeAsync() throws RestifyHttpException {
+		if (delegate instanceof AsyncHttpClientRequest) {
+			return ((AsyncHttpClientRequest) delegate).executeAsync().thenApply(CompressionHttpClientResponse::of);
+		} else {
+			return CompletableFuture.completedFuture(execute());
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.WarmableHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.util.Preconditions;
+
+public class CompressionHttpClientRequestFactory implements AsyncHttpClientRequestFactory, WarmableHttpClientRequestFactory, Closeable {
+
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	private final HttpClientRequestFactory delegate;
+	private final int threshold;
+
+	public CompressionHttpClientRequestFactory(HttpClientRequestFactory delegate) {
+		this(delegate, DEFAULT_THRESHOLD);
+	}
+
+	public CompressionHttpClientRequestFactory(HttpClientRequestFactory delegate, int threshold) {
+		Preconditions.isTrue(threshold >= 0, "Compression threshold must be greater than or equal to zero.");
+		this.delegate = delegate;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public AsyncHttpClientRequest createOf(EndpointRequest endpointRequest) {
+		Optional<ContentEncoding> encoding = endpointRequest.headers().get(Headers.CONTENT_ENCODING)
+				.flatMap(h -> ContentEncoding.of(h.value()));
+
+		EndpointRequest source = encoding.map(e -> withoutContentEncoding(endpointRequest)).orElse(endpointRequest);
+
+		if (!source.headers().get(Headers.ACCEPT_ENCODING).isPresent()) {
+			source.headers().put(Headers.ACCEPT_ENCODING, ContentEncoding.accepted());
+		}
+
+		return new CompressionHttpClientRequest(delegate.createOf(source), encoding, threshold);
+	}
+
+	private EndpointRequest withoutContentEncoding(EndpointRequest endpointRequest) {
+		Headers headers = new Headers();
+
+		endpointRequest.headers().all().stream()
+			.filter(h -> !(h.name().equalsIgnoreCase(Headers.CONTENT_ENCODING) || h.name().equalsIgnoreCase(Headers.CONTENT_LENGTH)))
+				.forEach(headers::add);
+
+		return new EndpointRequest(endpointRequest.endpoint(), endpointRequest.method(), headers, endpointRequest.body().orElse(null),
+				endpointRequest.responseType(), endpointRequest.version().orElse(null));
+	}
+
+	@Override
+	public void warmup(URI endpoint, int connections) {
+		if (delegate instanceof WarmableHttpClientRequestFactory) {
+			((WarmableHttpClientRequestFactory) delegate).warmup(endpoint, connections);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (delegate instanceof Closeable) {
+			((Closeable) delegate).close();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Header;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.response.BaseHttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+class CompressionHttpClientResponse extends BaseHttpResponseMessage {
+
+	private final HttpResponseMessage source;
+
+	private CompressionHttpClientResponse(HttpResponseMessage source, Headers headers, InputStream body) {
+		super(source.statusCode(), headers, body, source.request());
+		this.source = source;
+	}
+
+	@Override
+	public boolean isReadable() {
+		return source.isReadable();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			body().close();
+		} finally {
+			source.close();
+		}
+	}
+
+	static HttpResponseMessage of(HttpResponseMessage source) {
+		return source.headers().get(Headers.CONTENT_ENCODING)
+				.flatMap(h -> ContentEncoding.of(h.value()))
+					.filter(e -> source.isReadable())
+						.map(e -> decode(source, e))
+							.orElse(source);
+	}
+
+	private static HttpResponseMessage decode(HttpResponseMessage source, ContentEncoding encoding) {
+		Headers headers = new Headers();
+
+		source.headers().all().stream()
+			.filter(h -> !(isHeader(h, Headers.CONTENT_ENCODING) || isHeader(h, Headers.CONTENT_LENGTH)))
+				.forEach(headers::add);
+
+		try {
+			return new CompressionHttpClientResponse(source, headers, encoding.decode(source.body()));
+
+		} catch (IOException e) {
+			throw new RestifyHttpException("Error on decode HTTP response body with [" + encoding.value() + "] content encoding", e);
+		}
+	}
+
+	private static boolean isHeader(Header header, String name) {
+		return header.name().equalsIgnoreCase(name);
+	}
+}
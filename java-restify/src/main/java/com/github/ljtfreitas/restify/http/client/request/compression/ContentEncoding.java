@@ -0,0 +1,94 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public enum ContentEncoding {
+
+	GZIP(true, "gzip", "x-gzip") {
+		@Override
+		public InputStream decode(InputStream source) throws IOException {
+			return new PooledGzipInputStream(source, inflaters);
+		}
+
+		@Override
+		public OutputStream encode(OutputStream target) throws IOException {
+			return new PooledGzipOutputStream(target, deflaters);
+		}
+	},
+
+	DEFLATE(false, "deflate") {
+		@Override
+		public InputStream decode(InputStream source) {
+			return new PooledInflaterInputStream(source, inflaters);
+		}
+
+		@Override
+		public OutputStream encode(OutputStream target) {
+			return new PooledDeflaterOutputStream(target, deflaters);
+		}
+	};
+
+	private final Collection<String> names;
+
+	final CodecPool<Inflater> inflaters;
+	final CodecPool<Deflater> deflaters;
+
+	private ContentEncoding(boolean nowrap, String... names) {
+		this.names = Collections.unmodifiableCollection(Arrays.asList(names));
+		this.inflaters = new CodecPool<>(() -> new Inflater(nowrap), Inflater::reset, Inflater::end);
+		this.deflaters = new CodecPool<>(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap), Deflater::reset, Deflater::end);
+	}
+
+	public abstract InputStream decode(InputStream source) throws IOException;
+
+	public abstract OutputStream encode(OutputStream target) throws IOException;
+
+	public String value() {
+		return names.iterator().next();
+	}
+
+	public static Optional<ContentEncoding> of(String value) {
+		String name = value.trim();
+
+		return Arrays.stream(values())
+			.filter(e -> e.names.stream().anyMatch(name::equalsIgnoreCase))
+				.findFirst();
+	}
+
+	public static String accepted() {
+		return GZIP.value() + ", " + DEFLATE.value();
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+class PooledGzipInputStream extends PooledInflaterInputStream {
+
+	private static final int GZIP_MAGIC = 0x8b1f;
+
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private final CRC32 crc = new CRC32();
+
+	private boolean eos = false;
+
+	PooledGzipInputStream(InputStream in, CodecPool<Inflater> pool) throws IOException {
+		super(in, pool);
+
+		try {
+			readHeader(in);
+		} catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (eos) {
+			return -1;
+		}
+
+		int n = super.read(b, off, len);
+
+		if (n == -1) {
+			eos = true;
+			readTrailer();
+
+		} else {
+			crc.update(b, off, n);
+		}
+
+		return n;
+	}
+
+	private void readHeader(InputStream source) throws IOException {
+		if (readUShort(source) != GZIP_MAGIC) {
+			throw new ZipException("Not in GZIP format");
+		}
+
+		if (readUByte(source) != 8) {
+			throw new ZipException("Unsupported compression method");
+		}
+
+		int flags = readUByte(source);
+
+		skip(source, 6);
+
+		if ((flags & FEXTRA) == FEXTRA) {
+			skip(source, readUShort(source));
+		}
+
+		if ((flags & FNAME) == FNAME) {
+			while (readUByte(source) != 0);
+		}
+
+		if ((flags & FCOMMENT) == FCOMMENT) {
+			while (readUByte(source) != 0);
+		}
+
+		if ((flags & FHCRC) == FHCRC) {
+			skip(source, 2);
+		}
+	}
+
+	private void readTrailer() throws IOException {
+		int remaining = inf.getRemaining();
+
+		InputStream source = remaining > 0 ? new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in) : in;
+
+		if (readUInt(source) != crc.getValue() || readUInt(source) != (inf.getBytesWritten() & 0xffffffffL)) {
+			throw new ZipException("Corrupt GZIP trailer");
+		}
+	}
+
+	private long readUInt(InputStream source) throws IOException {
+		long s = readUShort(source);
+		return ((long) readUShort(source) << 16) | s;
+	}
+
+	private int readUShort(InputStream source) throws IOException {
+		int b = readUByte(source);
+		return (readUByte(source) << 8) | b;
+	}
+
+	private int readUByte(InputStream source) throws IOException {
+		int b = source.read();
+		if (b == -1) {
+			throw new EOFException("Unexpected end of GZIP stream");
+		}
+		return b;
+	}
+
+	private void skip(InputStream source, int n) throws IOException {
+		for (int i = 0; i < n; i++) {
+			readUByte(source);
+		}
+	}
+}
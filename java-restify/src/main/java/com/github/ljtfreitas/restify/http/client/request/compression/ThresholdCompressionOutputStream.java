@@ -0,0 +1,108 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.Abortable;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+
+class ThresholdCompressionOutputStream extends OutputStream implements Abortable {
+
+	private final HttpClientRequest delegate;
+	private final ContentEncoding encoding;
+	private final int threshold;
+
+	private ByteArrayOutputStream buffer;
+	private OutputStream output;
+	private boolean closed = false;
+
+	ThresholdCompressionOutputStream(HttpClientRequest delegate, ContentEncoding encoding, int threshold) {
+		this.delegate = delegate;
+		this.encoding = encoding;
+		this.threshold = threshold;
+		this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192));
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (output != null) {
+			output.write(b, off, len);
+
+		} else if (buffer.size() + len > threshold) {
+			delegate.headers().put(Headers.CONTENT_ENCODING, encoding.value());
+
+			output = encoding.encode(delegate.output());
+
+			buffer.writeTo(output);
+			buffer = null;
+
+			output.write(b, off, len);
+
+		} else {
+			buffer.write(b, off, len);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (output != null) {
+			output.flush();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) return;
+
+		closed = true;
+
+		if (output == null) {
+			output = delegate.output();
+			buffer.writeTo(output);
+			buffer = null;
+		}
+
+		output.close();
+	}
+
+	@Override
+	public void abort(Throwable cause) {
+		OutputStream target = delegate.output();
+
+		if (target instanceof Abortable) {
+			((Abortable) target).abort(cause);
+		}
+	}
+}
@@ -34,12 +34,14 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.github.ljtfreitas.restify.http.client.Header;
+import com.github.ljtfreitas.restify.http.client.Headers;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.contract.ContentType;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 
-public class AcceptHeaderEndpointRequestInterceptor implements EndpointRequestInterceptor {
+public class AcceptHeaderEndpointRequestInterceptor implements StaticEndpointRequestInterceptor {
 
-	private final Collection<ContentType> contentTypes;
+	private final Header accept;
 
 	public AcceptHeaderEndpointRequestInterceptor(String... contentTypes) {
 		this(Arrays.stream(contentTypes).map(ContentType::of).collect(Collectors.toSet()));
@@ -50,7 +52,21 @@ public class AcceptHeaderEndpointRequestInterceptor implements EndpointRequestIn
 	}
 
 	public AcceptHeaderEndpointRequestInterceptor(Collection<ContentType> contentTypes) {
-		this.contentTypes = new LinkedHashSet<>(contentTypes);
+		this.accept = new Header(ACCEPT, new LinkedHashSet<>(contentTypes).stream()
+				.map(ContentType::name)
+					.collect(Collectors.joining(", ")));
+	}
+
+	@Override
+	public boolean supports(EndpointMethod endpointMethod) {
+		return true;
+	}
+
+	@Override
+	public void intercepts(EndpointMethod endpointMethod, Headers headers) {
+		if (!headers.get(ACCEPT).isPresent()) {
+			headers.add(accept);
+		}
 	}
 
 	@Override
@@ -58,8 +74,7 @@ public class AcceptHeaderEndpointRequestInterceptor implements EndpointRequestIn
 		Optional<Header> accept = endpointRequest.headers().get(ACCEPT);
 
 		if (!accept.isPresent()) {
-			String acceptTypes = contentTypes.stream().map(ContentType::name).collect(Collectors.joining(", "));
-			endpointRequest.headers().add(new Header(ACCEPT, acceptTypes));
+			endpointRequest.headers().add(this.accept);
 		}
 
 		return endpointRequest;
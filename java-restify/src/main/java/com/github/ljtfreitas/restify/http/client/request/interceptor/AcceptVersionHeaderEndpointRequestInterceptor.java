@@ -28,10 +28,12 @@ package com.github.ljtfreitas.restify.http.client.request.interceptor;
 import java.util.Optional;
 
 import com.github.ljtfreitas.restify.http.client.Header;
+import com.github.ljtfreitas.restify.http.client.Headers;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointVersion;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 
-public class AcceptVersionHeaderEndpointRequestInterceptor implements EndpointRequestInterceptor {
+public class AcceptVersionHeaderEndpointRequestInterceptor implements StaticEndpointRequestInterceptor {
 
 	private final EndpointVersion version;
 
@@ -55,4 +57,17 @@ public class AcceptVersionHeaderEndpointRequestInterceptor implements EndpointRe
 		return request;
 	}
 
+	@Override
+	public boolean supports(EndpointMethod endpointMethod) {
+		return true;
+	}
+
+	@Override
+	public void intercepts(EndpointMethod endpointMethod, Headers headers) {
+		Optional<EndpointVersion> version = Optional.ofNullable(this.version)
+				.map(Optional::of)
+					.orElseGet(() -> endpointMethod.version().map(EndpointVersion::of));
+
+		version.ifPresent(v -> headers.add(new Header("Accept-Version", v.get())));
+	}
 }
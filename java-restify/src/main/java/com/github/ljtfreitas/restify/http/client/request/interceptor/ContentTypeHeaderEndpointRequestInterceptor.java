@@ -30,19 +30,21 @@ import static com.github.ljtfreitas.restify.http.client.Headers.CONTENT_TYPE;
 import java.util.Optional;
 
 import com.github.ljtfreitas.restify.http.client.Header;
+import com.github.ljtfreitas.restify.http.client.Headers;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.contract.ContentType;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 
-public class ContentTypeHeaderEndpointRequestInterceptor implements EndpointRequestInterceptor {
+public class ContentTypeHeaderEndpointRequestInterceptor implements StaticEndpointRequestInterceptor {
 
-	private final ContentType contentType;
+	private final Header contentType;
 
 	public ContentTypeHeaderEndpointRequestInterceptor(String contentType) {
-		this.contentType = ContentType.of(contentType);
+		this(ContentType.of(contentType));
 	}
 
 	public ContentTypeHeaderEndpointRequestInterceptor(ContentType contentType) {
-		this.contentType = contentType;
+		this.contentType = new Header(CONTENT_TYPE, contentType.toString());
 	}
 
 	@Override
@@ -51,9 +53,19 @@ public class ContentTypeHeaderEndpointRequestInterceptor implements EndpointRequ
 		boolean hasBody = endpointRequest.body().isPresent();
 
 		if (!contentType.isPresent() && hasBody) {
-			endpointRequest.headers().add(new Header(CONTENT_TYPE, this.contentType.toString()));
+			endpointRequest.headers().add(this.contentType);
 		}
 
 		return endpointRequest;
 	}
+
+	@Override
+	public boolean supports(EndpointMethod endpointMethod) {
+		return endpointMethod.headers().first(CONTENT_TYPE).isPresent() || !endpointMethod.parameters().ofBody().isPresent();
+	}
+
+	@Override
+	public void intercepts(EndpointMethod endpointMethod, Headers headers) {
+		// the header depends on the body of each request; without a body parameter, there is nothing to add
+	}
 }
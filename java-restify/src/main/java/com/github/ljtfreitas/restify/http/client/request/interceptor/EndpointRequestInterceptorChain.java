@@ -0,0 +1,83 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.interceptor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.github.ljtfreitas.restify.http.client.Header;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class EndpointRequestInterceptorChain {
+
+	private static final EndpointRequestInterceptorChain EMPTY = new EndpointRequestInterceptorChain(new Header[0],
+			new EndpointRequestInterceptor[0]);
+
+	private final Header[] headers;
+	private final EndpointRequestInterceptor[] interceptors;
+
+	EndpointRequestInterceptorChain(Header[] headers, EndpointRequestInterceptor[] interceptors) {
+		this.headers = headers;
+		this.interceptors = interceptors;
+	}
+
+	public Collection<Header> headers() {
+		return Collections.unmodifiableList(Arrays.asList(headers));
+	}
+
+	public EndpointRequest apply(EndpointRequest endpointRequest) {
+		for (Header header : headers) {
+			endpointRequest.headers().add(header);
+		}
+
+		EndpointRequest request = endpointRequest;
+		for (EndpointRequestInterceptor interceptor : interceptors) {
+			request = interceptor.intercepts(request);
+		}
+		return request;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+
+		report
+			.append("EndpointRequestInterceptorChain: [")
+				.append("Static Headers: ")
+					.append(Arrays.toString(headers))
+				.append(", ")
+				.append("Interceptors: ")
+					.append(Arrays.toString(interceptors))
+			.append("]");
+
+		return report.toString();
+	}
+
+	public static EndpointRequestInterceptorChain empty() {
+		return EMPTY;
+	}
+}
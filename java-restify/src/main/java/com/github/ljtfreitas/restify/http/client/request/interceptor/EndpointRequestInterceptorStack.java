@@ -26,19 +26,52 @@
 package com.github.ljtfreitas.restify.http.client.request.interceptor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
+import com.github.ljtfreitas.restify.http.client.Header;
+import com.github.ljtfreitas.restify.http.client.Headers;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 
 public class EndpointRequestInterceptorStack {
 
-	private final Collection<EndpointRequestInterceptor> interceptors;
+	private final EndpointRequestInterceptor[] interceptors;
 
 	public EndpointRequestInterceptorStack(Collection<EndpointRequestInterceptor> interceptors) {
-		this.interceptors = new ArrayList<>(interceptors);
+		this.interceptors = interceptors.toArray(new EndpointRequestInterceptor[interceptors.size()]);
 	}
 
 	public EndpointRequest apply(EndpointRequest endpointRequest) {
-		return interceptors.stream().reduce(endpointRequest, (r, i) -> i.intercepts(r), (a, b) -> b);
+		EndpointRequest request = endpointRequest;
+		for (EndpointRequestInterceptor interceptor : interceptors) {
+			request = interceptor.intercepts(request);
+		}
+		return request;
+	}
+
+	public EndpointRequestInterceptorChain compile(EndpointMethod endpointMethod) {
+		Headers headers = new Headers();
+		endpointMethod.headers().all().forEach(h -> headers.put(h.name(), h.value()));
+
+		List<Header> declared = new ArrayList<>(headers.all());
+
+		int position = 0;
+		while (position < interceptors.length && isStatic(interceptors[position], endpointMethod)) {
+			((StaticEndpointRequestInterceptor) interceptors[position]).intercepts(endpointMethod, headers);
+			position++;
+		}
+
+		Header[] frozen = headers.all().stream()
+				.filter(h -> !declared.contains(h))
+					.toArray(Header[]::new);
+
+		return new EndpointRequestInterceptorChain(frozen, Arrays.copyOfRange(interceptors, position, interceptors.length));
+	}
+
+	private boolean isStatic(EndpointRequestInterceptor interceptor, EndpointMethod endpointMethod) {
+		return interceptor instanceof StaticEndpointRequestInterceptor
+				&& ((StaticEndpointRequestInterceptor) interceptor).supports(endpointMethod);
 	}
 }
@@ -27,11 +27,14 @@ package com.github.ljtfreitas.restify.http.client.request.interceptor.authentica
 
 import java.util.Optional;
 
+import com.github.ljtfreitas.restify.http.client.Headers;
 import com.github.ljtfreitas.restify.http.client.authentication.Authentication;
+import com.github.ljtfreitas.restify.http.client.authentication.BasicAuthentication;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointRequestInterceptor;
+import com.github.ljtfreitas.restify.http.client.request.interceptor.StaticEndpointRequestInterceptor;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 
-public class AuthenticationEndpoinRequestInterceptor implements EndpointRequestInterceptor {
+public class AuthenticationEndpoinRequestInterceptor implements StaticEndpointRequestInterceptor {
 
 	private final Authentication authentication;
 
@@ -43,8 +46,20 @@ public class AuthenticationEndpoinRequestInterceptor implements EndpointRequestI
 	public EndpointRequest intercepts(EndpointRequest endpointRequest) {
 		Optional.ofNullable(authentication.content())
 			.filter(a -> !a.isEmpty())
-				.ifPresent(a -> endpointRequest.headers().put("Authorization", a));
+				.ifPresent(a -> endpointRequest.headers().put(Headers.AUTHORIZATION, a));
 
 		return endpointRequest;
 	}
+
+	@Override
+	public boolean supports(EndpointMethod endpointMethod) {
+		return authentication instanceof BasicAuthentication;
+	}
+
+	@Override
+	public void intercepts(EndpointMethod endpointMethod, Headers headers) {
+		Optional.ofNullable(authentication.content())
+			.filter(a -> !a.isEmpty())
+				.ifPresent(a -> headers.put(Headers.AUTHORIZATION, a));
+	}
 }
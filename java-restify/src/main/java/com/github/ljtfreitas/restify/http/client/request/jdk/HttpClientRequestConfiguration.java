@@ -25,6 +25,8 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.jdk;
 
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+
 import java.net.Proxy;
 import java.nio.charset.Charset;
 import java.time.Duration;
@@ -37,15 +39,20 @@ import com.github.ljtfreitas.restify.http.client.charset.Encoding;
 
 public class HttpClientRequestConfiguration {
 
+	private static final int DEFAULT_CHUNK_SIZE = 4096;
+
 	private int connectionTimeout = 0;
 	private int readTimeout = 0;
 	private boolean followRedirects = true;
 	private boolean useCaches = true;
+	private boolean bufferRequestBody = true;
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
 
 	private Charset charset = Encoding.UTF_8.charset();
 	private Proxy proxy = null;
 
 	private HttpClientRequestSslConfiguration ssl = new HttpClientRequestSslConfiguration();
+	private HttpClientRequestKeepAliveConfiguration keepAlive = new HttpClientRequestKeepAliveConfiguration();
 
 	private HttpClientRequestConfiguration() {
 	}
@@ -66,6 +73,14 @@ public class HttpClientRequestConfiguration {
 		return useCaches;
 	}
 
+	public boolean bufferRequestBody() {
+		return bufferRequestBody;
+	}
+
+	public int chunkSize() {
+		return chunkSize;
+	}
+
 	public Charset charset() {
 		return charset;
 	}
@@ -78,6 +93,10 @@ public class HttpClientRequestConfiguration {
 		return ssl;
 	}
 
+	public HttpClientRequestKeepAliveConfiguration keepAlive() {
+		return keepAlive;
+	}
+
 	public static HttpClientRequestConfiguration useDefault() {
 		return new HttpClientRequestConfiguration();
 	}
@@ -96,6 +115,29 @@ public class HttpClientRequestConfiguration {
 		}
 	}
 
+	/**
+	 * When enabled, a response is released by draining and closing its stream (instead of disconnecting), so the
+	 * connection goes back to the keep-alive cache of {@link java.net.HttpURLConnection}. Responses with more
+	 * unread bytes than the drain limit are disconnected. The idle connections kept per destination are a
+	 * process-level setting of the JDK ("http.maxConnections" system property, read once), that must be set
+	 * by the application.
+	 */
+	public class HttpClientRequestKeepAliveConfiguration {
+
+		private static final int DEFAULT_DRAIN_LIMIT = 64 * 1024;
+
+		private boolean enabled = false;
+		private int drainLimit = DEFAULT_DRAIN_LIMIT;
+
+		public boolean enabled() {
+			return enabled;
+		}
+
+		public int drainLimit() {
+			return drainLimit;
+		}
+	}
+
 	public static class Builder {
 
 		private HttpClientRequestConfiguration configuration = new HttpClientRequestConfiguration();
@@ -148,10 +190,30 @@ public class HttpClientRequestConfiguration {
 			return this;
 		}
 
+		public Builder bufferRequestBody(boolean enabled) {
+			configuration.bufferRequestBody = enabled;
+			return this;
+		}
+
+		public Builder chunkSize(int chunkSize) {
+			isTrue(chunkSize > 0, "Chunk size must be positive.");
+			configuration.chunkSize = chunkSize;
+			return this;
+		}
+
 		public SslBuilder ssl() {
 			return new SslBuilder();
 		}
 
+		public KeepAliveBuilder keepAlive() {
+			return new KeepAliveBuilder();
+		}
+
+		public Builder keepAlive(boolean enabled) {
+			configuration.keepAlive().enabled = enabled;
+			return this;
+		}
+
 		public HttpClientRequestConfiguration build() {
 			return configuration;
 		}
@@ -198,5 +260,28 @@ public class HttpClientRequestConfiguration {
 				return Builder.this;
 			}
 		}
+
+		public class KeepAliveBuilder {
+
+			public KeepAliveBuilder enabled() {
+				configuration.keepAlive().enabled = true;
+				return this;
+			}
+
+			public Builder disabled() {
+				configuration.keepAlive().enabled = false;
+				return Builder.this;
+			}
+
+			public KeepAliveBuilder drainLimit(int drainLimit) {
+				isTrue(drainLimit >= 0, "Drain limit must be zero or positive.");
+				configuration.keepAlive().drainLimit = drainLimit;
+				return this;
+			}
+
+			public Builder and() {
+				return Builder.this;
+			}
+		}
 	}
 }
@@ -32,11 +32,20 @@ import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import com.github.ljtfreitas.restify.http.RestifyHttpException;
 import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.LazyHeaders;
 import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.jdk.HttpClientRequestConfiguration.HttpClientRequestKeepAliveConfiguration;
 import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.response.StatusCode;
 import com.github.ljtfreitas.restify.http.util.Tryable;
@@ -46,11 +55,25 @@ class JdkHttpClientRequest implements HttpClientRequest {
 	private final HttpURLConnection connection;
 	private final Charset charset;
 	private final Headers headers;
+	private final HttpClientRequestKeepAliveConfiguration keepAlive;
+	private final boolean bufferRequestBody;
+	private final int chunkSize;
 
-	public JdkHttpClientRequest(HttpURLConnection connection, Charset charset, Headers headers) {
+	private OutputStream output;
+
+	public JdkHttpClientRequest(HttpURLConnection connection, Charset charset, Headers headers,
+			HttpClientRequestKeepAliveConfiguration keepAlive) {
+		this(connection, charset, headers, keepAlive, true, 0);
+	}
+
+	public JdkHttpClientRequest(HttpURLConnection connection, Charset charset, Headers headers,
+			HttpClientRequestKeepAliveConfiguration keepAlive, boolean bufferRequestBody, int chunkSize) {
 		this.connection = connection;
 		this.charset = charset;
 		this.headers = new JdkHttpClientHeadersDecorator(connection, headers);
+		this.keepAlive = keepAlive;
+		this.bufferRequestBody = bufferRequestBody;
+		this.chunkSize = chunkSize;
 	}
 
 	@Override
@@ -69,16 +92,17 @@ class JdkHttpClientRequest implements HttpClientRequest {
 	private JdkHttpClientResponse responseOf(HttpURLConnection connection) throws IOException {
 		StatusCode statusCode = StatusCode.of(connection.getResponseCode(), connection.getResponseMessage());
 
-		Headers headers = new Headers();
+		Map<String, List<String>> fields = connection.getHeaderFields();
 
-		connection.getHeaderFields().entrySet().stream()
-			.filter(e -> e.getKey() != null && !e.getKey().equals(""))
-				.forEach(e -> headers.put(e.getKey(), e.getValue()));
+		Headers headers = new LazyHeaders(new HeaderFieldsIndex(fields),
+				consumer -> fields.entrySet().stream()
+					.filter(e -> e.getKey() != null && !e.getKey().equals(""))
+						.forEach(e -> e.getValue().forEach(value -> consumer.accept(e.getKey(), value))));
 
 		InputStream stream = Tryable.or(() -> connection.getErrorStream() == null ? connection.getInputStream() : connection.getErrorStream(),
 				new ByteArrayInputStream(new byte[0]));
 
-		return new JdkHttpClientResponse(statusCode, headers, stream, connection, this);
+		return new JdkHttpClientResponse(statusCode, headers, stream, connection, keepAlive, this);
 	}
 
 	@Override
@@ -93,7 +117,23 @@ class JdkHttpClientRequest implements HttpClientRequest {
 
 	@Override
 	public OutputStream output() {
-		return Tryable.of(() -> connection.getOutputStream());
+		if (output == null) {
+			if (!bufferRequestBody) {
+				streaming();
+			}
+			output = Tryable.of(() -> connection.getOutputStream());
+		}
+		return output;
+	}
+
+	private void streaming() {
+		Optional<Long> contentLength = headers.get(Headers.CONTENT_LENGTH).map(h -> Long.valueOf(h.value()));
+
+		if (contentLength.isPresent()) {
+			connection.setFixedLengthStreamingMode(contentLength.get());
+		} else {
+			connection.setChunkedStreamingMode(chunkSize);
+		}
 	}
 
 	@Override
@@ -140,4 +180,34 @@ class JdkHttpClientRequest implements HttpClientRequest {
 			connection.setRequestProperty(name, value);
 		}
 	}
+
+	private static class HeaderFieldsIndex implements Function<String, List<String>> {
+
+		private final Map<String, List<String>> fields;
+
+		private volatile Map<String, List<String>> index;
+
+		private HeaderFieldsIndex(Map<String, List<String>> fields) {
+			this.fields = fields;
+		}
+
+		@Override
+		public List<String> apply(String name) {
+			Map<String, List<String>> index = this.index;
+
+			if (index == null) {
+				index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+				for (Map.Entry<String, List<String>> field : fields.entrySet()) {
+					if (field.getKey() != null) {
+						index.computeIfAbsent(field.getKey(), k -> new ArrayList<>()).addAll(field.getValue());
+					}
+				}
+
+				this.index = index;
+			}
+
+			return index.getOrDefault(name, Collections.emptyList());
+		}
+	}
 }
@@ -68,7 +68,8 @@ public class JdkHttpClientRequestFactory implements HttpClientRequestFactory {
 
 			configure(request, connection);
 
-			return new JdkHttpClientRequest(connection, charset, request.headers());
+			return new JdkHttpClientRequest(connection, charset, request.headers(), httpClientRequestConfiguration.keepAlive(),
+					httpClientRequestConfiguration.bufferRequestBody(), httpClientRequestConfiguration.chunkSize());
 
 		} catch (IOException e) {
 			throw new RestifyHttpException(e);
@@ -86,7 +87,6 @@ public class JdkHttpClientRequestFactory implements HttpClientRequestFactory {
 	private void configure(EndpointRequest request, HttpURLConnection connection) throws IOException {
 		connection.setConnectTimeout(httpClientRequestConfiguration.connectionTimeout());
 		connection.setReadTimeout(httpClientRequestConfiguration.readTimeout());
-		connection.setReadTimeout(httpClientRequestConfiguration.readTimeout());
 		connection.setInstanceFollowRedirects(httpClientRequestConfiguration.followRedirects());
 		connection.setUseCaches(httpClientRequestConfiguration.useCaches());
 
@@ -31,21 +31,61 @@ import java.net.HttpURLConnection;
 
 import com.github.ljtfreitas.restify.http.client.Headers;
 import com.github.ljtfreitas.restify.http.client.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.request.jdk.HttpClientRequestConfiguration.HttpClientRequestKeepAliveConfiguration;
 import com.github.ljtfreitas.restify.http.client.response.BaseHttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.response.StatusCode;
 
 class JdkHttpClientResponse extends BaseHttpResponseMessage {
 
+	private static final int BUFFER_SIZE = 4096;
+
 	private final HttpURLConnection connection;
+	private final HttpClientRequestKeepAliveConfiguration keepAlive;
 
-	JdkHttpClientResponse(StatusCode statusCode, Headers headers, InputStream body, HttpURLConnection connection, HttpRequestMessage httpRequest) {
+	JdkHttpClientResponse(StatusCode statusCode, Headers headers, InputStream body, HttpURLConnection connection,
+			HttpClientRequestKeepAliveConfiguration keepAlive, HttpRequestMessage httpRequest) {
 		super(statusCode, headers, body, httpRequest);
 		this.connection = connection;
+		this.keepAlive = keepAlive;
 	}
 
 	@Override
 	public void close() throws IOException {
-		connection.disconnect();
+		if (keepAlive.enabled()) {
+			release();
+		} else {
+			connection.disconnect();
+		}
+	}
+
+	private void release() {
+		InputStream stream = body();
+
+		try {
+			if (drain(stream)) {
+				stream.close();
+			} else {
+				connection.disconnect();
+			}
+
+		} catch (IOException e) {
+			connection.disconnect();
+		}
 	}
 
+	private boolean drain(InputStream stream) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		long drained = 0;
+		int read;
+
+		while ((read = stream.read(buffer)) != -1) {
+			drained += read;
+			if (drained > keepAlive.drainLimit()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
 }
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LoopbackFixtures implements LoopbackHttpHandler {
+
+	private final Map<String, Map<String, LoopbackResponse>> fixtures = new ConcurrentHashMap<>();
+
+	private LoopbackResponse fallback = LoopbackResponse.status(404);
+
+	public LoopbackFixtures on(String method, String path, LoopbackResponse response) {
+		fixtures.computeIfAbsent(method.toUpperCase(), m -> new ConcurrentHashMap<>())
+			.put(path, nonNull(response, "LoopbackResponse cannot be null."));
+		return this;
+	}
+
+	public LoopbackFixtures fallback(LoopbackResponse response) {
+		this.fallback = nonNull(response, "LoopbackResponse cannot be null.");
+		return this;
+	}
+
+	@Override
+	public LoopbackResponse handle(LoopbackRequest request) {
+		Map<String, LoopbackResponse> responses = fixtures.get(request.method());
+
+		LoopbackResponse response = responses == null ? null : responses.get(request.path());
+
+		return response == null ? fallback : response;
+	}
+}
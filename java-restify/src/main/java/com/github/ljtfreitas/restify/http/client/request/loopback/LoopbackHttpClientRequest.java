@@ -0,0 +1,113 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+class LoopbackHttpClientRequest implements AsyncHttpClientRequest {
+
+	private static final byte[] EMPTY_BODY = new byte[0];
+
+	private final URI uri;
+	private final String method;
+	private final Headers headers;
+	private final LoopbackHttpHandler handler;
+	private final LoopbackHttpClientRequestConfiguration loopbackHttpClientRequestConfiguration;
+
+	private ByteArrayOutputStream body;
+
+	public LoopbackHttpClientRequest(URI uri, String method, Headers headers, LoopbackHttpHandler handler,
+			LoopbackHttpClientRequestConfiguration loopbackHttpClientRequestConfiguration) {
+		this.uri = uri;
+		this.method = method;
+		this.headers = headers;
+		this.handler = handler;
+		this.loopbackHttpClientRequestConfiguration = loopbackHttpClientRequestConfiguration;
+	}
+
+	@Override
+	public URI uri() {
+		return uri;
+	}
+
+	@Override
+	public String method() {
+		return method;
+	}
+
+	@Override
+	public OutputStream output() {
+		if (body == null) {
+			body = new ByteArrayOutputStream();
+		}
+		return body;
+	}
+
+	@Override
+	public Headers headers() {
+		return headers;
+	}
+
+	@Override
+	public Charset charset() {
+		return loopbackHttpClientRequestConfiguration.charset();
+	}
+
+	@Override
+	public HttpResponseMessage execute() throws RestifyHttpException {
+		long latency = loopbackHttpClientRequestConfiguration.latency();
+
+		if (latency > 0) {
+			LockSupport.parkNanos(latency);
+		}
+
+		LoopbackRequest request = new LoopbackRequest(uri, method, headers, body == null ? EMPTY_BODY : body.toByteArray(),
+				loopbackHttpClientRequestConfiguration.charset());
+
+		try {
+			return new LoopbackHttpClientResponse(handler.handle(request), this);
+
+		} catch (IOException e) {
+			throw new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e);
+		}
+	}
+
+	@Override
+	public CompletableFuture<HttpResponseMessage> executeAsync() throws RestifyHttpException {
+		return CompletableFuture.supplyAsync(this::execute, loopbackHttpClientRequestConfiguration.executor());
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+
+public class LoopbackHttpClientRequestConfiguration {
+
+	private long minLatency = 0;
+	private long maxLatency = 0;
+	private Executor executor = Runnable::run;
+	private Charset charset = Encoding.UTF_8.charset();
+
+	private LoopbackHttpClientRequestConfiguration() {
+	}
+
+	public long latency() {
+		return minLatency == maxLatency ? minLatency : ThreadLocalRandom.current().nextLong(minLatency, maxLatency + 1);
+	}
+
+	public Executor executor() {
+		return executor;
+	}
+
+	public Charset charset() {
+		return charset;
+	}
+
+	public static LoopbackHttpClientRequestConfiguration useDefault() {
+		return new LoopbackHttpClientRequestConfiguration();
+	}
+
+	public static class Builder {
+
+		private LoopbackHttpClientRequestConfiguration configuration = new LoopbackHttpClientRequestConfiguration();
+
+		public Builder latency(Duration latency) {
+			return latency(latency, latency);
+		}
+
+		public Builder latency(Duration min, Duration max) {
+			isTrue(!min.isNegative() && min.compareTo(max) <= 0, "Latency must be positive, and min latency cannot be greater than max latency.");
+			configuration.minLatency = min.toNanos();
+			configuration.maxLatency = max.toNanos();
+			return this;
+		}
+
+		public Builder executor(Executor executor) {
+			configuration.executor = nonNull(executor, "Executor cannot be null.");
+			return this;
+		}
+
+		public Builder charset(Charset charset) {
+			configuration.charset = nonNull(charset, "Charset cannot be null.");
+			return this;
+		}
+
+		public LoopbackHttpClientRequestConfiguration build() {
+			return configuration;
+		}
+	}
+}
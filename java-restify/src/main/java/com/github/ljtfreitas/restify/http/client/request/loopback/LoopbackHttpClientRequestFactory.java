@@ -0,0 +1,52 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class LoopbackHttpClientRequestFactory implements AsyncHttpClientRequestFactory {
+
+	private final LoopbackHttpHandler handler;
+	private final LoopbackHttpClientRequestConfiguration loopbackHttpClientRequestConfiguration;
+
+	public LoopbackHttpClientRequestFactory(LoopbackHttpHandler handler) {
+		this(handler, LoopbackHttpClientRequestConfiguration.useDefault());
+	}
+
+	public LoopbackHttpClientRequestFactory(LoopbackHttpHandler handler, LoopbackHttpClientRequestConfiguration loopbackHttpClientRequestConfiguration) {
+		this.handler = nonNull(handler, "LoopbackHttpHandler cannot be null.");
+		this.loopbackHttpClientRequestConfiguration = nonNull(loopbackHttpClientRequestConfiguration, "LoopbackHttpClientRequestConfiguration cannot be null.");
+	}
+
+	@Override
+	public LoopbackHttpClientRequest createOf(EndpointRequest endpointRequest) {
+		return new LoopbackHttpClientRequest(endpointRequest.endpoint(), endpointRequest.method(), endpointRequest.headers(),
+				handler, loopbackHttpClientRequestConfiguration);
+	}
+}
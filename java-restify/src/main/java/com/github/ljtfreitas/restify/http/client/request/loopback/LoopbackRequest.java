@@ -0,0 +1,81 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+
+import com.github.ljtfreitas.restify.http.client.Headers;
+
+public class LoopbackRequest {
+
+	private final URI uri;
+	private final String method;
+	private final Headers headers;
+	private final byte[] body;
+	private final Charset charset;
+
+	public LoopbackRequest(URI uri, String method, Headers headers, byte[] body, Charset charset) {
+		this.uri = uri;
+		this.method = method;
+		this.headers = headers;
+		this.body = body;
+		this.charset = charset;
+	}
+
+	public URI uri() {
+		return uri;
+	}
+
+	public String path() {
+		return uri.getRawPath();
+	}
+
+	public String method() {
+		return method;
+	}
+
+	public Headers headers() {
+		return headers;
+	}
+
+	public byte[] body() {
+		return body;
+	}
+
+	public String bodyAsString() {
+		return new String(body, charset);
+	}
+
+	public Charset charset() {
+		return charset;
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + uri;
+	}
+}
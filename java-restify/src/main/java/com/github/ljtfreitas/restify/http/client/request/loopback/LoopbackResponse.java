@@ -0,0 +1,113 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.nio.charset.Charset;
+
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+import com.github.ljtfreitas.restify.http.client.response.StatusCode;
+
+public class LoopbackResponse {
+
+	private static final byte[] EMPTY_BODY = new byte[0];
+
+	private final StatusCode statusCode;
+	private final Headers headers;
+	private final byte[] body;
+
+	private LoopbackResponse(StatusCode statusCode, Headers headers, byte[] body) {
+		this.statusCode = statusCode;
+		this.headers = headers;
+		this.body = body;
+	}
+
+	public StatusCode statusCode() {
+		return statusCode;
+	}
+
+	public Headers headers() {
+		return headers;
+	}
+
+	public byte[] body() {
+		return body;
+	}
+
+	public static LoopbackResponse status(int status) {
+		return new Builder().status(status).build();
+	}
+
+	public static LoopbackResponse ok(String body, String contentType) {
+		return new Builder().header(Headers.CONTENT_TYPE, contentType).body(body).build();
+	}
+
+	public static class Builder {
+
+		private StatusCode statusCode = StatusCode.ok();
+		private Headers headers = new Headers();
+		private byte[] body = EMPTY_BODY;
+		private Charset charset = Encoding.UTF_8.charset();
+
+		public Builder status(int status) {
+			this.statusCode = StatusCode.of(status);
+			return this;
+		}
+
+		public Builder status(StatusCode statusCode) {
+			this.statusCode = nonNull(statusCode, "StatusCode cannot be null.");
+			return this;
+		}
+
+		public Builder header(String name, String value) {
+			headers.put(name, value);
+			return this;
+		}
+
+		public Builder charset(Charset charset) {
+			this.charset = nonNull(charset, "Charset cannot be null.");
+			return this;
+		}
+
+		public Builder body(byte[] body) {
+			this.body = nonNull(body, "Body cannot be null.");
+			return this;
+		}
+
+		public Builder body(String body) {
+			this.body = nonNull(body, "Body cannot be null.").getBytes(charset);
+			return this;
+		}
+
+		public LoopbackResponse build() {
+			Headers responseHeaders = new Headers(headers);
+			responseHeaders.replace(Headers.CONTENT_LENGTH, Integer.toString(body.length));
+			return new LoopbackResponse(statusCode, responseHeaders, body);
+		}
+	}
+}
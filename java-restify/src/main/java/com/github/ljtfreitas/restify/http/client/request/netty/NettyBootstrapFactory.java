@@ -25,18 +25,10 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.netty;
 
-import java.util.concurrent.TimeUnit;
-
 import io.netty.bootstrap.Bootstrap;
-import io.netty.channel.ChannelInitializer;
-import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.SocketChannelConfig;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.http.HttpClientCodec;
-import io.netty.handler.codec.http.HttpObjectAggregator;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 
 class NettyBootstrapFactory {
 
@@ -51,29 +43,23 @@ class NettyBootstrapFactory {
 	public Bootstrap create() {
 		Bootstrap bootstrap = new Bootstrap();
 
+		boolean epoll = NettyEpollTransport.supports(eventLoopGroup);
+
 		bootstrap.group(this.eventLoopGroup)
-			.channel(NioSocketChannel.class)
-				.handler(new NettyChannelInitializer());
+			.channel(epoll ? NettyEpollTransport.channelType() : NioSocketChannel.class)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, nettyHttpClientRequestConfiguration.connectionTimeout())
+				.option(ChannelOption.TCP_NODELAY, nettyHttpClientRequestConfiguration.tcpNoDelay())
+				.option(ChannelOption.SO_KEEPALIVE, nettyHttpClientRequestConfiguration.soKeepAlive())
+				.option(ChannelOption.ALLOCATOR, nettyHttpClientRequestConfiguration.allocator());
 
 		return bootstrap;
 	}
 
-	private class NettyChannelInitializer extends ChannelInitializer<SocketChannel> {
-
-		@Override
-		protected void initChannel(SocketChannel channel) throws Exception {
-			configure(channel.config());
-			ChannelPipeline pipeline = channel.pipeline();
-
-			nettyHttpClientRequestConfiguration.sslContext().ifPresent(sslContext -> pipeline.addLast(sslContext.newHandler(channel.alloc())));
-
-			pipeline.addLast(new HttpClientCodec());
-			pipeline.addLast(new HttpObjectAggregator(nettyHttpClientRequestConfiguration.maxResponseSize()));
-			pipeline.addLast(new ReadTimeoutHandler(nettyHttpClientRequestConfiguration.readTimeout(), TimeUnit.MILLISECONDS));
-		}
-
-		private void configure(SocketChannelConfig channelConfiguration) {
-			channelConfiguration.setConnectTimeoutMillis(nettyHttpClientRequestConfiguration.connectionTimeout());
-		}
+	public Bootstrap createDomainSocket() {
+		return new Bootstrap()
+			.group(this.eventLoopGroup)
+			.channel(NettyEpollTransport.domainSocketChannelType())
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, nettyHttpClientRequestConfiguration.connectionTimeout())
+				.option(ChannelOption.ALLOCATOR, nettyHttpClientRequestConfiguration.allocator());
 	}
 }
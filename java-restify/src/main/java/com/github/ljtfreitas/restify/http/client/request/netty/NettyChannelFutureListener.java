@@ -25,31 +25,59 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.netty;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelFutureListener;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
 
-class NettyChannelFutureListener implements ChannelFutureListener {
+class NettyChannelFutureListener implements FutureListener<Channel> {
 
 	private final HttpRequest nettyHttpRequest;
 	private final NettyRequestExecuteHandler nettyRequestExecuteHandler;
+	private final long readTimeout;
+	private final CompletableFuture<Channel> channelOnFuture;
+
+	public NettyChannelFutureListener(HttpRequest nettyHttpRequest, NettyRequestExecuteHandler nettyRequestExecuteHandler, long readTimeout) {
+		this(nettyHttpRequest, nettyRequestExecuteHandler, readTimeout, new CompletableFuture<>());
+	}
 
-	public NettyChannelFutureListener(HttpRequest nettyHttpRequest, NettyRequestExecuteHandler nettyRequestExecuteHandler) {
+	public NettyChannelFutureListener(HttpRequest nettyHttpRequest, NettyRequestExecuteHandler nettyRequestExecuteHandler, long readTimeout,
+			CompletableFuture<Channel> channelOnFuture) {
 		this.nettyHttpRequest = nettyHttpRequest;
 		this.nettyRequestExecuteHandler = nettyRequestExecuteHandler;
+		this.readTimeout = readTimeout;
+		this.channelOnFuture = channelOnFuture;
 	}
 
 	@Override
-	public void operationComplete(ChannelFuture channelFuture) throws Exception {
+	public void operationComplete(Future<Channel> channelFuture) throws Exception {
 		if (channelFuture.isSuccess()) {
-			Channel channel = channelFuture.channel();
+			Channel channel = channelFuture.getNow();
+
+			if (readTimeout > 0) {
+				channel.pipeline().addLast(NettyRequestExecuteHandler.READ_TIMEOUT_HANDLER, new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS));
+			}
+
 			channel.pipeline().addLast(nettyRequestExecuteHandler);
 
-			channel.writeAndFlush(nettyHttpRequest);
+			channel.writeAndFlush(nettyHttpRequest).addListener(writeFuture -> {
+				if (!writeFuture.isSuccess()) {
+					nettyRequestExecuteHandler.exceptionCaught(null, writeFuture.cause());
+				}
+			});
+
+			channelOnFuture.complete(channel);
 
 		} else {
+			ReferenceCountUtil.release(nettyHttpRequest);
 			nettyRequestExecuteHandler.exceptionCaught(null, channelFuture.cause());
+
+			channelOnFuture.completeExceptionally(channelFuture.cause());
 		}
 	}
 
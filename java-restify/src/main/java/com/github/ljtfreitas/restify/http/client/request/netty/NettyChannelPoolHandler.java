@@ -0,0 +1,106 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+
+class NettyChannelPoolHandler implements ChannelPoolHandler {
+
+	private static final String IDLE_STATE_HANDLER = "idleState";
+	private static final String IDLE_CHANNEL_HANDLER = "idleChannel";
+
+	private final NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration;
+	private final boolean domainSocket;
+
+	public NettyChannelPoolHandler(NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
+		this(nettyHttpClientRequestConfiguration, false);
+	}
+
+	public NettyChannelPoolHandler(NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration, boolean domainSocket) {
+		this.nettyHttpClientRequestConfiguration = nettyHttpClientRequestConfiguration;
+		this.domainSocket = domainSocket;
+	}
+
+	@Override
+	public void channelCreated(Channel channel) throws Exception {
+		ChannelPipeline pipeline = channel.pipeline();
+
+		if (!domainSocket) {
+			nettyHttpClientRequestConfiguration.resolver().ifPresent(resolver -> pipeline.addLast(new NettyEndpointAddressResolverHandler(resolver)));
+
+			nettyHttpClientRequestConfiguration.sslContext().ifPresent(sslContext -> pipeline.addLast(sslContext.newHandler(channel.alloc())));
+		}
+
+		pipeline.addLast(new HttpClientCodec());
+
+		if (!nettyHttpClientRequestConfiguration.streaming()) {
+			pipeline.addLast(new HttpObjectAggregator(nettyHttpClientRequestConfiguration.maxResponseSize()));
+		}
+	}
+
+	@Override
+	public void channelAcquired(Channel channel) throws Exception {
+		ChannelPipeline pipeline = channel.pipeline();
+
+		if (pipeline.get(IDLE_STATE_HANDLER) != null) {
+			pipeline.remove(IDLE_STATE_HANDLER);
+			pipeline.remove(IDLE_CHANNEL_HANDLER);
+		}
+	}
+
+	@Override
+	public void channelReleased(Channel channel) throws Exception {
+		int idleTimeout = nettyHttpClientRequestConfiguration.idleTimeout();
+
+		if (idleTimeout > 0 && channel.isActive()) {
+			channel.pipeline()
+				.addLast(IDLE_STATE_HANDLER, new IdleStateHandler(0, 0, idleTimeout, TimeUnit.MILLISECONDS))
+				.addLast(IDLE_CHANNEL_HANDLER, new IdleChannelHandler());
+		}
+	}
+
+	private class IdleChannelHandler extends ChannelInboundHandlerAdapter {
+
+		@Override
+		public void userEventTriggered(ChannelHandlerContext context, Object event) throws Exception {
+			if (event instanceof IdleStateEvent) {
+				context.close();
+			} else {
+				super.userEventTriggered(context, event);
+			}
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.pool.AbstractChannelPoolMap;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.pool.FixedChannelPool.AcquireTimeoutAction;
+import io.netty.util.concurrent.Future;
+
+class NettyChannelPools implements Closeable {
+
+	private static final String HTTP_SCHEME = "http";
+	private static final String HTTPS_SCHEME = "https";
+
+	private static final int HTTP_SCHEME_PORT = 80;
+	private static final int HTTPS_SCHEME_PORT = 443;
+
+	private final AbstractChannelPoolMap<SocketAddress, FixedChannelPool> pools;
+
+	public NettyChannelPools(NettyBootstrapFactory nettyBootstrapFactory, NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
+		this.pools = new NettyChannelPoolMap(nettyBootstrapFactory, nettyHttpClientRequestConfiguration);
+	}
+
+	public ChannelPool of(URI uri) {
+		return pools.get(InetSocketAddress.createUnresolved(uri.getHost(), port(uri)));
+	}
+
+	public ChannelPool of(NettyDomainSocketEndpoint endpoint) {
+		return pools.get(NettyEpollTransport.domainSocketAddress(endpoint.socket()));
+	}
+
+	public void warmup(ChannelPool pool, int connections, long timeout) {
+		List<Future<Channel>> channels = IntStream.range(0, connections)
+				.mapToObj(i -> pool.acquire())
+					.collect(Collectors.toList());
+
+		long deadline = System.currentTimeMillis() + timeout;
+
+		channels.forEach(channel -> channel.awaitUninterruptibly(Math.max(0, deadline - System.currentTimeMillis())));
+
+		channels.forEach(channel -> channel.addListener(f -> {
+			if (f.isSuccess()) {
+				pool.release(channel.getNow());
+			}
+		}));
+	}
+
+	private int port(URI uri) {
+		int port = uri.getPort();
+
+		if (port == -1) {
+			if (HTTP_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+				port = HTTP_SCHEME_PORT;
+
+			} else if (HTTPS_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+				port = HTTPS_SCHEME_PORT;
+			}
+		}
+
+		return port;
+	}
+
+	@Override
+	public void close() {
+		pools.close();
+	}
+
+	private class NettyChannelPoolMap extends AbstractChannelPoolMap<SocketAddress, FixedChannelPool> {
+
+		private final NettyBootstrapFactory nettyBootstrapFactory;
+		private final Bootstrap bootstrap;
+		private final NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration;
+		private final NettyChannelPoolHandler nettyChannelPoolHandler;
+		private final NettyChannelPoolHandler nettyDomainSocketChannelPoolHandler;
+
+		private NettyChannelPoolMap(NettyBootstrapFactory nettyBootstrapFactory, NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
+			this.nettyBootstrapFactory = nettyBootstrapFactory;
+			this.bootstrap = nettyBootstrapFactory.create();
+			this.nettyHttpClientRequestConfiguration = nettyHttpClientRequestConfiguration;
+			this.nettyChannelPoolHandler = new NettyChannelPoolHandler(nettyHttpClientRequestConfiguration);
+			this.nettyDomainSocketChannelPoolHandler = new NettyChannelPoolHandler(nettyHttpClientRequestConfiguration, true);
+		}
+
+		@Override
+		protected FixedChannelPool newPool(SocketAddress address) {
+			if (address instanceof InetSocketAddress) {
+				InetSocketAddress inetAddress = (InetSocketAddress) address;
+
+				Bootstrap bootstrap = nettyHttpClientRequestConfiguration.resolver().isPresent() ?
+						this.bootstrap.clone().remoteAddress(inetAddress) :
+						this.bootstrap.clone().remoteAddress(inetAddress.getHostString(), inetAddress.getPort());
+
+				return newPool(bootstrap, nettyChannelPoolHandler);
+
+			} else {
+				return newPool(nettyBootstrapFactory.createDomainSocket().remoteAddress(address), nettyDomainSocketChannelPoolHandler);
+			}
+		}
+
+		private FixedChannelPool newPool(Bootstrap bootstrap, NettyChannelPoolHandler nettyChannelPoolHandler) {
+			int acquireTimeout = nettyHttpClientRequestConfiguration.acquireTimeout();
+
+			return new FixedChannelPool(bootstrap,
+					nettyChannelPoolHandler,
+					ChannelHealthChecker.ACTIVE,
+					acquireTimeout > 0 ? AcquireTimeoutAction.FAIL : null,
+					acquireTimeout > 0 ? acquireTimeout : -1,
+					nettyHttpClientRequestConfiguration.maxConnectionsPerHost(),
+					nettyHttpClientRequestConfiguration.maxPendingAcquires());
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Endpoint of an unix domain socket: the socket configured on the factory, or the (encoded) authority of an uri with
+ * the unix scheme (<code>unix://%2Fvar%2Frun%2Fenvoy.sock/path</code>).
+ */
+class NettyDomainSocketEndpoint {
+
+	static final String SCHEME = "unix";
+
+	private static final String LOCALHOST = "localhost";
+
+	private final String socket;
+	private final String target;
+	private final String host;
+
+	private NettyDomainSocketEndpoint(String socket, String target, String host) {
+		this.socket = socket;
+		this.target = target;
+		this.host = host;
+	}
+
+	public String socket() {
+		return socket;
+	}
+
+	public String target() {
+		return target;
+	}
+
+	public String host() {
+		return host;
+	}
+
+	static Optional<NettyDomainSocketEndpoint> of(URI uri, NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
+		if (SCHEME.equalsIgnoreCase(uri.getScheme())) {
+			return Optional.of(of(uri));
+
+		} else {
+			return nettyHttpClientRequestConfiguration.domainSocket()
+					.map(socket -> new NettyDomainSocketEndpoint(socket, target(uri),
+							uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort()));
+		}
+	}
+
+	static NettyDomainSocketEndpoint of(URI uri) {
+		if (uri.getRawAuthority() == null || uri.getRawAuthority().isEmpty()) {
+			throw new IllegalArgumentException("The unix socket path must be the encoded authority of the endpoint "
+					+ "(like unix://%2Fvar%2Frun%2Fenvoy.sock/path): [" + uri + "]");
+		}
+
+		return new NettyDomainSocketEndpoint(uri.getAuthority(), target(uri), LOCALHOST);
+	}
+
+	private static String target(URI uri) {
+		String target = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+		return uri.getRawQuery() == null ? target : target + "?" + uri.getRawQuery();
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.CompletionException;
+
+import com.github.ljtfreitas.restify.http.client.request.resolver.EndpointAddressResolver;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+class NettyEndpointAddressResolverHandler extends ChannelOutboundHandlerAdapter {
+
+	private final EndpointAddressResolver resolver;
+
+	public NettyEndpointAddressResolverHandler(EndpointAddressResolver resolver) {
+		this.resolver = resolver;
+	}
+
+	@Override
+	public void connect(ChannelHandlerContext context, SocketAddress remoteAddress, SocketAddress localAddress, ChannelPromise promise) {
+		if (remoteAddress instanceof InetSocketAddress && ((InetSocketAddress) remoteAddress).isUnresolved()) {
+			InetSocketAddress unresolved = (InetSocketAddress) remoteAddress;
+
+			resolver.resolve(unresolved.getHostString()).whenComplete((addresses, e) -> {
+				if (e == null) {
+					context.connect(new InetSocketAddress(addresses.get(0), unresolved.getPort()), localAddress, promise);
+				} else {
+					promise.tryFailure(e instanceof CompletionException ? e.getCause() : e);
+				}
+			});
+
+		} else {
+			context.connect(remoteAddress, localAddress, promise);
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.net.SocketAddress;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.DomainSocketChannel;
+
+class NettyEpollTransport {
+
+	private static final String EPOLL_CLASS_NAME = "io.netty.channel.epoll.Epoll";
+
+	private static final boolean AVAILABLE = check();
+
+	static boolean available() {
+		return AVAILABLE;
+	}
+
+	static EventLoopGroup eventLoopGroup(int threads) {
+		return new EpollEventLoopGroup(threads);
+	}
+
+	static boolean supports(EventLoopGroup eventLoopGroup) {
+		return AVAILABLE && eventLoopGroup instanceof EpollEventLoopGroup;
+	}
+
+	static Class<? extends SocketChannel> channelType() {
+		return EpollSocketChannel.class;
+	}
+
+	static Class<? extends DomainSocketChannel> domainSocketChannelType() {
+		return EpollDomainSocketChannel.class;
+	}
+
+	static SocketAddress domainSocketAddress(String path) {
+		return new DomainSocketAddress(path);
+	}
+
+	private static boolean check() {
+		try {
+			Class.forName(EPOLL_CLASS_NAME, false, NettyEpollTransport.class.getClassLoader());
+			return Epoll.isAvailable();
+
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -30,8 +30,23 @@ import io.netty.channel.nio.NioEventLoopGroup;
 
 class NettyEventLoopGroupFactory {
 
+	private final NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration;
+
+	public NettyEventLoopGroupFactory() {
+		this(NettyHttpClientRequestConfiguration.useDefault());
+	}
+
+	public NettyEventLoopGroupFactory(NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
+		this.nettyHttpClientRequestConfiguration = nettyHttpClientRequestConfiguration;
+	}
+
 	public EventLoopGroup create() {
-		return new NioEventLoopGroup(availableProcessors());
+		if (nettyHttpClientRequestConfiguration.epoll() && NettyEpollTransport.available()) {
+			return NettyEpollTransport.eventLoopGroup(availableProcessors());
+
+		} else {
+			return new NioEventLoopGroup(availableProcessors());
+		}
 	}
 
 	private int availableProcessors() {
@@ -25,50 +25,62 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.netty;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import com.github.ljtfreitas.restify.http.RestifyHttpException;
 import com.github.ljtfreitas.restify.http.client.Headers;
-import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
 import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.util.Tryable;
 
-import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
-import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.concurrent.FutureListener;
 
-class NettyHttpClientRequest implements HttpClientRequest {
+class NettyHttpClientRequest implements AsyncHttpClientRequest {
 
-	private static final String HTTP_SCHEME = "http";
-	private static final String HTTPS_SCHEME = "https";
-
-	private static final int HTTP_SCHEME_PORT = 80;
-	private static final int HTTPS_SCHEME_PORT = 443;
-	
-	private final Bootstrap bootstrap;
+	private final NettyChannelPools channelPools;
 	private final URI uri;
 	private final Headers headers;
 	private final String method;
-	private final Charset charset;
-	private final ByteBufOutputStream body;
+	private final NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration;
+	private final Optional<NettyDomainSocketEndpoint> domainSocketEndpoint;
+
+	private ByteBufOutputStream body;
+	private NettyRequestOutputStream streamingBody;
 
-	public NettyHttpClientRequest(Bootstrap bootstrap, URI uri, Headers headers, String method, Charset charset) {
-		this.bootstrap = bootstrap;
+	private NettyRequestExecuteHandler nettyRequestExecuteHandler;
+	private CompletableFuture<NettyHttpClientResponse> responseOnFuture;
+
+	public NettyHttpClientRequest(NettyChannelPools channelPools, URI uri, Headers headers, String method,
+			NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
+		this(channelPools, uri, headers, method, nettyHttpClientRequestConfiguration, Optional.empty());
+	}
+
+	public NettyHttpClientRequest(NettyChannelPools channelPools, URI uri, Headers headers, String method,
+			NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration, Optional<NettyDomainSocketEndpoint> domainSocketEndpoint) {
+		this.channelPools = channelPools;
 		this.uri = uri;
 		this.headers = headers;
 		this.method = method;
-		this.charset = charset;
-		this.body = new ByteBufOutputStream(Unpooled.buffer());
+		this.nettyHttpClientRequestConfiguration = nettyHttpClientRequestConfiguration;
+		this.domainSocketEndpoint = domainSocketEndpoint;
 	}
 
 	@Override
@@ -83,7 +95,19 @@ class NettyHttpClientRequest implements HttpClientRequest {
 
 	@Override
 	public OutputStream output() {
-		return body;
+		if (nettyHttpClientRequestConfiguration.bufferRequestBody()) {
+			if (body == null) {
+				body = new ByteBufOutputStream(nettyHttpClientRequestConfiguration.allocator().buffer());
+			}
+			return body;
+
+		} else {
+			if (streamingBody == null) {
+				streamingBody = new NettyRequestOutputStream(this, nettyHttpClientRequestConfiguration.allocator(),
+						nettyHttpClientRequestConfiguration.chunkSize());
+			}
+			return streamingBody;
+		}
 	}
 
 	@Override
@@ -93,60 +117,131 @@ class NettyHttpClientRequest implements HttpClientRequest {
 
 	@Override
 	public Charset charset() {
-		return charset;
+		return nettyHttpClientRequestConfiguration.charset();
 	}
 
 	@Override
 	public HttpResponseMessage execute() throws RestifyHttpException {
-		final CompletableFuture<NettyHttpClientResponse> responseOnFuture = new CompletableFuture<>();
+		try {
+			return executeAsync().get();
 
-		NettyRequestExecuteHandler nettyRequestExecuteHandler = new NettyRequestExecuteHandler(responseOnFuture, this);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RestifyHttpException ? (RestifyHttpException) e.getCause() :
+				new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e.getCause());
 
-		ChannelFutureListener connectionListener = new NettyChannelFutureListener(nettyHttpRequest(), nettyRequestExecuteHandler);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e);
+		}
+	}
 
-		bootstrap.connect(uri.getHost(), port())
-				.addListener(connectionListener);
+	@Override
+	public CompletableFuture<HttpResponseMessage> executeAsync() throws RestifyHttpException {
+		if (streamingBody != null) {
+			try {
+				streamingBody.close();
 
-		try {
-			return responseOnFuture.get();
+			} catch (IOException e) {
+				throw new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e);
+			}
 
-		} catch (InterruptedException | ExecutionException e) {
-			throw new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e);
+		} else {
+			send(nettyHttpRequest(), nettyHttpClientRequestConfiguration.readTimeout(), new CompletableFuture<>());
 		}
+
+		return responseOnFuture.<HttpResponseMessage> thenApply(r -> r)
+				.exceptionally(e -> {
+					throw new RestifyHttpException("I/O error on HTTP request: [" + method + " " + uri + "]", e);
+				});
 	}
 
-	private int port() {
-		int port = uri.getPort();
+	Channel connect() throws IOException {
+		CompletableFuture<Channel> channelOnFuture = new CompletableFuture<>();
 
-		if (port == -1) {
-			if (HTTP_SCHEME.equalsIgnoreCase(uri.getScheme())) {
-				port = HTTP_SCHEME_PORT;
+		send(nettyHttpRequestHead(), 0, channelOnFuture);
 
-			} else if (HTTPS_SCHEME.equalsIgnoreCase(uri.getScheme())) {
-				port = HTTPS_SCHEME_PORT;
-			}
+		try {
+			return channelOnFuture.get();
+
+		} catch (ExecutionException e) {
+			throw new IOException("I/O error on HTTP request: [" + method + " " + uri + "]", e.getCause());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("I/O error on HTTP request: [" + method + " " + uri + "]", e);
 		}
+	}
 
-		return port;
+	void sent() {
+		nettyRequestExecuteHandler.readTimeout(nettyHttpClientRequestConfiguration.readTimeout());
+	}
+
+	void abort(Throwable cause) {
+		if (nettyRequestExecuteHandler != null) {
+			Tryable.run(() -> nettyRequestExecuteHandler.exceptionCaught(null, cause));
+		}
+	}
+
+	private void send(HttpRequest nettyHttpRequest, long readTimeout, CompletableFuture<Channel> channelOnFuture) {
+		ChannelPool channelPool = domainSocketEndpoint.map(channelPools::of).orElseGet(() -> channelPools.of(uri));
+
+		responseOnFuture = new CompletableFuture<>();
+
+		nettyRequestExecuteHandler = new NettyRequestExecuteHandler(responseOnFuture, this, channelPool,
+				nettyHttpClientRequestConfiguration);
+
+		FutureListener<Channel> acquireListener = new NettyChannelFutureListener(nettyHttpRequest, nettyRequestExecuteHandler,
+				readTimeout, channelOnFuture);
+
+		channelPool.acquire()
+				.addListener(acquireListener);
 	}
 
 	private HttpRequest nettyHttpRequest() {
 		HttpMethod nettyMethod = HttpMethod.valueOf(method);
 
-		ByteBuf bodyBuffer = body.buffer();
+		ByteBuf bodyBuffer = body == null ? Unpooled.EMPTY_BUFFER : body.buffer();
 
 		FullHttpRequest nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, nettyMethod,
-				uri.toString(), bodyBuffer);
+				target(), bodyBuffer);
 
-		nettyRequest.headers().set(Headers.HOST, uri.getHost());
-		nettyRequest.headers().set(Headers.CONNECTION, "close");
+		headersOf(nettyRequest);
 
 		if (bodyBuffer.readableBytes() != 0) {
 			nettyRequest.headers().set(Headers.CONTENT_LENGTH, bodyBuffer.readableBytes());
 		}
 
-		headers.all().forEach(header -> nettyRequest.headers().add(header.name(), header.value()));
+		return nettyRequest;
+	}
+
+	private HttpRequest nettyHttpRequestHead() {
+		HttpRequest nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.valueOf(method), target());
+
+		headersOf(nettyRequest);
+
+		if (!headers.get(Headers.CONTENT_LENGTH).isPresent()) {
+			HttpHeaders.setTransferEncodingChunked(nettyRequest);
+		}
 
 		return nettyRequest;
 	}
+
+	private String target() {
+		return domainSocketEndpoint.map(NettyDomainSocketEndpoint::target).orElseGet(uri::toString);
+	}
+
+	private String host() {
+		return domainSocketEndpoint.map(NettyDomainSocketEndpoint::host)
+				.orElseGet(() -> uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort());
+	}
+
+	private void headersOf(HttpRequest nettyRequest) {
+		nettyRequest.headers().set(Headers.HOST, host());
+
+		if (!nettyHttpClientRequestConfiguration.keepAlive()) {
+			nettyRequest.headers().set(Headers.CONNECTION, "close");
+		}
+
+		headers.all().forEach(header -> nettyRequest.headers().add(header.name(), header.value()));
+	}
 }
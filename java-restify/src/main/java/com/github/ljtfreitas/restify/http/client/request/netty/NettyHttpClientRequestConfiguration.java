@@ -25,23 +25,53 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.netty;
 
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Optional;
 
 import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+import com.github.ljtfreitas.restify.http.client.request.resolver.EndpointAddressResolver;
 
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.ssl.SslContext;
 
 public class NettyHttpClientRequestConfiguration {
 
 	private static final int DEFAULT_MAX_RESPONSE_SIZE = 1024 * 1024 * 10;
+	private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 20;
+	private static final int DEFAULT_MAX_PENDING_ACQUIRES = 1000;
+	private static final int DEFAULT_IDLE_TIMEOUT = 60 * 1000;
+	private static final int DEFAULT_STREAMING_BUFFER_SIZE = 1024 * 64;
+	private static final int DEFAULT_CHUNK_SIZE = 1024 * 8;
 
 	private int connectionTimeout = 0;
 	private int readTimeout = 0;
 	private int maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
 
+	private boolean keepAlive = true;
+	private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+	private int maxPendingAcquires = DEFAULT_MAX_PENDING_ACQUIRES;
+	private int acquireTimeout = 0;
+	private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+	private boolean streaming = false;
+	private int streamingBufferSize = DEFAULT_STREAMING_BUFFER_SIZE;
+
+	private boolean bufferRequestBody = true;
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	private boolean epoll = false;
+	private boolean tcpNoDelay = true;
+	private boolean soKeepAlive = false;
+	private ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+
 	private SslContext sslContext = null;
+	private EndpointAddressResolver resolver = null;
+	private String domainSocket = null;
 	private Charset charset = Encoding.UTF_8.charset();
 
 	private NettyHttpClientRequestConfiguration() {
@@ -59,10 +89,70 @@ public class NettyHttpClientRequestConfiguration {
 		return maxResponseSize;
 	}
 
+	public boolean keepAlive() {
+		return keepAlive;
+	}
+
+	public int maxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+
+	public int maxPendingAcquires() {
+		return maxPendingAcquires;
+	}
+
+	public int acquireTimeout() {
+		return acquireTimeout;
+	}
+
+	public int idleTimeout() {
+		return idleTimeout;
+	}
+
+	public boolean streaming() {
+		return streaming;
+	}
+
+	public int streamingBufferSize() {
+		return streamingBufferSize;
+	}
+
+	public boolean bufferRequestBody() {
+		return bufferRequestBody;
+	}
+
+	public int chunkSize() {
+		return chunkSize;
+	}
+
+	public boolean epoll() {
+		return epoll;
+	}
+
+	public boolean tcpNoDelay() {
+		return tcpNoDelay;
+	}
+
+	public boolean soKeepAlive() {
+		return soKeepAlive;
+	}
+
+	public ByteBufAllocator allocator() {
+		return allocator;
+	}
+
 	public Optional<SslContext> sslContext() {
 		return Optional.ofNullable(sslContext);
 	}
 
+	public Optional<EndpointAddressResolver> resolver() {
+		return Optional.ofNullable(resolver);
+	}
+
+	public Optional<String> domainSocket() {
+		return Optional.ofNullable(domainSocket);
+	}
+
 	public Charset charset() {
 		return charset;
 	}
@@ -100,11 +190,108 @@ public class NettyHttpClientRequestConfiguration {
 			return this;
 		}
 
+		public Builder keepAlive(boolean keepAlive) {
+			configuration.keepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder maxConnectionsPerHost(int maxConnectionsPerHost) {
+			isTrue(maxConnectionsPerHost > 0, "Max connections per host must be positive.");
+			configuration.maxConnectionsPerHost = maxConnectionsPerHost;
+			return this;
+		}
+
+		public Builder maxPendingAcquires(int maxPendingAcquires) {
+			isTrue(maxPendingAcquires > 0, "Max pending acquires must be positive.");
+			configuration.maxPendingAcquires = maxPendingAcquires;
+			return this;
+		}
+
+		public Builder acquireTimeout(int acquireTimeout) {
+			configuration.acquireTimeout = acquireTimeout;
+			return this;
+		}
+
+		public Builder acquireTimeout(Duration duration) {
+			configuration.acquireTimeout = (int) duration.toMillis();
+			return this;
+		}
+
+		public Builder idleTimeout(int idleTimeout) {
+			configuration.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		public Builder idleTimeout(Duration duration) {
+			configuration.idleTimeout = (int) duration.toMillis();
+			return this;
+		}
+
+		public Builder streaming() {
+			return streaming(true);
+		}
+
+		public Builder streaming(boolean streaming) {
+			configuration.streaming = streaming;
+			return this;
+		}
+
+		public Builder streamingBufferSize(int streamingBufferSize) {
+			isTrue(streamingBufferSize > 0, "Streaming buffer size must be positive.");
+			configuration.streamingBufferSize = streamingBufferSize;
+			return this;
+		}
+
+		public Builder bufferRequestBody(boolean bufferRequestBody) {
+			configuration.bufferRequestBody = bufferRequestBody;
+			return this;
+		}
+
+		public Builder chunkSize(int chunkSize) {
+			isTrue(chunkSize > 0, "Chunk size must be positive.");
+			configuration.chunkSize = chunkSize;
+			return this;
+		}
+
+		public Builder epoll() {
+			return epoll(true);
+		}
+
+		public Builder epoll(boolean epoll) {
+			configuration.epoll = epoll;
+			return this;
+		}
+
+		public Builder tcpNoDelay(boolean tcpNoDelay) {
+			configuration.tcpNoDelay = tcpNoDelay;
+			return this;
+		}
+
+		public Builder soKeepAlive(boolean soKeepAlive) {
+			configuration.soKeepAlive = soKeepAlive;
+			return this;
+		}
+
+		public Builder allocator(ByteBufAllocator allocator) {
+			configuration.allocator = nonNull(allocator, "ByteBufAllocator cannot be null.");
+			return this;
+		}
+
 		public Builder sslContext(SslContext sslContext) {
 			configuration.sslContext = sslContext;
 			return this;
 		}
 
+		public Builder resolver(EndpointAddressResolver resolver) {
+			configuration.resolver = resolver;
+			return this;
+		}
+
+		public Builder domainSocket(String path) {
+			configuration.domainSocket = nonNull(path, "Unix domain socket path cannot be null.");
+			return this;
+		}
+
 		public Builder charset(Charset charset) {
 			configuration.charset = charset;
 			return this;
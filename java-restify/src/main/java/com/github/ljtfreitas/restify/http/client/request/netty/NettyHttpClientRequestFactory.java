@@ -27,19 +27,24 @@ package com.github.ljtfreitas.restify.http.client.request.netty;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
 
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
-import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.WarmableHttpClientRequestFactory;
 
-import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.pool.ChannelPool;
 
-public class NettyHttpClientRequestFactory implements HttpClientRequestFactory, Closeable {
+public class NettyHttpClientRequestFactory implements AsyncHttpClientRequestFactory, WarmableHttpClientRequestFactory, Closeable {
+
+	private static final int DEFAULT_WARMUP_TIMEOUT = 30 * 1000;
 
-	private final Bootstrap bootstrap;
 	private final EventLoopGroup eventLoopGroup;
-	private NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration;
+	private final NettyChannelPools channelPools;
+	private final NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration;
 
 	public NettyHttpClientRequestFactory() {
 		this(new NettyEventLoopGroupFactory().create());
@@ -50,23 +55,50 @@ public class NettyHttpClientRequestFactory implements HttpClientRequestFactory,
 	}
 
 	public NettyHttpClientRequestFactory(NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
-		this(new NettyEventLoopGroupFactory().create(), nettyHttpClientRequestConfiguration);
+		this(new NettyEventLoopGroupFactory(nettyHttpClientRequestConfiguration).create(), nettyHttpClientRequestConfiguration);
 	}
 
 	public NettyHttpClientRequestFactory(EventLoopGroup eventLoopGroup, NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
 		this.eventLoopGroup = eventLoopGroup;
 		this.nettyHttpClientRequestConfiguration = nettyHttpClientRequestConfiguration;
-		this.bootstrap = new NettyBootstrapFactory(eventLoopGroup, nettyHttpClientRequestConfiguration).create();
+		this.channelPools = new NettyChannelPools(new NettyBootstrapFactory(eventLoopGroup, nettyHttpClientRequestConfiguration),
+				nettyHttpClientRequestConfiguration);
+	}
+
+	@Override
+	public NettyHttpClientRequest createOf(EndpointRequest endpointRequest) {
+		return new NettyHttpClientRequest(channelPools, endpointRequest.endpoint(), endpointRequest.headers(), endpointRequest.method(),
+				nettyHttpClientRequestConfiguration, domainSocketEndpointOf(endpointRequest.endpoint()));
 	}
 
 	@Override
-	public HttpClientRequest createOf(EndpointRequest endpointRequest) {
-		return new NettyHttpClientRequest(bootstrap, endpointRequest.endpoint(), endpointRequest.headers(), endpointRequest.method(),
-				nettyHttpClientRequestConfiguration.charset());
+	public void warmup(URI endpoint, int connections) {
+		int timeout = nettyHttpClientRequestConfiguration.connectionTimeout();
+
+		ChannelPool pool = domainSocketEndpointOf(endpoint).map(channelPools::of).orElseGet(() -> channelPools.of(endpoint));
+
+		channelPools.warmup(pool, Math.min(connections, nettyHttpClientRequestConfiguration.maxConnectionsPerHost()),
+				timeout > 0 ? timeout : DEFAULT_WARMUP_TIMEOUT);
+	}
+
+	private Optional<NettyDomainSocketEndpoint> domainSocketEndpointOf(URI endpoint) {
+		try {
+			Optional<NettyDomainSocketEndpoint> domainSocketEndpoint = NettyDomainSocketEndpoint.of(endpoint, nettyHttpClientRequestConfiguration);
+
+			if (domainSocketEndpoint.isPresent() && !NettyEpollTransport.supports(eventLoopGroup)) {
+				throw new RestifyHttpException("Unix domain socket endpoints require the Netty native epoll transport: [" + endpoint + "]");
+			}
+
+			return domainSocketEndpoint;
+
+		} catch (IllegalArgumentException e) {
+			throw new RestifyHttpException(e.getMessage(), e);
+		}
 	}
 
 	@Override
 	public void close() throws IOException {
+		channelPools.close();
 		eventLoopGroup.shutdownGracefully().syncUninterruptibly();
 	}
 
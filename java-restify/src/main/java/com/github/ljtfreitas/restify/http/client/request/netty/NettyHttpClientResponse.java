@@ -33,25 +33,19 @@ import com.github.ljtfreitas.restify.http.client.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.response.BaseHttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.response.StatusCode;
 
-import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.http.FullHttpResponse;
-
 class NettyHttpClientResponse extends BaseHttpResponseMessage {
 
-	private final ChannelHandlerContext context;
-	private final FullHttpResponse nettyResponse;
+	private final NettyRequestExecuteHandler nettyRequestExecuteHandler;
 
-	public NettyHttpClientResponse(StatusCode statusCode, Headers headers, InputStream body, HttpRequestMessage httpRequest, 
-			ChannelHandlerContext context, FullHttpResponse nettyResponse) {
+	public NettyHttpClientResponse(StatusCode statusCode, Headers headers, InputStream body, HttpRequestMessage httpRequest,
+			NettyRequestExecuteHandler nettyRequestExecuteHandler) {
 		super(statusCode, headers, body, httpRequest);
-		this.context = context;
-		this.nettyResponse = nettyResponse;
+		this.nettyRequestExecuteHandler = nettyRequestExecuteHandler;
 	}
 
 	@Override
 	public void close() throws IOException {
-		context.close();
-		nettyResponse.release();
+		nettyRequestExecuteHandler.close();
 	}
 
 }
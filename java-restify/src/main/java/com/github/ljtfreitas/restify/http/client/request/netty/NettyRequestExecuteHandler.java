@@ -25,63 +25,188 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.netty;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import com.github.ljtfreitas.restify.http.client.Header;
 import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.LazyHeaders;
 import com.github.ljtfreitas.restify.http.client.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.response.StatusCode;
 
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 
-class NettyRequestExecuteHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+class NettyRequestExecuteHandler extends SimpleChannelInboundHandler<HttpObject> {
+
+	static final String READ_TIMEOUT_HANDLER = "readTimeout";
 
 	private final CompletableFuture<NettyHttpClientResponse> future;
 	private final HttpRequestMessage source;
+	private final ChannelPool pool;
+	private final NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration;
+	private final AtomicBoolean released = new AtomicBoolean(false);
+
+	private Channel channel;
+	private FullHttpResponse aggregatedResponse;
+	private NettyResponseInputStream responseStream;
+	private boolean keepAliveResponse = false;
 
-	public NettyRequestExecuteHandler(CompletableFuture<NettyHttpClientResponse> future, NettyHttpClientRequest source) {
+	public NettyRequestExecuteHandler(CompletableFuture<NettyHttpClientResponse> future, NettyHttpClientRequest source,
+			ChannelPool pool, NettyHttpClientRequestConfiguration nettyHttpClientRequestConfiguration) {
 		this.future = future;
 		this.source = source;
+		this.pool = pool;
+		this.nettyHttpClientRequestConfiguration = nettyHttpClientRequestConfiguration;
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext context) throws Exception {
+		this.channel = context.channel();
 	}
 
 	@Override
-	protected void channelRead0(ChannelHandlerContext context, FullHttpResponse nettyResponse) throws Exception {
-		NettyHttpClientResponse nettyHttpClientResponse = convert(context, nettyResponse);
+	protected void channelRead0(ChannelHandlerContext context, HttpObject message) throws Exception {
+		if (message instanceof FullHttpResponse) {
+			removeReadTimeout();
+
+			aggregatedResponse = ((FullHttpResponse) message).retain();
+
+			future.complete(convert(aggregatedResponse, new ByteBufInputStream(aggregatedResponse.content())));
+
+		} else if (message instanceof HttpResponse) {
+			responseStream = new NettyResponseInputStream(channel.config(), nettyHttpClientRequestConfiguration.streamingBufferSize());
 
-		future.complete(nettyHttpClientResponse);
+			future.complete(convert((HttpResponse) message, responseStream));
+
+		} else if (message instanceof HttpContent && responseStream != null) {
+			responseStream.offer(((HttpContent) message).content().retain());
+
+			if (message instanceof LastHttpContent) {
+				removeReadTimeout();
+				responseStream.finish();
+			}
+		}
 	}
 
-	private NettyHttpClientResponse convert(ChannelHandlerContext context, FullHttpResponse nettyResponse) {
-		nettyResponse.retain();
+	private NettyHttpClientResponse convert(HttpResponse nettyResponse, InputStream body) {
+		keepAliveResponse = HttpHeaders.isKeepAlive(nettyResponse);
 
 		StatusCode statusCode = StatusCode.of(nettyResponse.getStatus().code());
 
 		Headers headers = headersOf(nettyResponse);
 
-		InputStream body = new ByteBufInputStream(nettyResponse.content());
+		return new NettyHttpClientResponse(statusCode, headers, body, source, this);
+	}
 
-		NettyHttpClientResponse nettyHttpClientResponse = new NettyHttpClientResponse(statusCode, headers, body, source,
-				context, nettyResponse);
+	private Headers headersOf(HttpResponse nettyResponse) {
+		HttpHeaders nettyHeaders = nettyResponse.headers();
 
-		return nettyHttpClientResponse;
+		return new LazyHeaders(nettyHeaders::getAll,
+				consumer -> nettyHeaders.forEach(header -> consumer.accept(header.getKey(), header.getValue())));
 	}
 
-	private Headers headersOf(FullHttpResponse nettyResponse) {
-		Headers headers = new Headers();
+	@Override
+	public void channelInactive(ChannelHandlerContext context) throws Exception {
+		IOException cause = new IOException("Connection closed before the response was received.");
+
+		if (future.completeExceptionally(cause)) {
+			release(false);
 
-		nettyResponse.headers().entries().stream()
-			.map(header -> new Header(header.getKey(), header.getValue()))
-				.forEach(headers::add);
+		} else if (responseStream != null) {
+			responseStream.fail(cause);
+		}
 
-		return headers;
+		super.channelInactive(context);
 	}
 
 	@Override
 	public void exceptionCaught(ChannelHandlerContext context, Throwable cause) throws Exception {
-		future.completeExceptionally(cause);
+		if (future.completeExceptionally(cause)) {
+			release(false);
+
+		} else {
+			if (responseStream != null) {
+				responseStream.fail(cause);
+			}
+
+			if (channel != null) {
+				channel.close();
+			}
+		}
+	}
+
+	void close() throws IOException {
+		if (aggregatedResponse != null) {
+			aggregatedResponse.release();
+			release(keepAliveResponse);
+
+		} else if (responseStream != null) {
+			responseStream.close();
+			release(keepAliveResponse && responseStream.completed());
+		}
+	}
+
+	void readTimeout(long readTimeout) {
+		if (readTimeout > 0) {
+			channel.eventLoop().execute(() -> {
+				ChannelPipeline pipeline = channel.pipeline();
+
+				ChannelHandlerContext context = pipeline.context(this);
+
+				if (context != null && !future.isDone() && pipeline.get(READ_TIMEOUT_HANDLER) == null) {
+					pipeline.addBefore(context.name(), READ_TIMEOUT_HANDLER, new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS));
+				}
+			});
+		}
+	}
+
+	private void removeReadTimeout() {
+		ChannelPipeline pipeline = channel.pipeline();
+
+		if (pipeline.get(READ_TIMEOUT_HANDLER) != null) {
+			pipeline.remove(READ_TIMEOUT_HANDLER);
+		}
+	}
+
+	private void release(boolean reusable) {
+		if (channel != null && released.compareAndSet(false, true)) {
+			if (channel.eventLoop().inEventLoop()) {
+				detach(reusable);
+			} else {
+				channel.eventLoop().submit(() -> detach(reusable)).syncUninterruptibly();
+			}
+		}
+	}
+
+	private void detach(boolean reusable) {
+		removeReadTimeout();
+
+		ChannelPipeline pipeline = channel.pipeline();
+
+		if (pipeline.context(this) != null) {
+			pipeline.remove(this);
+		}
+
+		if (reusable && nettyHttpClientRequestConfiguration.keepAlive()) {
+			channel.config().setAutoRead(true);
+		} else {
+			channel.close();
+		}
+
+		pool.release(channel);
 	}
 }
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.github.ljtfreitas.restify.http.client.request.Abortable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+
+class NettyRequestOutputStream extends OutputStream implements Abortable {
+
+	private final NettyHttpClientRequest source;
+	private final ByteBufAllocator allocator;
+	private final int chunkSize;
+
+	private Channel channel;
+	private ByteBuf chunk;
+	private ChannelFuture lastWrite;
+	private boolean finished = false;
+
+	public NettyRequestOutputStream(NettyHttpClientRequest source, ByteBufAllocator allocator, int chunkSize) {
+		this.source = source;
+		this.allocator = allocator;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		chunk().writeByte(b);
+
+		if (!chunk.isWritable()) {
+			flush();
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			int size = Math.min(len, chunk().writableBytes());
+
+			chunk.writeBytes(b, off, size);
+
+			off += size;
+			len -= size;
+
+			if (!chunk.isWritable()) {
+				flush();
+			}
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (chunk != null && chunk.isReadable()) {
+			send(new DefaultHttpContent(chunk));
+			chunk = null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!finished) {
+			flush();
+
+			send(LastHttpContent.EMPTY_LAST_CONTENT);
+			finished = true;
+
+			source.sent();
+		}
+	}
+
+	@Override
+	public void abort(Throwable cause) {
+		finished = true;
+
+		if (chunk != null) {
+			chunk.release();
+			chunk = null;
+		}
+
+		source.abort(cause);
+	}
+
+	boolean finished() {
+		return finished;
+	}
+
+	private ByteBuf chunk() throws IOException {
+		if (finished) {
+			throw new IOException("The request body is already closed.");
+		}
+
+		if (chunk == null) {
+			chunk = allocator.buffer(chunkSize, chunkSize);
+		}
+
+		return chunk;
+	}
+
+	private void send(Object content) throws IOException {
+		if (channel == null) {
+			channel = source.connect();
+		}
+
+		if (lastWrite != null && !channel.isWritable()) {
+			await(lastWrite);
+		}
+
+		lastWrite = channel.writeAndFlush(content);
+
+		if (!channel.isActive()) {
+			await(lastWrite);
+		}
+	}
+
+	private void await(ChannelFuture write) throws IOException {
+		write.awaitUninterruptibly();
+
+		if (!write.isSuccess()) {
+			throw new IOException("Error on write the request body.", write.cause());
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelConfig;
+
+class NettyResponseInputStream extends InputStream {
+
+	private final ChannelConfig channelConfig;
+	private final int capacity;
+	private final Queue<ByteBuf> buffers = new ArrayDeque<>();
+
+	private int buffered = 0;
+	private boolean finished = false;
+	private boolean closed = false;
+	private Throwable failure;
+
+	public NettyResponseInputStream(ChannelConfig channelConfig, int capacity) {
+		this.channelConfig = channelConfig;
+		this.capacity = capacity;
+	}
+
+	synchronized void offer(ByteBuf buffer) {
+		if (closed || !buffer.isReadable()) {
+			buffer.release();
+			return;
+		}
+
+		buffers.add(buffer);
+		buffered += buffer.readableBytes();
+
+		if (buffered >= capacity) {
+			channelConfig.setAutoRead(false);
+		}
+
+		notifyAll();
+	}
+
+	synchronized void finish() {
+		finished = true;
+		notifyAll();
+	}
+
+	synchronized void fail(Throwable cause) {
+		failure = cause;
+		notifyAll();
+	}
+
+	synchronized boolean completed() {
+		return finished && failure == null;
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] bytes = new byte[1];
+		return read(bytes, 0, 1) == -1 ? -1 : bytes[0] & 0xff;
+	}
+
+	@Override
+	public synchronized int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+
+		ByteBuf buffer = await();
+
+		if (buffer == null) {
+			return -1;
+		}
+
+		int count = Math.min(length, buffer.readableBytes());
+
+		buffer.readBytes(bytes, offset, count);
+		buffered -= count;
+
+		if (!buffer.isReadable()) {
+			buffers.remove().release();
+		}
+
+		if (buffered <= capacity / 2 && !channelConfig.isAutoRead()) {
+			channelConfig.setAutoRead(true);
+		}
+
+		return count;
+	}
+
+	private ByteBuf await() throws IOException {
+		while (true) {
+			if (closed) {
+				throw new IOException("Stream closed.");
+			}
+
+			ByteBuf buffer = buffers.peek();
+
+			if (buffer != null) {
+				return buffer;
+
+			} else if (failure != null) {
+				throw new IOException("I/O error on HTTP response body.", failure);
+
+			} else if (finished) {
+				return null;
+			}
+
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for HTTP response body.");
+			}
+		}
+	}
+
+	@Override
+	public synchronized int available() throws IOException {
+		return buffered;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (!closed) {
+			closed = true;
+
+			buffers.forEach(ByteBuf::release);
+			buffers.clear();
+			buffered = 0;
+
+			notifyAll();
+		}
+	}
+}
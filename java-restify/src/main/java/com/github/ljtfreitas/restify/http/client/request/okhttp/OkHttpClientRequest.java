@@ -32,33 +32,53 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
 
 import com.github.ljtfreitas.restify.http.RestifyHttpException;
 import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.LazyHeaders;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.PipedRequestBody;
 import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.response.StatusCode;
 import com.github.ljtfreitas.restify.http.util.Tryable;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
+import okio.Okio;
 
-class OkHttpClientRequest implements HttpClientRequest {
+class OkHttpClientRequest implements AsyncHttpClientRequest {
+
+	private static final int CHUNK_SIZE = 1024 * 8;
 
 	private final OkHttpClient okHttpClient;
 	private final EndpointRequest endpointRequest;
 	private final Charset charset;
+	private final boolean bufferRequestBody;
 
 	private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(1024);
 
+	private PipedRequestBody streamingBody;
+	private CompletableFuture<HttpResponseMessage> streamingResponse;
+
 	public OkHttpClientRequest(OkHttpClient okHttpClient, EndpointRequest endpointRequest, Charset charset) {
+		this(okHttpClient, endpointRequest, charset, true);
+	}
+
+	public OkHttpClientRequest(OkHttpClient okHttpClient, EndpointRequest endpointRequest, Charset charset, boolean bufferRequestBody) {
 		this.okHttpClient = okHttpClient;
 		this.endpointRequest = endpointRequest;
 		this.charset = charset;
+		this.bufferRequestBody = bufferRequestBody;
 	}
 
 	@Override
@@ -73,7 +93,16 @@ class OkHttpClientRequest implements HttpClientRequest {
 
 	@Override
 	public OutputStream output() {
-		return outputStream;
+		if (bufferRequestBody) {
+			return outputStream;
+
+		} else {
+			if (streamingBody == null) {
+				streamingBody = new PipedRequestBody(CHUNK_SIZE);
+				streamingResponse = enqueue(build(new PipedOkHttpRequestBody(streamingBody)));
+			}
+			return streamingBody.output();
+		}
 	}
 
 	@Override
@@ -88,13 +117,89 @@ class OkHttpClientRequest implements HttpClientRequest {
 
 	@Override
 	public HttpResponseMessage execute() throws RestifyHttpException {
-		MediaType contentType = endpointRequest.headers().get("Content-Type").map(header -> MediaType.parse(header.value()))
+		if (streamingResponse != null) {
+			try {
+				return finish().join();
+
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RestifyHttpException ? (RestifyHttpException) e.getCause() :
+					new RestifyHttpException("I/O error on HTTP request: [" + endpointRequest.method() + " " +
+							endpointRequest.endpoint() + "]", e.getCause());
+			}
+		}
+
+		Request request = build(bufferedBody());
+
+		try {
+			return responseOf(okHttpClient.newCall(request).execute());
+
+		} catch (IOException e) {
+			throw new RestifyHttpException("I/O error on HTTP request: [" + request.method() + " " +
+					request.url() + "]", e);
+		}
+	}
+
+	@Override
+	public CompletableFuture<HttpResponseMessage> executeAsync() throws RestifyHttpException {
+		if (streamingResponse != null) {
+			return finish();
+		}
+
+		return enqueue(build(bufferedBody()));
+	}
+
+	private CompletableFuture<HttpResponseMessage> finish() {
+		try {
+			streamingBody.output().close();
+
+			return streamingResponse;
+
+		} catch (IOException e) {
+			throw new RestifyHttpException("I/O error on HTTP request: [" + endpointRequest.method() + " " +
+					endpointRequest.endpoint() + "]", e);
+		}
+	}
+
+	private CompletableFuture<HttpResponseMessage> enqueue(Request request) {
+		CompletableFuture<HttpResponseMessage> future = new CompletableFuture<>();
+
+		okHttpClient.newCall(request).enqueue(new Callback() {
+
+			@Override
+			public void onResponse(Call call, Response response) throws IOException {
+				close();
+				future.complete(responseOf(response));
+			}
+
+			@Override
+			public void onFailure(Call call, IOException e) {
+				close();
+				future.completeExceptionally(new RestifyHttpException("I/O error on HTTP request: [" + request.method() + " " +
+						request.url() + "]", e));
+			}
+
+			private void close() {
+				if (streamingBody != null) {
+					Tryable.run(streamingBody.input()::close);
+				}
+			}
+		});
+
+		return future;
+	}
+
+	private MediaType contentType() {
+		return endpointRequest.headers().get("Content-Type").map(header -> MediaType.parse(header.value()))
 				.orElse(null);
+	}
 
+	private RequestBody bufferedBody() {
 		byte[] content = outputStream.toByteArray();
 
-		RequestBody body = (content.length > 0 ? RequestBody.create(contentType, content) : null);
+		return (content.length > 0 ? RequestBody.create(contentType(), content) : null);
+	}
 
+	private Request build(RequestBody body) {
 		URL url = Tryable.of(() -> endpointRequest.endpoint().toURL());
 
 		Request.Builder builder = new Request.Builder();
@@ -104,26 +209,45 @@ class OkHttpClientRequest implements HttpClientRequest {
 
 		endpointRequest.headers().all().forEach(h -> builder.addHeader(h.name(), h.value()));
 
-		Request request = builder.build();
-
-		try {
-			return responseOf(okHttpClient.newCall(request).execute());
-
-		} catch (IOException e) {
-			throw new RestifyHttpException("I/O error on HTTP request: [" + request.method() + " " +
-					request.url() + "]", e);
-		}
+		return builder.build();
 	}
 
 	private OkHttpClientResponse responseOf(Response response) {
 		StatusCode statusCode = StatusCode.of(response.code(), response.message());
 
-		Headers headers = new Headers();
-		response.headers().names().forEach(name -> headers.put(name, response.headers(name)));
+		okhttp3.Headers okHttpHeaders = response.headers();
+
+		Headers headers = new LazyHeaders(okHttpHeaders::values,
+				consumer -> IntStream.range(0, okHttpHeaders.size())
+					.forEach(i -> consumer.accept(okHttpHeaders.name(i), okHttpHeaders.value(i))));
 
 		InputStream stream = response.body().byteStream();
 
 		return new OkHttpClientResponse(statusCode, headers, stream, response, this);
 	}
 
+	private class PipedOkHttpRequestBody extends RequestBody {
+
+		private final PipedRequestBody body;
+
+		private PipedOkHttpRequestBody(PipedRequestBody body) {
+			this.body = body;
+		}
+
+		@Override
+		public MediaType contentType() {
+			return OkHttpClientRequest.this.contentType();
+		}
+
+		@Override
+		public long contentLength() throws IOException {
+			return endpointRequest.headers().get(Headers.CONTENT_LENGTH).map(h -> Long.valueOf(h.value())).orElse(-1L);
+		}
+
+		@Override
+		public void writeTo(BufferedSink sink) throws IOException {
+			sink.writeAll(Okio.source(body.input()));
+		}
+	}
+
 }
@@ -30,15 +30,17 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 
 import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.resolver.EndpointAddressResolver;
 
 import okhttp3.OkHttpClient;
 
-public class OkHttpClientRequestFactory implements HttpClientRequestFactory, Closeable {
+public class OkHttpClientRequestFactory implements AsyncHttpClientRequestFactory, Closeable {
 
 	private final OkHttpClient okHttpClient;
 	private final Charset charset;
+	private final boolean bufferRequestBody;
 
 	public OkHttpClientRequestFactory() {
 		this(new OkHttpClient());
@@ -48,18 +50,27 @@ public class OkHttpClientRequestFactory implements HttpClientRequestFactory, Clo
 		this(okHttpClient, Encoding.UTF_8.charset());
 	}
 
+	public OkHttpClientRequestFactory(EndpointAddressResolver resolver) {
+		this(new OkHttpClient.Builder().dns(new EndpointAddressDns(resolver)).build());
+	}
+
 	public OkHttpClientRequestFactory(Charset charset) {
 		this(new OkHttpClient(), charset);
 	}
 
 	public OkHttpClientRequestFactory(OkHttpClient okHttpClient, Charset charset) {
+		this(okHttpClient, charset, true);
+	}
+
+	public OkHttpClientRequestFactory(OkHttpClient okHttpClient, Charset charset, boolean bufferRequestBody) {
 		this.okHttpClient = okHttpClient;
 		this.charset = charset;
+		this.bufferRequestBody = bufferRequestBody;
 	}
 
 	@Override
 	public OkHttpClientRequest createOf(EndpointRequest endpointRequest) {
-		return new OkHttpClientRequest(okHttpClient, endpointRequest, charset);
+		return new OkHttpClientRequest(okHttpClient, endpointRequest, charset, bufferRequestBody);
 	}
 
 	@Override
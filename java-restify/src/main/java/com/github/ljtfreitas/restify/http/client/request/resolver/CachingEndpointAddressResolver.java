@@ -0,0 +1,286 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.resolver;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.io.Closeable;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches resolved addresses per host. Refresh-ahead is lazy: the first lookup after the refresh point returns the
+ * cached addresses and reloads them on the executor; hosts that are not looked up are never refreshed and simply expire.
+ */
+public class CachingEndpointAddressResolver implements EndpointAddressResolver, Closeable {
+
+	private final EndpointAddressResolver delegate;
+	private final long ttl;
+	private final Map<String, Long> ttls;
+	private final long negativeTtl;
+	private final double refreshAhead;
+	private final Executor executor;
+	private final boolean ownsExecutor;
+	private final Clock clock;
+
+	private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+	public CachingEndpointAddressResolver() {
+		this(new SystemEndpointAddressResolver());
+	}
+
+	public CachingEndpointAddressResolver(EndpointAddressResolver delegate) {
+		this(new Builder().delegate(delegate));
+	}
+
+	private CachingEndpointAddressResolver(Builder builder) {
+		this.delegate = builder.delegate;
+		this.ttl = builder.ttl;
+		this.ttls = new HashMap<>(builder.ttls);
+		this.negativeTtl = builder.negativeTtl;
+		this.refreshAhead = builder.refreshAhead;
+		this.executor = builder.executor == null ? Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "restify-address-refresh");
+			thread.setDaemon(true);
+			return thread;
+		}) : builder.executor;
+		this.ownsExecutor = builder.executor == null;
+		this.clock = builder.clock;
+	}
+
+	@Override
+	public CompletableFuture<List<InetAddress>> resolve(String host) {
+		String key = host.toLowerCase();
+
+		long now = clock.millis();
+
+		Entry entry = cache.get(key);
+
+		if (entry == null || entry.expired(now)) {
+			Entry created = new Entry();
+
+			entry = cache.compute(key, (k, current) -> current == null || current.expired(now) ? created : current);
+
+			if (entry == created) {
+				load(key, created);
+			}
+
+		} else if (entry.shouldRefresh(now)) {
+			refresh(key, entry);
+		}
+
+		return entry.next();
+	}
+
+	public void invalidate(String host) {
+		cache.remove(host.toLowerCase());
+	}
+
+	private void load(String host, Entry entry) {
+		CompletableFuture<List<InetAddress>> addresses;
+
+		try {
+			addresses = delegate.resolve(host);
+		} catch (RuntimeException e) {
+			addresses = new CompletableFuture<>();
+			addresses.completeExceptionally(e);
+		}
+
+		addresses.whenComplete((a, e) -> {
+			long now = clock.millis();
+
+			if (e == null && a != null && !a.isEmpty()) {
+				long ttl = ttlOf(host);
+
+				entry.refreshAt = now + (long) (ttl * refreshAhead);
+				entry.expiresAt = now + ttl;
+				entry.addresses.complete(a);
+
+			} else {
+				entry.expiresAt = now + negativeTtl;
+				entry.addresses.completeExceptionally(failureOf(host, e));
+			}
+		});
+	}
+
+	private void refresh(String host, Entry entry) {
+		if (entry.refreshing.compareAndSet(false, true)) {
+			Entry fresh = new Entry();
+
+			fresh.addresses.whenComplete((a, e) -> {
+				if (e == null) {
+					cache.replace(host, entry, fresh);
+				} else {
+					retryRefresh(entry);
+				}
+			});
+
+			try {
+				executor.execute(() -> load(host, fresh));
+			} catch (RuntimeException e) {
+				retryRefresh(entry);
+			}
+		}
+	}
+
+	private void retryRefresh(Entry entry) {
+		entry.refreshAt = clock.millis() + negativeTtl;
+		entry.refreshing.set(false);
+	}
+
+	private long ttlOf(String host) {
+		return ttls.getOrDefault(host, ttl);
+	}
+
+	private Throwable failureOf(String host, Throwable cause) {
+		Throwable failure = cause instanceof CompletionException ? cause.getCause() : cause;
+
+		if (failure instanceof UnknownHostException) {
+			return failure;
+		}
+
+		UnknownHostException unknownHostException = new UnknownHostException(host);
+		unknownHostException.initCause(failure);
+		return unknownHostException;
+	}
+
+	@Override
+	public void close() {
+		cache.clear();
+
+		if (ownsExecutor) {
+			((ExecutorService) executor).shutdown();
+		}
+	}
+
+	private class Entry {
+
+		private final CompletableFuture<List<InetAddress>> addresses = new CompletableFuture<>();
+		private final AtomicInteger cursor = new AtomicInteger();
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		private volatile long expiresAt = Long.MAX_VALUE;
+		private volatile long refreshAt = Long.MAX_VALUE;
+
+		private boolean expired(long now) {
+			return now >= expiresAt;
+		}
+
+		private boolean shouldRefresh(long now) {
+			return now >= refreshAt && !addresses.isCompletedExceptionally();
+		}
+
+		private CompletableFuture<List<InetAddress>> next() {
+			return addresses.thenApply(this::rotate);
+		}
+
+		private List<InetAddress> rotate(List<InetAddress> all) {
+			int size = all.size();
+
+			if (size == 1) return all;
+
+			int start = Math.floorMod(cursor.getAndIncrement(), size);
+
+			List<InetAddress> rotated = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				rotated.add(all.get((start + i) % size));
+			}
+
+			return rotated;
+		}
+	}
+
+	public static class Builder {
+
+		private static final long DEFAULT_TTL = 60 * 1000;
+		private static final long DEFAULT_NEGATIVE_TTL = 10 * 1000;
+		private static final double DEFAULT_REFRESH_AHEAD = 0.8;
+
+		private EndpointAddressResolver delegate = new SystemEndpointAddressResolver();
+		private long ttl = DEFAULT_TTL;
+		private final Map<String, Long> ttls = new HashMap<>();
+		private long negativeTtl = DEFAULT_NEGATIVE_TTL;
+		private double refreshAhead = DEFAULT_REFRESH_AHEAD;
+		private Executor executor = null;
+		private Clock clock = Clock.systemUTC();
+
+		public Builder delegate(EndpointAddressResolver delegate) {
+			this.delegate = nonNull(delegate, "EndpointAddressResolver cannot be null.");
+			return this;
+		}
+
+		public Builder ttl(Duration ttl) {
+			this.ttl = ttl.toMillis();
+			return this;
+		}
+
+		public Builder ttl(String host, Duration ttl) {
+			this.ttls.put(host.toLowerCase(), ttl.toMillis());
+			return this;
+		}
+
+		public Builder negativeTtl(Duration negativeTtl) {
+			this.negativeTtl = negativeTtl.toMillis();
+			return this;
+		}
+
+		public Builder refreshAhead(double refreshAhead) {
+			isTrue(refreshAhead > 0 && refreshAhead <= 1, "Refresh ahead must be greater than 0 and less than or equal to 1.");
+			this.refreshAhead = refreshAhead;
+			return this;
+		}
+
+		public Builder executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		public Builder clock(Clock clock) {
+			this.clock = nonNull(clock, "Clock cannot be null.");
+			return this;
+		}
+
+		public CachingEndpointAddressResolver build() {
+			return new CachingEndpointAddressResolver(this);
+		}
+	}
+}
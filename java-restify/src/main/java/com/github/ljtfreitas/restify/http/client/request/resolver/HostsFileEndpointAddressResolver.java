@@ -0,0 +1,148 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.resolver;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class HostsFileEndpointAddressResolver implements EndpointAddressResolver {
+
+	private final Map<String, List<InetAddress>> hosts;
+
+	public HostsFileEndpointAddressResolver(Path path) {
+		this(read(path));
+	}
+
+	public HostsFileEndpointAddressResolver(String content) {
+		this(new StringReader(nonNull(content, "Hosts content cannot be null.")));
+	}
+
+	public HostsFileEndpointAddressResolver(Reader reader) {
+		this.hosts = Collections.unmodifiableMap(parse(reader));
+	}
+
+	@Override
+	public CompletableFuture<List<InetAddress>> resolve(String host) {
+		List<InetAddress> addresses = hosts.get(host.toLowerCase());
+
+		CompletableFuture<List<InetAddress>> future = new CompletableFuture<>();
+
+		if (addresses == null) {
+			future.completeExceptionally(new UnknownHostException(host));
+		} else {
+			future.complete(addresses);
+		}
+
+		return future;
+	}
+
+	private static Reader read(Path path) {
+		try {
+			return Files.newBufferedReader(path);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read hosts file [" + path + "]", e);
+		}
+	}
+
+	private static Map<String, List<InetAddress>> parse(Reader reader) {
+		Map<String, List<InetAddress>> hosts = new HashMap<>();
+
+		try (BufferedReader lines = new BufferedReader(reader)) {
+			String line;
+
+			while ((line = lines.readLine()) != null) {
+				int comment = line.indexOf('#');
+
+				String[] fields = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+
+				if (fields.length < 2) continue;
+
+				InetAddress literal = literalOf(fields[0]);
+
+				if (literal == null) continue;
+
+				byte[] address = literal.getAddress();
+
+				for (int i = 1; i < fields.length; i++) {
+					hosts.computeIfAbsent(fields[i].toLowerCase(), h -> new ArrayList<>())
+						.add(InetAddress.getByAddress(fields[i], address));
+				}
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read hosts content", e);
+		}
+
+		return hosts;
+	}
+
+	private static InetAddress literalOf(String address) {
+		try {
+			if (address.indexOf(':') >= 0) {
+				// strings with ':' are only parsed as IPv6 literals, never looked up
+				return InetAddress.getByName(address);
+			}
+
+			String[] octets = address.split("\\.", -1);
+
+			if (octets.length != 4) return null;
+
+			byte[] bytes = new byte[4];
+
+			for (int i = 0; i < octets.length; i++) {
+				String octet = octets[i];
+
+				if (octet.isEmpty() || octet.length() > 3 || !octet.chars().allMatch(Character::isDigit)) return null;
+
+				int value = Integer.parseInt(octet);
+
+				if (value > 255) return null;
+
+				bytes[i] = (byte) value;
+			}
+
+			return InetAddress.getByAddress(bytes);
+
+		} catch (UnknownHostException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.resolver;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+public class SystemEndpointAddressResolver implements EndpointAddressResolver {
+
+	private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(r -> {
+		Thread thread = new Thread(r, "restify-address-resolver");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Executor executor;
+
+	public SystemEndpointAddressResolver() {
+		this(DEFAULT_EXECUTOR);
+	}
+
+	public SystemEndpointAddressResolver(Executor executor) {
+		this.executor = nonNull(executor, "Executor used to resolve the addresses cannot be null.");
+	}
+
+	@Override
+	public CompletableFuture<List<InetAddress>> resolve(String host) {
+		return CompletableFuture.supplyAsync(() -> doResolve(host), executor);
+	}
+
+	private List<InetAddress> doResolve(String host) {
+		try {
+			return Arrays.asList(InetAddress.getAllByName(host));
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		}
+	}
+}
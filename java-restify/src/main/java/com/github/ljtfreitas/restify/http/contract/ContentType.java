@@ -26,30 +26,44 @@
 package com.github.ljtfreitas.restify.http.contract;
 
 import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 public class ContentType {
 
-	private static final Object WILDCARD_TYPE = "*";
+	private static final String WILDCARD_TYPE = "*";
+
+	private static final int CACHE_SIZE = 128;
+
+	private static final ConcurrentMap<String, ContentType> CACHE = new ConcurrentHashMap<>();
 
 	private final String type;
 	private final String subtype;
+	private final String name;
 	private final ContentTypeParameters parameters;
+	private final boolean wildcardType;
+	private final boolean wildcardSubtype;
+	private final int hashCode;
 
 	private ContentType(String type, String subtype, ContentTypeParameters parameters) {
 		this.type = type;
 		this.subtype = subtype;
+		this.name = type + "/" + subtype;
 		this.parameters = parameters;
+		this.wildcardType = WILDCARD_TYPE.equals(type);
+		this.wildcardSubtype = WILDCARD_TYPE.equals(subtype);
+		this.hashCode = 31 * type.hashCode() + subtype.hashCode();
 	}
 
 	public String name() {
-		return type + "/" + subtype;
+		return name;
 	}
 
 	public Optional<String> parameter(String name) {
@@ -81,29 +95,15 @@ public class ContentType {
 		return doCompatible(contentType);
 	}
 
-	private boolean doCompatible(ContentType contentType) {
-		return doEquals(contentType)
-			|| (doCompatibleWithType(contentType.type)
-				&& doCompatibleWithSubtype(contentType.subtype));
-	}
-
-	private boolean doCompatibleWithSubtype(String subtype) {
-		return this.subtype.equals(subtype)
-			|| (isWildcard(this.subtype) || isWildcard(subtype));
-	}
-
-	private boolean doCompatibleWithType(String type) {
-		return this.type.equals(type)
-			|| (isWildcard(this.type) || isWildcard(type));
-	}
-
-	private boolean isWildcard(String type) {
-		return WILDCARD_TYPE.equals(type);
+	private boolean doCompatible(ContentType that) {
+		return doEquals(that)
+			|| ((wildcardType || that.wildcardType || type.equals(that.type))
+				&& (wildcardSubtype || that.wildcardSubtype || subtype.equals(that.subtype)));
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(type);
+		return hashCode;
 	}
 
 	@Override
@@ -116,17 +116,17 @@ public class ContentType {
 	}
 
 	private boolean doEquals(ContentType that) {
-		return this.type.equals(that.type)
-			&& this.subtype.equals(that.subtype);
+		return this == that
+			|| (this.hashCode == that.hashCode
+				&& this.type.equals(that.type)
+				&& this.subtype.equals(that.subtype));
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
 
-		sb.append(type)
-		  .append("/")
-		  .append(subtype);
+		sb.append(name);
 
 		if (!parameters.empty()) {
 			sb.append("; ").append(parameters.toString());
@@ -136,24 +136,62 @@ public class ContentType {
 	}
 
 	public static ContentType of(String value) {
-		String[] parts = value.split(";");
+		nonNull(value, "Your Content-Type source cannot be null.");
+
+		ContentType contentType = CACHE.get(value);
+
+		if (contentType == null) {
+			contentType = parse(value);
+
+			if (CACHE.size() < CACHE_SIZE) {
+				CACHE.putIfAbsent(value, contentType);
+			}
+		}
+
+		return contentType;
+	}
+
+	private static ContentType parse(String value) {
+		int length = value.length();
 
-		isTrue(parts.length >= 1, "Your Content-Type source is invalid: " + value);
+		int end = value.indexOf(';');
+		end = end < 0 ? length : end;
 
-		String[] parameters = Arrays.copyOfRange(parts, 1, parts.length);
+		int slash = value.indexOf('/');
 
-		String type = parts[0].substring(0, parts[0].indexOf("/")).toLowerCase();
-		String subtype = parts[0].substring(parts[0].indexOf("/") + 1).toLowerCase();
+		isTrue(slash > 0 && slash < end, "Your Content-Type source is invalid: " + value);
 
-		return new ContentType(type, subtype, ContentTypeParameters.of(parameters));
+		String type = token(value, 0, slash);
+		String subtype = token(value, slash + 1, end);
+
+		isTrue(!type.isEmpty() && !subtype.isEmpty(), "Your Content-Type source is invalid: " + value);
+
+		ContentTypeParameters parameters = end < length ? ContentTypeParameters.parse(value, end + 1) : ContentTypeParameters.EMPTY;
+
+		return new ContentType(type, subtype, parameters);
+	}
+
+	private static String token(String value, int start, int end) {
+		while (start < end && Character.isWhitespace(value.charAt(start))) start++;
+		while (end > start && Character.isWhitespace(value.charAt(end - 1))) end--;
+
+		for (int i = start; i < end; i++) {
+			if (Character.isUpperCase(value.charAt(i))) {
+				return value.substring(start, end).toLowerCase();
+			}
+		}
+
+		return value.substring(start, end);
 	}
 
 	public static class ContentTypeParameters {
 
+		private static final ContentTypeParameters EMPTY = new ContentTypeParameters(Collections.emptyMap());
+
 		private final Map<String, String> parameters;
 
 		private ContentTypeParameters(Map<String, String> parameters) {
-			this.parameters = new LinkedHashMap<>(parameters);
+			this.parameters = parameters;
 		}
 
 		private Optional<String> get(String name) {
@@ -161,9 +199,9 @@ public class ContentType {
 		}
 
 		private ContentTypeParameters put(String name, String value) {
-			ContentTypeParameters newParameters = new ContentTypeParameters(parameters);
-			newParameters.parameters.put(name, value);
-			return newParameters;
+			Map<String, String> newParameters = new LinkedHashMap<>(parameters);
+			newParameters.put(name, value);
+			return new ContentTypeParameters(Collections.unmodifiableMap(newParameters));
 		}
 
 		public boolean empty() {
@@ -177,13 +215,32 @@ public class ContentType {
 						.collect(Collectors.joining("; "));
 		}
 
-		private static ContentTypeParameters of(String[] parameters) {
-			Map<String, String> mapOfParameters = new LinkedHashMap<>();
+		private static ContentTypeParameters parse(String value, int start) {
+			Map<String, String> parameters = new LinkedHashMap<>();
+
+			int length = value.length();
+
+			while (start < length) {
+				int end = value.indexOf(';', start);
+				end = end < 0 ? length : end;
+
+				int separator = value.indexOf('=', start);
+
+				if (separator > start && separator < end) {
+					int next = value.indexOf('=', separator + 1);
+
+					String name = value.substring(start, separator).trim();
+					String parameterValue = value.substring(separator + 1, end).trim();
+
+					if ((next < 0 || next >= end) && !name.isEmpty() && !parameterValue.isEmpty()) {
+						parameters.put(name, parameterValue);
+					}
+				}
 
-			Arrays.stream(parameters).map(p -> p.split("=")).filter(p -> p.length == 2)
-					.forEach(p -> mapOfParameters.put(p[0].trim(), p[1].trim()));
+				start = end + 1;
+			}
 
-			return new ContentTypeParameters(mapOfParameters);
+			return parameters.isEmpty() ? EMPTY : new ContentTypeParameters(Collections.unmodifiableMap(parameters));
 		}
 	}
-}
\ No newline at end of file
+}
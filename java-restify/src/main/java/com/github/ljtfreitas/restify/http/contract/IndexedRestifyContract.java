@@ -0,0 +1,105 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.nonNull;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethods;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
+import com.github.ljtfreitas.restify.http.contract.metadata.RestifyContractExpressionResolver;
+import com.github.ljtfreitas.restify.http.contract.metadata.index.EndpointTypeIndex;
+import com.github.ljtfreitas.restify.http.util.Tryable;
+
+public class IndexedRestifyContract implements RestifyContract {
+
+	private final RestifyContractExpressionResolver expressionResolver;
+	private final RestifyContract fallback;
+
+	public IndexedRestifyContract(RestifyContractExpressionResolver expressionResolver, RestifyContract fallback) {
+		this.expressionResolver = expressionResolver;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public EndpointType read(EndpointTarget target) {
+		nonNull(target, "Endpoint target cannot be null.");
+
+		return indexOf(target.type())
+				.flatMap(index -> read(target, index))
+					.orElseGet(() -> fallback.read(target));
+	}
+
+	private Optional<EndpointType> read(EndpointTarget target, EndpointTypeIndex index) {
+		try {
+			String endpoint = endpoint(target, index);
+
+			Collection<EndpointMethod> endpointMethods = index.methods().stream()
+					.map(m -> m.read(endpoint))
+						.collect(Collectors.toSet());
+
+			return Optional.of(new EndpointType(target, new EndpointMethods(endpointMethods)));
+
+		} catch (NoSuchMethodException e) {
+			return Optional.empty();
+		}
+	}
+
+	private String endpoint(EndpointTarget target, EndpointTypeIndex index) {
+		String endpoint = new StringBuilder()
+				.append(trim(expressionResolver.resolve(target.endpoint().orElse(""))))
+				.append(Arrays.stream(index.paths())
+						.map(p -> trim(expressionResolver.resolve(p)))
+							.collect(Collectors.joining()))
+				.toString();
+
+		return Tryable.of(() -> new URL(endpoint)).toString();
+	}
+
+	private String trim(String path) {
+		return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+	}
+
+	private Optional<EndpointTypeIndex> indexOf(Class<?> type) {
+		try {
+			Class<?> indexType = Class.forName(EndpointTypeIndex.nameOf(type), true, type.getClassLoader());
+
+			return EndpointTypeIndex.class.isAssignableFrom(indexType) ?
+					Optional.of((EndpointTypeIndex) indexType.newInstance())
+						: Optional.empty();
+
+		} catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+			return Optional.empty();
+		}
+	}
+}
@@ -137,13 +137,7 @@ public class EndpointMethod {
 	}
 
 	public String expand(final Object[] args) {
-		String endpoint = new EndpointPathParameterResolver(path, parameters)
-				.resolve(args);
-
-		String query = new EndpointQueryParameterResolver(parameters.ofQuery())
-				.resolve(args);
-
-		return endpoint + query;
+		return new EndpointUriTemplate(path, parameters).expand(args);
 	}
 
 	public EndpointMethod with(JavaType returnType) {
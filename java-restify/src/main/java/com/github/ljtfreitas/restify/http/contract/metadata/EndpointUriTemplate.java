@@ -0,0 +1,213 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EndpointUriTemplate {
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	private static final int EXPANDED_ARGUMENT_SIZE_HINT = 16;
+
+	private final String source;
+	private final Segment[] segments;
+	private final EndpointMethodParameter[] queryParameters;
+	private final int sizeHint;
+
+	public EndpointUriTemplate(String path, EndpointMethodParameters parameters) {
+		this.source = path;
+		this.segments = parse(path, parameters);
+		this.queryParameters = parameters.ofQuery().stream().toArray(EndpointMethodParameter[]::new);
+		this.sizeHint = path.length() + (segments.length + this.queryParameters.length) * EXPANDED_ARGUMENT_SIZE_HINT;
+	}
+
+	public String expand(Object[] args) {
+		StringBuilder builder = new StringBuilder(sizeHint);
+
+		for (Segment segment : segments) {
+			segment.appendTo(builder, args);
+		}
+
+		boolean first = true;
+
+		for (EndpointMethodParameter parameter : queryParameters) {
+			Object arg = args[parameter.position()];
+
+			if (arg == null) continue;
+
+			String value = parameter.resolve(arg);
+
+			if (value == null || value.isEmpty()) continue;
+
+			builder.append(first ? '?' : '&').append(value);
+
+			first = false;
+		}
+
+		return builder.toString();
+	}
+
+	public URI toURI(Object[] args) throws URISyntaxException {
+		return new URI(expand(args));
+	}
+
+	@Override
+	public String toString() {
+		return source;
+	}
+
+	private static Segment[] parse(String path, EndpointMethodParameters parameters) {
+		List<Segment> segments = new ArrayList<>();
+
+		int literalStart = 0;
+		int position = 0;
+
+		while (position < path.length()) {
+			int open = path.indexOf('{', position);
+			if (open < 0) break;
+
+			int close = path.indexOf('}', open + 1);
+			if (close < 0) break;
+
+			String name = path.substring(open + 1, close);
+
+			EndpointMethodParameter parameter = validName(name) ? parameters.find(name).filter(EndpointMethodParameter::path).orElse(null) : null;
+
+			if (parameter != null) {
+				if (open > literalStart) {
+					segments.add(new LiteralSegment(path.substring(literalStart, open)));
+				}
+				segments.add(new ArgumentSegment(parameter));
+
+				literalStart = close + 1;
+				position = close + 1;
+
+			} else {
+				position = open + 1;
+			}
+		}
+
+		if (literalStart < path.length()) {
+			segments.add(new LiteralSegment(path.substring(literalStart)));
+		}
+
+		return segments.toArray(new Segment[segments.size()]);
+	}
+
+	private static boolean validName(String name) {
+		if (name.isEmpty()) return false;
+
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '_')) return false;
+		}
+
+		return true;
+	}
+
+	private static void appendEncoded(StringBuilder builder, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			if (allowedOnPath(c)) {
+				builder.append(c);
+
+			} else if (c < 0x80) {
+				appendEscaped(builder, c);
+
+			} else {
+				int end = i + 1;
+				while (end < value.length() && !(value.charAt(end) < 0x80)) end++;
+
+				for (byte b : value.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+					appendEscaped(builder, b & 0xFF);
+				}
+
+				i = end - 1;
+			}
+		}
+	}
+
+	private static void appendEscaped(StringBuilder builder, int b) {
+		builder.append('%').append(HEX[b >> 4]).append(HEX[b & 0xF]);
+	}
+
+	// '?' and '#' pass through as before: a path argument may carry its own query string or fragment
+	private static boolean allowedOnPath(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+			|| c == '-' || c == '.' || c == '_' || c == '~'
+			|| c == '!' || c == '$' || c == '&' || c == '\'' || c == '(' || c == ')'
+			|| c == '*' || c == '+' || c == ',' || c == ';' || c == '='
+			|| c == ':' || c == '@' || c == '/' || c == '%'
+			|| c == '?' || c == '#';
+	}
+
+	private interface Segment {
+
+		void appendTo(StringBuilder builder, Object[] args);
+	}
+
+	private static class LiteralSegment implements Segment {
+
+		private final String value;
+
+		private LiteralSegment(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public void appendTo(StringBuilder builder, Object[] args) {
+			builder.append(value);
+		}
+	}
+
+	private static class ArgumentSegment implements Segment {
+
+		private final EndpointMethodParameter parameter;
+
+		private ArgumentSegment(EndpointMethodParameter parameter) {
+			this.parameter = parameter;
+		}
+
+		@Override
+		public void appendTo(StringBuilder builder, Object[] args) {
+			Object arg = args[parameter.position()];
+
+			String value = arg == null ? null : parameter.resolve(arg);
+
+			if (value == null) {
+				throw new IllegalArgumentException("Your path argument [" + parameter.name() + "] cannot be null.");
+			}
+
+			appendEncoded(builder, value);
+		}
+	}
+}
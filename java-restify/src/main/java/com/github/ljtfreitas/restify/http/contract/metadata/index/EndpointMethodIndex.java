@@ -0,0 +1,72 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata.index;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointHeader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointHeaders;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameters;
+
+public class EndpointMethodIndex {
+
+	private final Method javaMethod;
+	private final String path;
+	private final String httpMethod;
+	private final EndpointHeader[] headers;
+	private final String version;
+	private final Type returnType;
+	private final EndpointMethodParameterIndex[] parameters;
+
+	public EndpointMethodIndex(Method javaMethod, String path, String httpMethod, EndpointHeader[] headers, String version,
+			Type returnType, EndpointMethodParameterIndex... parameters) {
+		this.javaMethod = javaMethod;
+		this.path = path;
+		this.httpMethod = httpMethod;
+		this.headers = headers;
+		this.version = version;
+		this.returnType = returnType;
+		this.parameters = parameters;
+	}
+
+	public Method javaMethod() {
+		return javaMethod;
+	}
+
+	public EndpointMethod read(String endpoint) {
+		EndpointMethodParameters endpointMethodParameters = new EndpointMethodParameters();
+
+		Arrays.stream(parameters)
+			.map(EndpointMethodParameterIndex::read)
+				.forEach(endpointMethodParameters::put);
+
+		return new EndpointMethod(javaMethod, endpoint + path, httpMethod, endpointMethodParameters,
+				new EndpointHeaders(Arrays.asList(headers)), returnType, version);
+	}
+}
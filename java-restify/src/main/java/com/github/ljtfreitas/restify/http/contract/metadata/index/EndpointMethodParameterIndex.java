@@ -0,0 +1,62 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata.index;
+
+import java.lang.reflect.Type;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameterSerializer;
+
+public class EndpointMethodParameterIndex {
+
+	private final int position;
+	private final String name;
+	private final Type javaType;
+	private final EndpointMethodParameterType type;
+	private final Class<? extends EndpointMethodParameterSerializer> serializer;
+
+	public EndpointMethodParameterIndex(int position, String name, Type javaType, EndpointMethodParameterType type,
+			Class<? extends EndpointMethodParameterSerializer> serializer) {
+		this.position = position;
+		this.name = name;
+		this.javaType = javaType;
+		this.type = type;
+		this.serializer = serializer;
+	}
+
+	public EndpointMethodParameter read() {
+		return new EndpointMethodParameter(position, name, javaType, type, serializer == null ? null : serializerOf());
+	}
+
+	private EndpointMethodParameterSerializer serializerOf() {
+		try {
+			return serializer.newInstance();
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new UnsupportedOperationException("Cannot create new instance of EndpointMethodParameterSerializer type " + serializer);
+		}
+	}
+}
@@ -87,6 +87,11 @@ public class JavaType {
 		} else return false;
 	}
 
+	@Override
+	public int hashCode() {
+		return type.hashCode();
+	}
+
 	@Override
 	public String toString() {
 		return "JavaType:[" + type + "]";
@@ -59,7 +59,7 @@ public class SimpleParameterizedType implements ParameterizedType {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(rawType, ownerType, typeArguments);
+		return Arrays.hashCode(typeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
 	}
 	
 	@Override
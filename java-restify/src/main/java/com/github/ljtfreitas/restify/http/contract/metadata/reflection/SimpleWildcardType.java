@@ -28,7 +28,6 @@ package com.github.ljtfreitas.restify.http.contract.metadata.reflection;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.util.Arrays;
-import java.util.Objects;
 
 public class SimpleWildcardType implements WildcardType {
 
@@ -52,7 +51,7 @@ public class SimpleWildcardType implements WildcardType {
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(upperBounds, lowerBounds);
+		return Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds);
 	}
 	
 	@Override
@@ -0,0 +1,443 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.processor;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.CallbackParameter;
+import com.github.ljtfreitas.restify.http.contract.Header;
+import com.github.ljtfreitas.restify.http.contract.HeaderParameter;
+import com.github.ljtfreitas.restify.http.contract.Headers;
+import com.github.ljtfreitas.restify.http.contract.Method;
+import com.github.ljtfreitas.restify.http.contract.Parameter;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.QueryParameter;
+import com.github.ljtfreitas.restify.http.contract.QueryParameters;
+import com.github.ljtfreitas.restify.http.contract.Version;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointHeader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType;
+import com.github.ljtfreitas.restify.http.contract.metadata.SimpleEndpointMethodParameterSerializer;
+import com.github.ljtfreitas.restify.http.contract.metadata.index.EndpointMethodIndex;
+import com.github.ljtfreitas.restify.http.contract.metadata.index.EndpointMethodParameterIndex;
+import com.github.ljtfreitas.restify.http.contract.metadata.index.EndpointTypeIndex;
+import com.github.ljtfreitas.restify.http.contract.metadata.reflection.SimpleGenericArrayType;
+import com.github.ljtfreitas.restify.http.contract.metadata.reflection.SimpleParameterizedType;
+import com.github.ljtfreitas.restify.http.contract.metadata.reflection.SimpleWildcardType;
+
+@SupportedAnnotationTypes("com.github.ljtfreitas.restify.http.contract.Path")
+public class RestifyContractIndexProcessor extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		annotations.stream()
+			.flatMap(a -> roundEnv.getElementsAnnotatedWith(a).stream())
+				.filter(e -> e.getKind() == ElementKind.INTERFACE)
+					.map(e -> (TypeElement) e)
+						.forEach(this::generate);
+
+		return false;
+	}
+
+	private void generate(TypeElement type) {
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String simpleName = simpleNameOf(type) + EndpointTypeIndex.SUFFIX;
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+		String source;
+		try {
+			source = new IndexSource(type, packageName, simpleName).write();
+
+		} catch (IllegalArgumentException e) {
+			processingEnv.getMessager().printMessage(Kind.NOTE, "Contract of type [" + type + "] cannot be indexed, "
+					+ "and will be read at runtime: " + e.getMessage(), type);
+			return;
+		}
+
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+			try (Writer writer = file.openWriter()) {
+				writer.write(source);
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Cannot write contract index [" + qualifiedName + "]: " + e.getMessage(), type);
+		}
+	}
+
+	private String simpleNameOf(TypeElement type) {
+		Element enclosing = type.getEnclosingElement();
+
+		return enclosing instanceof TypeElement ?
+				simpleNameOf((TypeElement) enclosing) + "_" + type.getSimpleName()
+					: type.getSimpleName().toString();
+	}
+
+	private class IndexSource {
+
+		private final TypeElement type;
+		private final String packageName;
+		private final String simpleName;
+		private final List<TypeElement> hierarchy;
+		private final Types types;
+
+		private IndexSource(TypeElement type, String packageName, String simpleName) {
+			this.type = type;
+			this.packageName = packageName;
+			this.simpleName = simpleName;
+			this.types = processingEnv.getTypeUtils();
+			this.hierarchy = hierarchyOf(type);
+		}
+
+		private List<TypeElement> hierarchyOf(TypeElement type) {
+			List<? extends TypeMirror> interfaces = type.getInterfaces();
+
+			isTrue(interfaces.size() <= 1, "Only single inheritance is supported.");
+
+			List<TypeElement> hierarchy = interfaces.isEmpty() ? new ArrayList<>()
+					: hierarchyOf((TypeElement) types.asElement(interfaces.get(0)));
+
+			hierarchy.add(type);
+
+			return hierarchy;
+		}
+
+		private String write() {
+			isTrue(type.getTypeParameters().isEmpty(), "Generic types are not supported.");
+
+			for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+				isTrue(!e.getModifiers().contains(Modifier.PRIVATE), "Private types are not supported.");
+			}
+
+			List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+					.filter(m -> m.getEnclosingElement().getKind() == ElementKind.INTERFACE)
+						.collect(Collectors.toList());
+
+			String paths = hierarchy.stream()
+					.map(t -> annotation(t, Path.class))
+						.filter(Optional::isPresent)
+							.map(a -> literal((String) value(a.get(), "value")))
+								.collect(Collectors.joining(", "));
+
+			String endpointMethods = methods.stream()
+					.map(this::method)
+						.collect(Collectors.joining(",\n\t\t\t"));
+
+			StringBuilder source = new StringBuilder();
+
+			if (!packageName.isEmpty()) {
+				source.append("package ").append(packageName).append(";\n\n");
+			}
+
+			source.append("/* Generated by ").append(RestifyContractIndexProcessor.class.getName()).append(". Do not edit. */\n")
+				.append("public final class ").append(simpleName).append(" implements ").append(EndpointTypeIndex.class.getName()).append(" {\n\n")
+				.append("\t@Override\n")
+				.append("\tpublic String[] paths() {\n")
+				.append("\t\treturn new String[] {").append(paths).append("};\n")
+				.append("\t}\n\n")
+				.append("\t@Override\n")
+				.append("\tpublic java.util.Collection<").append(EndpointMethodIndex.class.getName()).append("> methods() throws NoSuchMethodException {\n")
+				.append("\t\treturn java.util.Arrays.asList(\n\t\t\t").append(endpointMethods).append(");\n")
+				.append("\t}\n")
+				.append("}\n");
+
+			return source.toString();
+		}
+
+		private String method(ExecutableElement method) {
+			isTrue(method.getModifiers().contains(Modifier.ABSTRACT), "Method [" + method + "] is not abstract.");
+			isTrue(method.getTypeParameters().isEmpty(), "Generic method [" + method + "] is not supported.");
+
+			ExecutableType methodType = (ExecutableType) types.asMemberOf((DeclaredType) type.asType(), method);
+
+			String javaMethod = new StringBuilder()
+					.append(type.getQualifiedName()).append(".class.getMethod(").append(literal(method.getSimpleName().toString()))
+					.append(method.getParameters().stream()
+							.map(p -> ", " + types.erasure(p.asType()) + ".class")
+								.collect(Collectors.joining()))
+					.append(")")
+					.toString();
+
+			String path = endpointVersion(method, false) + endpointMethodPath(method);
+
+			String version = Optional.of(endpointVersion(method, true))
+					.filter(v -> !v.trim().isEmpty())
+						.map(v -> literal(v.substring(1)))
+							.orElse("null");
+
+			String headers = Stream.concat(hierarchy.stream().flatMap(this::headersOf), headersOf(method))
+					.collect(Collectors.toCollection(LinkedHashSet::new))
+						.stream()
+							.map(h -> "new " + EndpointHeader.class.getName() + "(" + literal(h.name()) + ", " + literal(h.value()) + ")")
+								.collect(Collectors.joining(", "));
+
+			return new StringBuilder()
+					.append("new ").append(EndpointMethodIndex.class.getName()).append("(")
+					.append(javaMethod).append(", ")
+					.append(literal(path)).append(", ")
+					.append(literal(httpMethodOf(method).toUpperCase())).append(", ")
+					.append("new ").append(EndpointHeader.class.getName()).append("[] {").append(headers).append("}, ")
+					.append(version).append(", ")
+					.append(typeOf(methodType.getReturnType()))
+					.append(parameters(method, methodType))
+					.append(")")
+					.toString();
+		}
+
+		private String endpointVersion(ExecutableElement method, boolean force) {
+			Optional<AnnotationMirror> typeVersion = Optional.empty();
+			for (TypeElement t : hierarchy) {
+				typeVersion = annotation(t, Version.class).map(Optional::of).orElse(typeVersion);
+			}
+
+			Optional<AnnotationMirror> candidate = typeVersion;
+
+			return annotation(method, Version.class)
+					.filter(v -> force || (Boolean) value(v, "uri"))
+						.map(Optional::of)
+							.orElseGet(() -> candidate.filter(v -> force || (Boolean) value(v, "uri")))
+				.map(v -> (String) value(v, "value"))
+					.map(v -> v.endsWith("/") ? v.substring(0, v.length() - 1) : v)
+						.map(v -> v.startsWith("/") || v.isEmpty() ? v : "/" + v)
+							.orElse("");
+		}
+
+		private String endpointMethodPath(ExecutableElement method) {
+			String path = annotation(method, Path.class).map(a -> (String) value(a, "value")).orElse("");
+			return path.startsWith("/") || path.isEmpty() ? path : "/" + path;
+		}
+
+		private String httpMethodOf(ExecutableElement method) {
+			return annotation(method, Method.class)
+					.map(Optional::of)
+						.orElseGet(() -> method.getAnnotationMirrors().stream()
+								.map(a -> annotation(a.getAnnotationType().asElement(), Method.class))
+									.filter(Optional::isPresent)
+										.map(Optional::get)
+											.findFirst())
+					.map(a -> (String) value(a, "value"))
+						.orElseThrow(() -> new IllegalArgumentException("Method " + method + " does not have a @Method annotation"));
+		}
+
+		@SuppressWarnings("unchecked")
+		private Stream<EndpointHeader> headersOf(Element element) {
+			Stream<AnnotationMirror> headers = annotation(element, Headers.class)
+					.map(h -> ((List<? extends AnnotationValue>) value(h, "value")).stream().map(v -> (AnnotationMirror) v.getValue()))
+						.orElseGet(() -> Stream.concat(
+								annotation(element, Header.class).map(Stream::of).orElseGet(Stream::empty),
+								element.getAnnotationMirrors().stream()
+									.map(a -> annotation(a.getAnnotationType().asElement(), Header.class))
+										.filter(Optional::isPresent)
+											.map(Optional::get)));
+
+			return headers.map(h -> new EndpointHeader((String) value(h, "name"), (String) value(h, "value")));
+		}
+
+		private String parameters(ExecutableElement method, ExecutableType methodType) {
+			List<? extends VariableElement> parameters = method.getParameters();
+
+			Collection<String> callbacks = new ArrayList<>();
+
+			return IntStream.range(0, parameters.size())
+				.mapToObj(position -> parameter(method, position, parameters.get(position), methodType.getParameterTypes().get(position), callbacks))
+					.collect(Collectors.joining());
+		}
+
+		private String parameter(ExecutableElement method, int position, VariableElement parameter, TypeMirror parameterType, Collection<String> callbacks) {
+			List<? extends AnnotationMirror> annotations = parameter.getAnnotationMirrors().stream()
+					.filter(a -> annotation(a.getAnnotationType().asElement(), Parameter.class).isPresent())
+						.collect(Collectors.toList());
+
+			isTrue(annotations.size() <= 1, "Parameter [" + parameter + "], of method [" + method + "] has more than one annotation.");
+
+			Optional<AnnotationMirror> annotation = annotations.stream().map(a -> (AnnotationMirror) a).findFirst();
+
+			String annotationName = annotation.map(this::nameOf).orElse(PathParameter.class.getName());
+
+			EndpointMethodParameterType kind = annotationName.equals(PathParameter.class.getName()) ? EndpointMethodParameterType.PATH :
+				annotationName.equals(HeaderParameter.class.getName()) ? EndpointMethodParameterType.HEADER :
+					annotationName.equals(BodyParameter.class.getName()) ? EndpointMethodParameterType.BODY :
+						annotationName.equals(QueryParameter.class.getName()) || annotationName.equals(QueryParameters.class.getName()) ?
+								EndpointMethodParameterType.QUERY_STRING :
+									EndpointMethodParameterType.ENDPOINT_CALLBACK;
+
+			if (kind == EndpointMethodParameterType.ENDPOINT_CALLBACK) {
+				String callbackType = types.erasure(parameterType).toString();
+				isTrue(!callbacks.contains(callbackType), "Only one @CallbackParameter of type [" + callbackType + "] is allowed.");
+				callbacks.add(callbackType);
+			}
+
+			String name = annotation
+					.filter(a -> annotationName.equals(PathParameter.class.getName())
+							|| annotationName.equals(HeaderParameter.class.getName())
+							|| annotationName.equals(QueryParameter.class.getName()))
+						.map(a -> (String) value(a, "value"))
+							.filter(s -> !s.trim().isEmpty())
+								.orElseGet(() -> parameter.getSimpleName().toString());
+
+			String serializer = annotationName.equals(PathParameter.class.getName())
+					|| annotationName.equals(QueryParameter.class.getName())
+					|| annotationName.equals(QueryParameters.class.getName()) ?
+							annotation.map(a -> types.erasure((TypeMirror) value(a, "serializer")) + ".class")
+								.orElse(SimpleEndpointMethodParameterSerializer.class.getName() + ".class")
+						: annotationName.equals(CallbackParameter.class.getName()) ? "null"
+							: SimpleEndpointMethodParameterSerializer.class.getName() + ".class";
+
+			return new StringBuilder()
+					.append(",\n\t\t\t\tnew ").append(EndpointMethodParameterIndex.class.getName()).append("(")
+					.append(position).append(", ")
+					.append(literal(name)).append(", ")
+					.append(typeOf(parameterType)).append(", ")
+					.append(EndpointMethodParameterType.class.getCanonicalName()).append(".").append(kind.name()).append(", ")
+					.append(serializer)
+					.append(")")
+					.toString();
+		}
+
+		private String typeOf(TypeMirror type) {
+			switch (type.getKind()) {
+				case BOOLEAN:
+				case BYTE:
+				case SHORT:
+				case INT:
+				case LONG:
+				case CHAR:
+				case FLOAT:
+				case DOUBLE:
+				case VOID:
+					return type + ".class";
+
+				case DECLARED:
+					DeclaredType declaredType = (DeclaredType) type;
+
+					if (declaredType.getTypeArguments().isEmpty()) {
+						return types.erasure(type) + ".class";
+
+					} else {
+						Element owner = declaredType.asElement().getEnclosingElement();
+
+						return "new " + SimpleParameterizedType.class.getName() + "("
+								+ types.erasure(type) + ".class, "
+								+ (owner instanceof TypeElement ? types.erasure(owner.asType()) + ".class" : "null")
+								+ declaredType.getTypeArguments().stream().map(a -> ", " + typeOf(a)).collect(Collectors.joining())
+								+ ")";
+					}
+
+				case ARRAY:
+					String componentType = typeOf(((ArrayType) type).getComponentType());
+
+					return componentType.endsWith(".class") ? types.erasure(type) + ".class"
+							: "new " + SimpleGenericArrayType.class.getName() + "(" + componentType + ")";
+
+				case WILDCARD:
+					WildcardType wildcardType = (WildcardType) type;
+
+					return "new " + SimpleWildcardType.class.getName() + "("
+							+ "new java.lang.reflect.Type[] {"
+								+ Optional.ofNullable(wildcardType.getExtendsBound()).map(this::typeOf).orElse("java.lang.Object.class") + "}, "
+							+ "new java.lang.reflect.Type[] {"
+								+ Optional.ofNullable(wildcardType.getSuperBound()).map(this::typeOf).orElse("") + "})";
+
+				default:
+					throw new IllegalArgumentException("Type [" + type + "] cannot be indexed.");
+			}
+		}
+
+		private Optional<AnnotationMirror> annotation(Element element, Class<?> annotationType) {
+			return element.getAnnotationMirrors().stream()
+					.filter(a -> nameOf(a).equals(annotationType.getName()))
+						.map(a -> (AnnotationMirror) a)
+							.findFirst();
+		}
+
+		private String nameOf(AnnotationMirror annotation) {
+			return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+		}
+
+		private Object value(AnnotationMirror annotation, String name) {
+			return processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet().stream()
+					.filter(e -> e.getKey().getSimpleName().contentEquals(name))
+						.map(e -> e.getValue().getValue())
+							.findFirst()
+								.orElse(null);
+		}
+
+		private String literal(String value) {
+			StringBuilder literal = new StringBuilder("\"");
+
+			for (char c : value.toCharArray()) {
+				if (c == '"' || c == '\\') {
+					literal.append('\\').append(c);
+				} else if (c < 0x20 || c > 0x7e) {
+					literal.append(String.format("\\u%04x", (int) c));
+				} else {
+					literal.append(c);
+				}
+			}
+
+			return literal.append("\"").toString();
+		}
+	}
+}
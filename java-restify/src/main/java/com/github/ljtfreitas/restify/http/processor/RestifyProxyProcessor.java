@@ -0,0 +1,224 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import com.github.ljtfreitas.restify.http.GeneratedRestifyProxy;
+import com.github.ljtfreitas.restify.http.GeneratedRestifyProxy.LazyEndpointMethodInvocationPlan;
+import com.github.ljtfreitas.restify.http.RestifyProxyHandler;
+
+@SupportedAnnotationTypes("com.github.ljtfreitas.restify.http.contract.Path")
+public class RestifyProxyProcessor extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		annotations.stream()
+			.flatMap(a -> roundEnv.getElementsAnnotatedWith(a).stream())
+				.filter(e -> e.getKind() == ElementKind.INTERFACE)
+					.map(e -> (TypeElement) e)
+						.filter(this::supports)
+							.forEach(this::generate);
+
+		return false;
+	}
+
+	private boolean supports(TypeElement type) {
+		if (!type.getTypeParameters().isEmpty()) {
+			return false;
+		}
+
+		for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+			if (e.getModifiers().contains(Modifier.PRIVATE) || ((TypeElement) e).getNestingKind() == NestingKind.LOCAL) {
+				return false;
+			}
+		}
+
+		return methodsOf(type).stream().allMatch(m -> m.getTypeParameters().isEmpty());
+	}
+
+	private List<ExecutableElement> methodsOf(TypeElement type) {
+		return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+				.filter(m -> m.getEnclosingElement().getKind() == ElementKind.INTERFACE)
+				.filter(m -> m.getModifiers().contains(Modifier.ABSTRACT))
+				.collect(Collectors.toList());
+	}
+
+	private void generate(TypeElement type) {
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String simpleName = simpleNameOf(type) + GeneratedRestifyProxy.SUFFIX;
+
+		String source = new ProxySource(type, packageName, simpleName).write();
+
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+			try (Writer writer = file.openWriter()) {
+				writer.write(source);
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Cannot write generated proxy [" + qualifiedName + "]: " + e.getMessage(), type);
+		}
+	}
+
+	private String simpleNameOf(TypeElement type) {
+		Element enclosing = type.getEnclosingElement();
+
+		return enclosing instanceof TypeElement ?
+				simpleNameOf((TypeElement) enclosing) + "_" + type.getSimpleName()
+					: type.getSimpleName().toString();
+	}
+
+	private class ProxySource {
+
+		private final TypeElement type;
+		private final String packageName;
+		private final String simpleName;
+		private final List<ExecutableElement> methods;
+
+		private ProxySource(TypeElement type, String packageName, String simpleName) {
+			this.type = type;
+			this.packageName = packageName;
+			this.simpleName = simpleName;
+			this.methods = methodsOf(type);
+		}
+
+		private String write() {
+			String typeName = type.getQualifiedName().toString();
+
+			StringBuilder source = new StringBuilder();
+
+			if (!packageName.isEmpty()) {
+				source.append("package ").append(packageName).append(";\n\n");
+			}
+
+			source.append("/* Generated by ").append(RestifyProxyProcessor.class.getName()).append(". Do not edit. */\n")
+				.append("public final class ").append(simpleName)
+					.append(" extends ").append(GeneratedRestifyProxy.class.getName())
+					.append(" implements ").append(typeName).append(" {\n\n");
+
+			for (int i = 0; i < methods.size(); i++) {
+				source.append("\tprivate final ").append(LazyEndpointMethodInvocationPlan.class.getCanonicalName()).append(" plan").append(i).append(";\n");
+			}
+
+			source.append("\n\tpublic ").append(simpleName).append("(").append(RestifyProxyHandler.class.getName()).append(" handler) {\n")
+				.append("\t\tsuper(handler);\n");
+
+			for (int i = 0; i < methods.size(); i++) {
+				ExecutableElement method = methods.get(i);
+
+				source.append("\t\tthis.plan").append(i).append(" = plan(").append(typeName).append(".class, \"")
+					.append(method.getSimpleName()).append("\"");
+
+				method.getParameters().forEach(p -> source.append(", ")
+						.append(processingEnv.getTypeUtils().erasure(p.asType())).append(".class"));
+
+				source.append(");\n");
+			}
+
+			source.append("\t}\n");
+
+			for (int i = 0; i < methods.size(); i++) {
+				method(source, methods.get(i), "plan" + i);
+			}
+
+			source.append("}\n");
+
+			return source.toString();
+		}
+
+		private void method(StringBuilder source, ExecutableElement method, String plan) {
+			ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils()
+					.asMemberOf((DeclaredType) type.asType(), method);
+
+			TypeMirror returnType = methodType.getReturnType();
+			List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+
+			source.append("\n\t@Override\n")
+				.append("\t@SuppressWarnings(\"unchecked\")\n")
+				.append("\tpublic ").append(returnType).append(" ").append(method.getSimpleName()).append("(");
+
+			for (int i = 0; i < parameterTypes.size(); i++) {
+				source.append(i == 0 ? "" : ", ").append(parameterTypes.get(i)).append(" arg").append(i);
+			}
+
+			source.append(")");
+
+			List<? extends TypeMirror> thrownTypes = methodType.getThrownTypes();
+			if (!thrownTypes.isEmpty()) {
+				source.append(" throws ").append(thrownTypes.stream().map(TypeMirror::toString).collect(Collectors.joining(", ")));
+			}
+
+			source.append(" {\n\t\t");
+
+			String args = IntStream.range(0, parameterTypes.size())
+					.mapToObj(i -> "arg" + i)
+						.collect(Collectors.joining(", ", "new Object[] {", "}"));
+
+			if (returnType.getKind() == TypeKind.VOID) {
+				source.append(plan).append(".execute(").append(args).append(");\n");
+
+			} else {
+				TypeMirror castType = returnType.getKind().isPrimitive() ?
+						processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(returnType.getKind())).asType()
+							: returnType;
+
+				source.append("return (").append(castType).append(") ").append(plan).append(".execute(").append(args).append(");\n");
+			}
+
+			source.append("\t}\n");
+		}
+	}
+}
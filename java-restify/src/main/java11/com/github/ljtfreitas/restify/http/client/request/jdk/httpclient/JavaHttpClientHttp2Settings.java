@@ -0,0 +1,79 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.jdk.httpclient;
+
+import static com.github.ljtfreitas.restify.http.util.Preconditions.isTrue;
+
+import java.util.Optional;
+
+public class JavaHttpClientHttp2Settings {
+
+	private Integer maxConcurrentStreams = null;
+	private Integer connectionWindowSize = null;
+	private Integer streamWindowSize = null;
+
+	private JavaHttpClientHttp2Settings() {
+	}
+
+	public Optional<Integer> maxConcurrentStreams() {
+		return Optional.ofNullable(maxConcurrentStreams);
+	}
+
+	public Optional<Integer> connectionWindowSize() {
+		return Optional.ofNullable(connectionWindowSize);
+	}
+
+	public Optional<Integer> streamWindowSize() {
+		return Optional.ofNullable(streamWindowSize);
+	}
+
+	public static class Builder {
+
+		private JavaHttpClientHttp2Settings settings = new JavaHttpClientHttp2Settings();
+
+		public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+			isTrue(maxConcurrentStreams > 0, "Max concurrent streams must be positive.");
+			settings.maxConcurrentStreams = maxConcurrentStreams;
+			return this;
+		}
+
+		public Builder connectionWindowSize(int connectionWindowSize) {
+			isTrue(connectionWindowSize > 0, "Connection window size must be positive.");
+			settings.connectionWindowSize = connectionWindowSize;
+			return this;
+		}
+
+		public Builder streamWindowSize(int streamWindowSize) {
+			isTrue(streamWindowSize > 0, "Stream window size must be positive.");
+			settings.streamWindowSize = streamWindowSize;
+			return this;
+		}
+
+		public JavaHttpClientHttp2Settings build() {
+			return settings;
+		}
+	}
+}
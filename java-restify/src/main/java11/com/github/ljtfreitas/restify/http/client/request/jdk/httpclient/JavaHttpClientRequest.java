@@ -0,0 +1,223 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.jdk.httpclient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.LazyHeaders;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.PipedRequestBody;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.response.StatusCode;
+import com.github.ljtfreitas.restify.http.util.Tryable;
+
+class JavaHttpClientRequest implements AsyncHttpClientRequest {
+
+	private static final Collection<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+	static {
+		RESTRICTED_HEADERS.addAll(Arrays.asList(Headers.CONNECTION, Headers.CONTENT_LENGTH, Headers.HOST, "Expect", "Upgrade"));
+	}
+
+	private final HttpClient httpClient;
+	private final EndpointRequest endpointRequest;
+	private final Charset charset;
+	private final Duration readTimeout;
+	private final boolean bufferRequestBody;
+	private final int chunkSize;
+
+	private final BodyOutputStream outputStream = new BodyOutputStream();
+
+	private PipedRequestBody streamingBody;
+	private CompletableFuture<HttpResponseMessage> streamingResponse;
+
+	JavaHttpClientRequest(HttpClient httpClient, EndpointRequest endpointRequest, Charset charset, Duration readTimeout) {
+		this(httpClient, endpointRequest, charset, readTimeout, true, 0);
+	}
+
+	JavaHttpClientRequest(HttpClient httpClient, EndpointRequest endpointRequest, Charset charset, Duration readTimeout,
+			boolean bufferRequestBody, int chunkSize) {
+		this.httpClient = httpClient;
+		this.endpointRequest = endpointRequest;
+		this.charset = charset;
+		this.readTimeout = readTimeout;
+		this.bufferRequestBody = bufferRequestBody;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public URI uri() {
+		return endpointRequest.endpoint();
+	}
+
+	@Override
+	public String method() {
+		return endpointRequest.method();
+	}
+
+	@Override
+	public OutputStream output() {
+		if (bufferRequestBody) {
+			return outputStream;
+
+		} else {
+			if (streamingBody == null) {
+				streamingBody = new PipedRequestBody(chunkSize);
+				streamingResponse = send(build(publisherOf(streamingBody)))
+						.whenComplete((r, e) -> Tryable.run(streamingBody.input()::close));
+			}
+			return streamingBody.output();
+		}
+	}
+
+	@Override
+	public Charset charset() {
+		return charset;
+	}
+
+	@Override
+	public Headers headers() {
+		return endpointRequest.headers();
+	}
+
+	@Override
+	public HttpResponseMessage execute() throws RestifyHttpException {
+		if (streamingResponse != null) {
+			try {
+				return finish().join();
+
+			} catch (CompletionException e) {
+				throw (RestifyHttpException) e.getCause();
+			}
+		}
+
+		HttpRequest request = build(outputStream.publisher());
+
+		try {
+			return responseOf(httpClient.send(request, BodyHandlers.ofInputStream()));
+
+		} catch (IOException e) {
+			throw new RestifyHttpException("I/O error on HTTP request: [" + request.method() + " " +
+					request.uri() + "]", e);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RestifyHttpException("HTTP request [" + request.method() + " " + request.uri() + "] was interrupted", e);
+		}
+	}
+
+	@Override
+	public CompletableFuture<HttpResponseMessage> executeAsync() {
+		return streamingResponse != null ? finish() : send(build(outputStream.publisher()));
+	}
+
+	private CompletableFuture<HttpResponseMessage> finish() {
+		try {
+			streamingBody.output().close();
+
+			return streamingResponse;
+
+		} catch (IOException e) {
+			throw new RestifyHttpException("I/O error on HTTP request: [" + endpointRequest.method() + " " +
+					endpointRequest.endpoint() + "]", e);
+		}
+	}
+
+	private CompletableFuture<HttpResponseMessage> send(HttpRequest request) {
+		return httpClient.sendAsync(request, BodyHandlers.ofInputStream())
+				.<HttpResponseMessage> thenApply(this::responseOf)
+					.exceptionally(e -> {
+						Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+						throw new RestifyHttpException("I/O error on HTTP request: [" + request.method() + " " +
+								request.uri() + "]", cause);
+					});
+	}
+
+	private BodyPublisher publisherOf(PipedRequestBody body) {
+		BodyPublisher publisher = BodyPublishers.ofInputStream(body::input);
+
+		return endpointRequest.headers().get(Headers.CONTENT_LENGTH)
+				.map(h -> BodyPublishers.fromPublisher(publisher, Long.valueOf(h.value())))
+					.orElse(publisher);
+	}
+
+	private HttpRequest build(BodyPublisher publisher) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(endpointRequest.endpoint())
+				.method(endpointRequest.method(), publisher);
+
+		if (readTimeout != null) {
+			builder.timeout(readTimeout);
+		}
+
+		endpointRequest.headers().all().stream()
+			.filter(h -> !RESTRICTED_HEADERS.contains(h.name()))
+				.forEach(h -> builder.header(h.name(), h.value()));
+
+		return builder.build();
+	}
+
+	private JavaHttpClientResponse responseOf(HttpResponse<InputStream> response) {
+		StatusCode statusCode = StatusCode.of(response.statusCode());
+
+		java.net.http.HttpHeaders httpHeaders = response.headers();
+
+		Headers headers = new LazyHeaders(httpHeaders::allValues,
+				consumer -> httpHeaders.map().forEach((name, values) -> values.forEach(value -> consumer.accept(name, value))));
+
+		return new JavaHttpClientResponse(statusCode, headers, response.body(), this);
+	}
+
+	private class BodyOutputStream extends ByteArrayOutputStream {
+
+		private BodyOutputStream() {
+			super(1024);
+		}
+
+		private BodyPublisher publisher() {
+			return count == 0 ? BodyPublishers.noBody() : BodyPublishers.ofByteArray(buf, 0, count);
+		}
+	}
+}
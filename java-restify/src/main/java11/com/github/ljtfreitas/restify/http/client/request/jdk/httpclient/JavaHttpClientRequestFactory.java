@@ -0,0 +1,119 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.jdk.httpclient;
+
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.jdk.HttpClientRequestConfiguration;
+
+public class JavaHttpClientRequestFactory implements AsyncHttpClientRequestFactory {
+
+	private final HttpClient httpClient;
+	private final Charset charset;
+	private final Duration readTimeout;
+	private final boolean bufferRequestBody;
+	private final int chunkSize;
+
+	public JavaHttpClientRequestFactory() {
+		this(HttpClientRequestConfiguration.useDefault());
+	}
+
+	public JavaHttpClientRequestFactory(HttpClientRequestConfiguration httpClientRequestConfiguration) {
+		this(httpClientRequestConfiguration, true);
+	}
+
+	public JavaHttpClientRequestFactory(HttpClientRequestConfiguration httpClientRequestConfiguration, boolean http2) {
+		this(httpClientOf(httpClientRequestConfiguration, http2), httpClientRequestConfiguration.charset(),
+				durationOf(httpClientRequestConfiguration.readTimeout()), httpClientRequestConfiguration.bufferRequestBody(),
+				httpClientRequestConfiguration.chunkSize());
+	}
+
+	private JavaHttpClientRequestFactory(HttpClient httpClient, Charset charset, Duration readTimeout, boolean bufferRequestBody,
+			int chunkSize) {
+		this.httpClient = httpClient;
+		this.charset = charset;
+		this.readTimeout = readTimeout;
+		this.bufferRequestBody = bufferRequestBody;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public AsyncHttpClientRequest createOf(EndpointRequest endpointRequest) {
+		return new JavaHttpClientRequest(httpClient, endpointRequest, charset, readTimeout, bufferRequestBody, chunkSize);
+	}
+
+	/**
+	 * The JDK reads HTTP/2 stream and window limits from the "jdk.httpclient.*" system properties, so these settings apply
+	 * to every {@link HttpClient} of the process (on connections opened after this call); a setting that conflicts with a
+	 * value already present throws {@link IllegalStateException}.
+	 */
+	public static void http2Settings(JavaHttpClientHttp2Settings settings) {
+		settings.maxConcurrentStreams().ifPresent(m -> property("jdk.httpclient.maxstreams", m));
+		settings.connectionWindowSize().ifPresent(w -> property("jdk.httpclient.connectionWindowSize", w));
+		settings.streamWindowSize().ifPresent(w -> property("jdk.httpclient.windowsize", w));
+	}
+
+	private static HttpClient httpClientOf(HttpClientRequestConfiguration configuration, boolean http2) {
+		HttpClient.Builder builder = HttpClient.newBuilder()
+				.version(http2 ? Version.HTTP_2 : Version.HTTP_1_1)
+				.followRedirects(configuration.followRedirects() ? Redirect.NORMAL : Redirect.NEVER);
+
+		Optional.ofNullable(durationOf(configuration.connectionTimeout()))
+			.ifPresent(builder::connectTimeout);
+
+		configuration.proxy()
+			.map(proxy -> proxy.address())
+				.filter(address -> address instanceof InetSocketAddress)
+					.ifPresent(address -> builder.proxy(ProxySelector.of((InetSocketAddress) address)));
+
+		return builder.build();
+	}
+
+	private static synchronized void property(String name, int value) {
+		String current = System.getProperty(name);
+
+		if (current != null && !current.equals(Integer.toString(value))) {
+			throw new IllegalStateException("HTTP/2 setting [" + name + "] is process-wide and was already set to [" + current
+					+ "]; it cannot be changed to [" + value + "].");
+		}
+
+		System.setProperty(name, Integer.toString(value));
+	}
+
+	private static Duration durationOf(int milliseconds) {
+		return milliseconds > 0 ? Duration.ofMillis(milliseconds) : null;
+	}
+}
@@ -0,0 +1,132 @@
+package com.github.ljtfreitas.restify.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.Closeable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.client.response.StatusCode;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RestifyClientTest {
+
+	@Mock
+	private EndpointRequestExecutor endpointRequestExecutorMock;
+
+	private RestifyProxyBuilder builder;
+
+	@Before
+	public void setup() {
+		when(endpointRequestExecutorMock.execute(any(EndpointRequest.class)))
+			.then(invocation -> {
+				EndpointRequest request = invocation.getArgumentAt(0, EndpointRequest.class);
+				return new EndpointResponse<>(StatusCode.ok(), new Headers(), request.endpoint().toString());
+			});
+
+		builder = new RestifyProxyBuilder()
+				.executor(endpointRequestExecutorMock);
+	}
+
+	@Test
+	public void shouldShareClientAcrossAllProxiesOfTheBuilder() {
+		RestifyClient client = builder.build();
+
+		MyApi myApi = builder.target(MyApi.class, "http://my.api.com").build();
+		MyOtherApi myOtherApi = builder.target(MyOtherApi.class, "http://my.other.api.com").build();
+
+		assertSame(client, builder.build());
+
+		assertEquals("http://my.api.com/my", myApi.get());
+		assertEquals("http://my.other.api.com/other", myOtherApi.get());
+
+		verify(endpointRequestExecutorMock, times(2)).execute(any(EndpointRequest.class));
+	}
+
+	@Test
+	public void shouldCreateNewClientWhenBuilderConfigurationChanges() {
+		RestifyClient client = builder.build();
+
+		builder.interceptors().accept("application/json");
+
+		assertNotSame(client, builder.build());
+	}
+
+	@Test
+	public void shouldKeepClientWhenBuilderConfigurationIsOnlyRead() {
+		RestifyClient client = builder.build();
+
+		builder.converters().and()
+			.interceptors().and()
+			.executables().and()
+			.client().and()
+			.error();
+
+		assertSame(client, builder.build());
+	}
+
+	@Test
+	public void shouldNotCloseHttpClientRequestFactoryOfTheCallerWhenTransportChanges() throws Exception {
+		HttpClientRequestFactory httpClientRequestFactoryMock = mock(HttpClientRequestFactory.class,
+				withSettings().extraInterfaces(Closeable.class));
+
+		RestifyProxyBuilder builder = new RestifyProxyBuilder()
+				.client(httpClientRequestFactoryMock);
+
+		RestifyClient client = builder.build();
+
+		builder.compression();
+
+		assertNotSame(client, builder.build());
+
+		verify((Closeable) httpClientRequestFactoryMock, never()).close();
+	}
+
+	@Test
+	public void shouldCloseHttpClientRequestFactoryWhenClientIsClosed() throws Exception {
+		HttpClientRequestFactory httpClientRequestFactoryMock = mock(HttpClientRequestFactory.class,
+				withSettings().extraInterfaces(Closeable.class));
+
+		RestifyClient client = new RestifyProxyBuilder()
+				.client(httpClientRequestFactoryMock)
+					.build();
+
+		client.close();
+
+		verify((Closeable) httpClientRequestFactoryMock).close();
+	}
+
+	@Path("/my")
+	interface MyApi {
+
+		@Get
+		String get();
+	}
+
+	@Path("/other")
+	interface MyOtherApi {
+
+		@Get
+		String get();
+	}
+}
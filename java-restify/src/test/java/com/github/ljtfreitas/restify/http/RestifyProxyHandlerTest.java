@@ -3,6 +3,7 @@ package com.github.ljtfreitas.restify.http;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,6 +19,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import com.github.ljtfreitas.restify.http.RestifyProxyHandler;
 import com.github.ljtfreitas.restify.http.client.EndpointMethodExecutor;
+import com.github.ljtfreitas.restify.http.client.EndpointMethodInvocationPlan;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethods;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
@@ -29,6 +31,9 @@ public class RestifyProxyHandlerTest {
 	@Mock
 	private EndpointMethodExecutor endpointMethodExecutorMock;
 
+	@Mock
+	private EndpointMethodInvocationPlan endpointMethodInvocationPlanMock;
+
 	private RestifyProxyHandler restifyProxyHandler;
 
 	private TargetType targetType;
@@ -45,7 +50,10 @@ public class RestifyProxyHandlerTest {
 
 		endpointType = Mockito.spy(new EndpointType(target, new EndpointMethods(Arrays.asList(endpointMethod))));
 
-		when(endpointMethodExecutorMock.execute(same(endpointMethod), any()))
+		when(endpointMethodExecutorMock.plan(same(endpointMethod)))
+			.thenReturn(endpointMethodInvocationPlanMock);
+
+		when(endpointMethodInvocationPlanMock.execute(any()))
 			.thenReturn("Result");
 
 		restifyProxyHandler = new RestifyProxyHandler(endpointType, endpointMethodExecutorMock);
@@ -60,7 +68,23 @@ public class RestifyProxyHandlerTest {
 		assertEquals("Result", result);
 
 		verify(endpointMethodExecutorMock)
-			.execute(same(endpointMethod), any());
+			.plan(same(endpointMethod));
+
+		verify(endpointMethodInvocationPlanMock)
+			.execute(any());
+	}
+
+	@Test
+	public void shouldBuildInvocationPlanOnlyOnce() {
+		targetType.method();
+		targetType.method();
+		targetType.method();
+
+		verify(endpointMethodExecutorMock, times(1))
+			.plan(same(endpointMethod));
+
+		verify(endpointMethodInvocationPlanMock, times(3))
+			.execute(any());
 	}
 
 	@Test
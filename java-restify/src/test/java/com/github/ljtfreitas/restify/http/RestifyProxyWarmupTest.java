@@ -0,0 +1,113 @@
+package com.github.ljtfreitas.restify.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.HttpMessageReader;
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.netty.NettyHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class RestifyProxyWarmupTest {
+
+	private ConnectionCountingServer server;
+
+	private HttpClientRequestFactory httpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (httpClientRequestFactory instanceof Closeable) {
+			((Closeable) httpClientRequestFactory).close();
+		}
+		server.close();
+	}
+
+	@Test
+	public void shouldOpenConnectionsWhenProxyIsCreatedWithNetty() throws Exception {
+		MyApi myApi = myApi(new NettyHttpClientRequestFactory(), 4);
+
+		awaitAccepted(4);
+
+		assertEquals("hello", myApi.hello());
+		assertEquals("hello", myApi.hello());
+
+		assertEquals(4, server.accepted());
+	}
+
+	@Test
+	public void shouldOpenConnectionsWhenProxyIsCreatedWithApacheHttpClient() throws Exception {
+		MyApi myApi = myApi(new ApacheHttpClientRequestFactory(new ApacheHttpClientRequestConfiguration.Builder().build()), 4);
+
+		awaitAccepted(4);
+
+		assertEquals("hello", myApi.hello());
+		assertEquals("hello", myApi.hello());
+
+		assertEquals(4, server.accepted());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldPrepareConvertersOfResponseTypes() {
+		HttpMessageReader<Object> reader = mock(HttpMessageReader.class);
+
+		when(reader.contentType()).thenReturn("text/plain");
+		when(reader.canRead(any())).thenReturn(true);
+
+		httpClientRequestFactory = new NettyHttpClientRequestFactory();
+
+		new RestifyProxyBuilder()
+			.client(httpClientRequestFactory)
+			.converters(reader)
+			.warmup(0)
+			.target(MyApi.class, "http://localhost:" + server.port())
+				.build();
+
+		verify(reader, atLeastOnce()).prepare(String.class);
+
+		assertEquals(0, server.accepted());
+	}
+
+	private void awaitAccepted(int expected) throws InterruptedException {
+		for (int i = 0; i < 50 && server.accepted() < expected; i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(expected, server.accepted());
+	}
+
+	private MyApi myApi(HttpClientRequestFactory httpClientRequestFactory, int connections) {
+		this.httpClientRequestFactory = httpClientRequestFactory;
+
+		return new RestifyProxyBuilder()
+				.client(httpClientRequestFactory)
+				.warmup(connections)
+				.target(MyApi.class, "http://localhost:" + server.port())
+					.build();
+	}
+
+	interface MyApi {
+
+		@Path("/hello") @Get
+		String hello();
+	}
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.notNull;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +18,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import com.github.ljtfreitas.restify.http.client.EndpointMethodExecutor;
 import com.github.ljtfreitas.restify.http.client.call.EndpointCall;
 import com.github.ljtfreitas.restify.http.client.call.EndpointCallFactory;
+import com.github.ljtfreitas.restify.http.client.call.EndpointCallTemplate;
 import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutable;
 import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutables;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
@@ -34,6 +36,9 @@ public class EndpointMethodExecutorTest {
 	@Mock
 	private EndpointCallFactory endpointCallFactoryMock;
 
+	@Mock
+	private EndpointCallTemplate<Object> endpointCallTemplateMock;
+
 	@InjectMocks
 	private EndpointMethodExecutor endpointMethodExecutor;
 
@@ -46,11 +51,6 @@ public class EndpointMethodExecutorTest {
 		when(endpointCallExecutablesMock.of(endpointMethod))
 			.thenReturn(endpointCallExecutableMock);
 
-		SimpleEndpointMethodCall call = new SimpleEndpointMethodCall("endpoint result");
-
-		when(endpointCallFactoryMock.createWith(notNull(EndpointMethod.class), any(), notNull(JavaType.class)))
-			.thenReturn(call);
-
 		when(endpointCallExecutableMock.execute(any(), any(Object[].class)))
 			.then(i -> i.getArgumentAt(0, EndpointCall.class).execute());
 	}
@@ -65,13 +65,46 @@ public class EndpointMethodExecutorTest {
 		when(endpointCallExecutableMock.returnType())
 			.thenReturn(returnType);
 
-		Object result = endpointMethodExecutor.execute(endpointMethod, args);
+		when(endpointCallFactoryMock.templateOf(endpointMethod, returnType))
+			.thenReturn(endpointCallTemplateMock);
+
+		when(endpointCallTemplateMock.createWith(args))
+			.thenReturn(new SimpleEndpointMethodCall("endpoint result"));
+
+		assertEquals("endpoint result", endpointMethodExecutor.execute(endpointMethod, args));
+		assertEquals("endpoint result", endpointMethodExecutor.execute(endpointMethod, args));
+
+		verify(endpointCallExecutablesMock, times(1)).of(endpointMethod);
+		verify(endpointCallFactoryMock, times(1)).templateOf(endpointMethod, returnType);
+		verify(endpointCallTemplateMock, times(2)).createWith(args);
+		verify(endpointCallExecutableMock, times(2)).execute(notNull(EndpointCall.class), eq(args));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void shouldExecuteEndpointMethodUsingInvocationPlan() throws Exception {
+		Object[] args = new Object[]{"arg"};
+
+		JavaType returnType = JavaType.of(String.class);
+
+		when(endpointCallExecutableMock.returnType())
+			.thenReturn(returnType);
+
+		when(endpointCallFactoryMock.templateOf(endpointMethod, returnType))
+			.thenReturn(endpointCallTemplateMock);
+
+		when(endpointCallTemplateMock.createWith(args))
+			.thenReturn(new SimpleEndpointMethodCall("endpoint result"));
+
+		EndpointMethodInvocationPlan plan = endpointMethodExecutor.plan(endpointMethod);
 
-		assertEquals("endpoint result", result);
+		assertEquals("endpoint result", plan.execute(args));
+		assertEquals("endpoint result", plan.execute(args));
 
-		verify(endpointCallExecutablesMock).of(endpointMethod);
-		verify(endpointCallFactoryMock).createWith(notNull(EndpointMethod.class), any(), notNull(JavaType.class));
-		verify(endpointCallExecutableMock).execute(notNull(EndpointCall.class), eq(args));
+		verify(endpointCallExecutablesMock, times(1)).of(endpointMethod);
+		verify(endpointCallFactoryMock, times(1)).templateOf(endpointMethod, returnType);
+		verify(endpointCallTemplateMock, times(2)).createWith(args);
+		verify(endpointCallExecutableMock, times(2)).execute(notNull(EndpointCall.class), eq(args));
 	}
 
 	interface SomeType {
@@ -0,0 +1,81 @@
+package com.github.ljtfreitas.restify.http.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class HeadersTest {
+
+	private Headers headers;
+
+	@Before
+	public void setup() {
+		headers = new Headers();
+	}
+
+	@Test
+	public void shouldGetHeaderIgnoringCase() {
+		headers.put("Content-Type", "application/json");
+
+		Optional<Header> header = headers.get("content-type");
+
+		assertTrue(header.isPresent());
+		assertEquals("application/json", header.get().value());
+
+		assertTrue(headers.get(Headers.CONTENT_TYPE).isPresent());
+		assertTrue(headers.get("CONTENT-TYPE").isPresent());
+	}
+
+	@Test
+	public void shouldKeepMultipleValuesOfSameHeader() {
+		headers.put("Set-Cookie", Arrays.asList("a=1", "b=2"));
+		headers.put("set-cookie", "a=1");
+
+		assertEquals(2, headers.getAll("SET-COOKIE").size());
+		assertEquals("a=1", headers.get("Set-Cookie").get().value());
+		assertEquals(2, headers.all().size());
+	}
+
+	@Test
+	public void shouldIterateInInsertionOrder() {
+		headers.put("X-First", "1");
+		headers.put(Headers.ACCEPT, "text/plain");
+		headers.put("x-first", "2");
+
+		assertEquals(Arrays.asList(new Header("X-First", "1"), new Header("Accept", "text/plain"), new Header("x-first", "2")),
+				new ArrayList<>(headers.all()));
+	}
+
+	@Test
+	public void shouldReplaceAllValuesOfHeader() {
+		headers.put("Accept", "text/plain");
+		headers.put("X-Other", "other");
+		headers.put("accept", "application/json");
+
+		headers.replace(Headers.ACCEPT, "application/xml");
+
+		assertEquals(1, headers.getAll("Accept").size());
+		assertEquals("application/xml", headers.get("ACCEPT").get().value());
+		assertEquals(2, headers.all().size());
+	}
+
+	@Test
+	public void shouldCopyHeadersIndependently() {
+		headers.put("Accept", "text/plain");
+
+		Headers copy = new Headers(headers);
+		copy.replace("Accept", "application/json");
+
+		assertEquals("text/plain", headers.get("Accept").get().value());
+		assertEquals("application/json", copy.get("Accept").get().value());
+		assertFalse(headers.get("X-Missing").isPresent());
+		assertTrue(headers.getAll("X-Missing").isEmpty());
+	}
+}
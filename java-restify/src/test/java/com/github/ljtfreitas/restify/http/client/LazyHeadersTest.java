@@ -0,0 +1,85 @@
+package com.github.ljtfreitas.restify.http.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class LazyHeadersTest {
+
+	private Map<String, List<String>> source;
+
+	private AtomicInteger materializations;
+
+	private LazyHeaders headers;
+
+	@Before
+	public void setup() {
+		source = new LinkedHashMap<>();
+		source.put("Content-Type", Arrays.asList("application/json"));
+		source.put("Set-Cookie", Arrays.asList("a=1", "b=2"));
+
+		materializations = new AtomicInteger();
+
+		headers = new LazyHeaders(
+				name -> source.entrySet().stream()
+					.filter(e -> e.getKey().equalsIgnoreCase(name))
+						.findFirst()
+							.map(Map.Entry::getValue)
+								.orElse(null),
+				consumer -> {
+					materializations.incrementAndGet();
+					source.forEach((name, values) -> values.forEach(value -> consumer.accept(name, value)));
+				});
+	}
+
+	@Test
+	public void shouldReadHeaderFromSourceWithoutCopy() {
+		Optional<Header> contentType = headers.get(Headers.CONTENT_TYPE);
+
+		assertTrue(contentType.isPresent());
+		assertEquals("application/json", contentType.get().value());
+
+		assertEquals(2, headers.getAll("set-cookie").size());
+		assertFalse(headers.get("X-Missing").isPresent());
+
+		assertEquals(0, materializations.get());
+	}
+
+	@Test
+	public void shouldCopySourceWhenAllHeadersAreIterated() {
+		Collection<Header> all = headers.all();
+
+		assertEquals(3, all.size());
+		assertEquals(1, materializations.get());
+
+		headers.all();
+
+		assertEquals(1, materializations.get());
+	}
+
+	@Test
+	public void shouldCopySourceBeforeMutation() {
+		headers.put("X-Custom", "custom");
+		headers.replace(Headers.CONTENT_TYPE, "text/plain");
+
+		assertEquals(1, materializations.get());
+
+		assertEquals("text/plain", headers.get("content-type").get().value());
+		assertEquals("custom", headers.get("X-Custom").get().value());
+		assertEquals(2, headers.getAll("Set-Cookie").size());
+		assertEquals(4, headers.all().size());
+
+		assertEquals("application/json", source.get("Content-Type").get(0));
+	}
+}
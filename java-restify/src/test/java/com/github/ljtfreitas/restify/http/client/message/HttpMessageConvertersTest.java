@@ -0,0 +1,102 @@
+package com.github.ljtfreitas.restify.http.client.message;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.contract.ContentType;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HttpMessageConvertersTest {
+
+	@Mock
+	private HttpMessageReader<Object> jsonReaderMock;
+
+	@Mock
+	private HttpMessageReader<Object> textReaderMock;
+
+	@Mock
+	private HttpMessageWriter<Object> jsonWriterMock;
+
+	private HttpMessageConverters converters;
+
+	@Before
+	public void setup() {
+		when(jsonReaderMock.contentType()).thenReturn("application/json");
+		when(jsonReaderMock.canRead(String.class)).thenReturn(true);
+
+		when(textReaderMock.contentType()).thenReturn("text/plain");
+		when(textReaderMock.canRead(String.class)).thenReturn(true);
+
+		when(jsonWriterMock.contentType()).thenReturn("application/json");
+		when(jsonWriterMock.canWrite(String.class)).thenReturn(true);
+
+		converters = new HttpMessageConverters(Arrays.asList(jsonReaderMock, jsonWriterMock));
+	}
+
+	@Test
+	public void shouldMemoizeReaderLookup() {
+		Optional<HttpMessageReader<Object>> first = converters.readerOf(ContentType.of("application/json"), String.class);
+		Optional<HttpMessageReader<Object>> second = converters.readerOf(ContentType.of("application/json; charset=UTF-8"), String.class);
+
+		assertSame(jsonReaderMock, first.get());
+		assertSame(jsonReaderMock, second.get());
+
+		verify(jsonReaderMock, times(1)).canRead(String.class);
+	}
+
+	@Test
+	public void shouldMemoizeWriterLookup() {
+		converters.writerOf(ContentType.of("application/json"), String.class);
+
+		Optional<HttpMessageWriter<Object>> writer = converters.writerOf(ContentType.of("application/json"), String.class);
+
+		assertSame(jsonWriterMock, writer.get());
+
+		verify(jsonWriterMock, times(1)).canWrite(String.class);
+	}
+
+	@Test
+	public void shouldMemoizeMissingReader() {
+		assertFalse(converters.readerOf(ContentType.of("application/json"), Integer.class).isPresent());
+		assertFalse(converters.readerOf(ContentType.of("application/json"), Integer.class).isPresent());
+
+		verify(jsonReaderMock, times(1)).canRead(Integer.class);
+	}
+
+	@Test
+	public void shouldInvalidateLookupsWhenConverterIsAdded() {
+		assertFalse(converters.readerOf(ContentType.of("text/plain"), String.class).isPresent());
+
+		converters.add(textReaderMock);
+
+		Optional<HttpMessageReader<Object>> reader = converters.readerOf(ContentType.of("text/plain"), String.class);
+
+		assertTrue(reader.isPresent());
+		assertSame(textReaderMock, reader.get());
+	}
+
+	@Test
+	public void shouldNotCacheMoreLookupsThanCacheSize() {
+		converters = new HttpMessageConverters(Arrays.asList(jsonReaderMock), 1);
+
+		converters.readerOf(ContentType.of("application/json"), Integer.class);
+		converters.readerOf(ContentType.of("application/json"), String.class);
+		converters.readerOf(ContentType.of("application/json"), String.class);
+
+		verify(jsonReaderMock, times(1)).canRead(Integer.class);
+		verify(jsonReaderMock, times(2)).canRead(String.class);
+	}
+}
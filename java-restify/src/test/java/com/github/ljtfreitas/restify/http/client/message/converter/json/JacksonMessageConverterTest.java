@@ -1,6 +1,11 @@
 package com.github.ljtfreitas.restify.http.client.message.converter.json;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -13,6 +18,8 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.ljtfreitas.restify.http.client.message.converter.json.JacksonMessageConverter;
 import com.github.ljtfreitas.restify.http.client.request.SimpleHttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.response.SimpleHttpResponseMessage;
@@ -114,4 +121,29 @@ public class JacksonMessageConverterTest {
 		assertEquals("Tiago de Freitas Lima 2", myJsonModel.name);
 		assertEquals(32, myJsonModel.age);
 	}
+
+	@Test
+	public void shouldReuseReaderAndWriterBuiltOnPrepare() {
+		ObjectMapper objectMapper = spy(new ObjectMapper());
+
+		JacksonMessageConverter<Object> converter = new JacksonMessageConverter<>(objectMapper);
+
+		converter.prepare(MyJsonModel.class);
+
+		for (int i = 0; i < 2; i++) {
+			MyJsonModel myJsonModel = (MyJsonModel) converter.read(new SimpleHttpResponseMessage(new ByteArrayInputStream(json.getBytes())),
+					MyJsonModel.class);
+
+			assertEquals("Tiago de Freitas Lima", myJsonModel.name);
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			converter.write(myJsonModel, new SimpleHttpRequestMessage(output));
+
+			assertEquals(json, output.toString());
+		}
+
+		verify(objectMapper, times(1)).reader(any(JavaType.class));
+		verify(objectMapper, times(1)).writerWithType(eq(MyJsonModel.class));
+	}
 }
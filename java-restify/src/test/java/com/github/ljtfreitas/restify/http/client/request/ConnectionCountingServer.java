@@ -0,0 +1,133 @@
+package com.github.ljtfreitas.restify.http.client.request;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConnectionCountingServer implements Closeable {
+
+	public static final int HUGE_CONTENT_LENGTH = 1024 * 1024;
+
+	private final ServerSocket serverSocket;
+	private final AtomicInteger accepted = new AtomicInteger();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	public ConnectionCountingServer() throws IOException {
+		this.serverSocket = new ServerSocket(0);
+		executor.execute(this::accept);
+	}
+
+	public int port() {
+		return serverSocket.getLocalPort();
+	}
+
+	public int accepted() {
+		return accepted.get();
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				accepted.incrementAndGet();
+				executor.execute(() -> serve(socket));
+
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (Socket s = socket) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.ISO_8859_1));
+			OutputStream output = s.getOutputStream();
+
+			String requestLine;
+			while ((requestLine = reader.readLine()) != null) {
+				long contentLength = 0;
+				boolean chunked = false;
+
+				String line;
+				while ((line = reader.readLine()) != null && !line.isEmpty()) {
+					if (line.toLowerCase().startsWith("content-length:")) {
+						contentLength = Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+					} else if (line.toLowerCase().startsWith("transfer-encoding:") && line.toLowerCase().contains("chunked")) {
+						chunked = true;
+					}
+				}
+
+				long received = chunked ? skipChunks(reader) : skip(reader, contentLength);
+
+				String path = requestLine.split(" ")[1];
+
+				String status = path.endsWith("/missing") ? "404 Not Found" : "200 OK";
+				String body = path.endsWith("/large") ? repeat(1024)
+						: path.endsWith("/huge") ? repeat(HUGE_CONTENT_LENGTH)
+						: path.endsWith("/upload") ? received + " " + (chunked ? "chunked" : "fixed")
+						: path.endsWith("/missing") ? "not found" : "hello";
+
+				String response = "HTTP/1.1 " + status + "\r\n"
+						+ "Content-Type: text/plain\r\n"
+						+ "Content-Length: " + body.length() + "\r\n"
+						+ "\r\n"
+						+ body;
+
+				output.write(response.getBytes(StandardCharsets.ISO_8859_1));
+				output.flush();
+			}
+
+		} catch (IOException e) {
+		}
+	}
+
+	private long skipChunks(BufferedReader reader) throws IOException {
+		long received = 0;
+
+		String size;
+		while ((size = reader.readLine()) != null) {
+			long chunk = Long.parseLong(size.split(";")[0].trim(), 16);
+
+			if (chunk == 0) {
+				String trailer;
+				while ((trailer = reader.readLine()) != null && !trailer.isEmpty());
+				break;
+			}
+
+			received += skip(reader, chunk);
+			reader.readLine();
+		}
+
+		return received;
+	}
+
+	private long skip(BufferedReader reader, long length) throws IOException {
+		long remaining = length;
+		while (remaining > 0) {
+			long skipped = reader.skip(remaining);
+			if (skipped <= 0) {
+				break;
+			}
+			remaining -= skipped;
+		}
+		return length - remaining;
+	}
+
+	private String repeat(int length) {
+		return new String(new char[length]).replace('\0', 'x');
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,99 @@
+package com.github.ljtfreitas.restify.http.client.request;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.netty.NettyHttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.request.netty.NettyHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.okhttp.OkHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.resolver.CachingEndpointAddressResolver;
+import com.github.ljtfreitas.restify.http.client.request.resolver.HostsFileEndpointAddressResolver;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class EndpointAddressResolverTest {
+
+	private ConnectionCountingServer server;
+
+	private CachingEndpointAddressResolver resolver;
+
+	private HttpClientRequestFactory httpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+		resolver = new CachingEndpointAddressResolver(new HostsFileEndpointAddressResolver("127.0.0.1 my-service.local"));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (httpClientRequestFactory instanceof Closeable) {
+			((Closeable) httpClientRequestFactory).close();
+		}
+		resolver.close();
+		server.close();
+	}
+
+	@Test
+	public void shouldResolveHostWithNetty() {
+		MyApi myApi = myApi(new NettyHttpClientRequestFactory(new NettyHttpClientRequestConfiguration.Builder()
+				.resolver(resolver)
+					.build()));
+
+		assertEquals("hello", myApi.hello());
+	}
+
+	@Test
+	public void shouldResolveHostWithOkHttp() {
+		MyApi myApi = myApi(new OkHttpClientRequestFactory(resolver));
+
+		assertEquals("hello", myApi.hello());
+	}
+
+	@Test
+	public void shouldResolveHostWithApacheHttpClient() {
+		MyApi myApi = myApi(new ApacheHttpClientRequestFactory(new ApacheHttpClientRequestConfiguration.Builder()
+				.resolver(resolver)
+					.build()));
+
+		assertEquals("hello", myApi.hello());
+	}
+
+	@Test(expected = RestifyHttpException.class)
+	public void shouldFailWhenHostIsUnknownWithNetty() {
+		this.httpClientRequestFactory = new NettyHttpClientRequestFactory(new NettyHttpClientRequestConfiguration.Builder()
+				.resolver(resolver)
+					.build());
+
+		new RestifyProxyBuilder()
+			.client(httpClientRequestFactory)
+			.target(MyApi.class, "http://unknown.local:" + server.port())
+				.build()
+					.hello();
+	}
+
+	private MyApi myApi(HttpClientRequestFactory httpClientRequestFactory) {
+		this.httpClientRequestFactory = httpClientRequestFactory;
+
+		return new RestifyProxyBuilder()
+				.client(httpClientRequestFactory)
+				.target(MyApi.class, "http://my-service.local:" + server.port())
+					.build();
+	}
+
+	interface MyApi {
+
+		@Path("/hello") @Get
+		String hello();
+	}
+}
@@ -3,7 +3,6 @@ package com.github.ljtfreitas.restify.http.client.request;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
 
@@ -21,6 +20,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointRequestInterceptorChain;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointRequestInterceptorStack;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
 import com.github.ljtfreitas.restify.http.contract.Parameters;
@@ -45,8 +45,8 @@ public class EndpointRequestFactoryTest {
 
 	@Before
 	public void setup() {
-		when(endpointRequestInterceptorStackMock.apply(any()))
-			.then(returnsFirstArg());
+		when(endpointRequestInterceptorStackMock.compile(any()))
+			.thenReturn(EndpointRequestInterceptorChain.empty());
 	}
 
 	@Test
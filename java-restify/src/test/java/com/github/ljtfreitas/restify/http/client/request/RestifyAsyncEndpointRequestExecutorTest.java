@@ -0,0 +1,216 @@
+package com.github.ljtfreitas.restify.http.client.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+import com.github.ljtfreitas.restify.http.client.message.HttpMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.HttpMessageConverters;
+import com.github.ljtfreitas.restify.http.client.message.converter.text.TextPlainMessageConverter;
+import com.github.ljtfreitas.restify.http.client.request.netty.NettyHttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.request.netty.NettyHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.response.DefaultEndpointResponseErrorFallback;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponseReader;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.response.SimpleHttpResponseMessage;
+import com.github.ljtfreitas.restify.http.contract.metadata.reflection.JavaType;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RestifyAsyncEndpointRequestExecutorTest {
+
+	@Mock
+	private AsyncHttpClientRequestFactory httpClientRequestFactoryMock;
+
+	@Mock
+	private EndpointRequestWriter endpointRequestWriterMock;
+
+	@Mock
+	private EndpointResponseReader endpointResponseReaderMock;
+
+	private RestifyAsyncEndpointRequestExecutor endpointRequestExecutor;
+
+	private EndpointResponse<String> endpointResult;
+
+	private HttpResponseMessage response;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setup() {
+		executor = Executors.newFixedThreadPool(2);
+
+		endpointRequestExecutor = new RestifyAsyncEndpointRequestExecutor(httpClientRequestFactoryMock, endpointRequestWriterMock,
+				endpointResponseReaderMock, executor);
+
+		endpointResult = new EndpointResponse<>(null, null, "endpoint request result");
+
+		response = new SimpleHttpResponseMessage(new ByteArrayInputStream(endpointResult.body().getBytes()));
+
+		when(endpointResponseReaderMock.<String> read(response, JavaType.of(String.class)))
+			.thenReturn(endpointResult);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		executor.shutdownNow();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void shouldExecuteHttpClientRequestWithoutBody() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "GET", String.class);
+
+		when(httpClientRequestFactoryMock.createOf(endpointRequest))
+			.thenReturn(new SimpleAsyncHttpClientRequest(endpointRequest, CompletableFuture.completedFuture(response)));
+
+		EndpointResponse<String> result = endpointRequestExecutor.<String> executeAsync(endpointRequest).get();
+
+		assertEquals(endpointResult, result);
+
+		verify(endpointRequestWriterMock, never()).write(any(), any());
+		verify(endpointResponseReaderMock).read(response, JavaType.of(String.class));
+	}
+
+	@Test
+	public void shouldExecuteHttpClientRequestWithBody() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "POST", new Headers(),
+				"endpoint request body", String.class);
+
+		SimpleAsyncHttpClientRequest request = new SimpleAsyncHttpClientRequest(endpointRequest, CompletableFuture.completedFuture(response));
+
+		when(httpClientRequestFactoryMock.createOf(endpointRequest))
+			.thenReturn(request);
+
+		EndpointResponse<String> result = endpointRequestExecutor.<String> executeAsync(endpointRequest).get();
+
+		assertEquals(endpointResult, result);
+
+		verify(endpointRequestWriterMock).write(endpointRequest, request);
+	}
+
+	@Test
+	public void shouldCompleteExceptionallyWhenHttpClientRequestFails() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "GET", String.class);
+
+		RestifyHttpException failure = new RestifyHttpException(new IOException("connection refused"));
+
+		CompletableFuture<HttpResponseMessage> future = new CompletableFuture<>();
+		future.completeExceptionally(failure);
+
+		when(httpClientRequestFactoryMock.createOf(endpointRequest))
+			.thenReturn(new SimpleAsyncHttpClientRequest(endpointRequest, future));
+
+		CompletableFuture<EndpointResponse<String>> result = endpointRequestExecutor.executeAsync(endpointRequest);
+
+		assertTrue(result.isCompletedExceptionally());
+
+		try {
+			result.get();
+		} catch (ExecutionException e) {
+			assertSame(failure, e.getCause());
+		}
+	}
+
+	@Test
+	public void shouldReadStreamingResponseOutOfTheNettyEventLoop() throws Exception {
+		HttpMessageConverters converters = new HttpMessageConverters(Arrays.<HttpMessageConverter> asList(new TextPlainMessageConverter()));
+
+		try (ConnectionCountingServer server = new ConnectionCountingServer();
+			 NettyHttpClientRequestFactory nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(
+					 new NettyHttpClientRequestConfiguration.Builder()
+						.streaming()
+						.streamingBufferSize(1024 * 16)
+						.build())) {
+
+			RestifyAsyncEndpointRequestExecutor nettyEndpointRequestExecutor = new RestifyAsyncEndpointRequestExecutor(
+					nettyHttpClientRequestFactory, new EndpointRequestWriter(converters),
+					new EndpointResponseReader(converters, new DefaultEndpointResponseErrorFallback()), executor);
+
+			for (int i = 0; i < 3; i++) {
+				EndpointRequest endpointRequest = new EndpointRequest(URI.create("http://localhost:" + server.port() + "/huge"), "GET",
+						String.class);
+
+				EndpointResponse<String> result = nettyEndpointRequestExecutor.<String> executeAsync(endpointRequest)
+						.get(10, TimeUnit.SECONDS);
+
+				assertEquals(ConnectionCountingServer.HUGE_CONTENT_LENGTH, result.body().length());
+			}
+		}
+	}
+
+	private class SimpleAsyncHttpClientRequest implements AsyncHttpClientRequest {
+
+		private final EndpointRequest source;
+		private final CompletableFuture<HttpResponseMessage> response;
+
+		private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		public SimpleAsyncHttpClientRequest(EndpointRequest source, CompletableFuture<HttpResponseMessage> response) {
+			this.source = source;
+			this.response = response;
+		}
+
+		@Override
+		public URI uri() {
+			return source.endpoint();
+		}
+
+		@Override
+		public String method() {
+			return source.method();
+		}
+
+		@Override
+		public OutputStream output() {
+			return outputStream;
+		}
+
+		@Override
+		public Charset charset() {
+			return Encoding.UTF_8.charset();
+		}
+
+		@Override
+		public HttpResponseMessage execute() throws RestifyHttpException {
+			return response.join();
+		}
+
+		@Override
+		public CompletableFuture<HttpResponseMessage> executeAsync() throws RestifyHttpException {
+			return response;
+		}
+
+		@Override
+		public Headers headers() {
+			return source.headers();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.github.ljtfreitas.restify.http.client.request;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.charset.Encoding;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.request.apache.httpclient.ApacheHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.jdk.HttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.request.jdk.JdkHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.netty.NettyHttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.request.netty.NettyHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.okhttp.OkHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.Header;
+import com.github.ljtfreitas.restify.http.contract.HeaderParameter;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.Post;
+
+import okhttp3.OkHttpClient;
+
+public class StreamingRequestBodyTest {
+
+	private static final long BODY_SIZE = 1024 * 1024 * 16;
+
+	private ConnectionCountingServer server;
+
+	private HttpClientRequestFactory httpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (httpClientRequestFactory instanceof Closeable) {
+			((Closeable) httpClientRequestFactory).close();
+		}
+		server.close();
+	}
+
+	@Test
+	public void shouldStreamRequestBodyWithJdkHttpClient() {
+		MyApi myApi = myApi(new JdkHttpClientRequestFactory(new HttpClientRequestConfiguration.Builder()
+				.bufferRequestBody(false)
+					.build()));
+
+		assertStreamed(myApi);
+	}
+
+	@Test
+	public void shouldStreamRequestBodyWithApacheHttpClient() {
+		MyApi myApi = myApi(new ApacheHttpClientRequestFactory(new ApacheHttpClientRequestConfiguration.Builder()
+				.bufferRequestBody(false)
+					.build()));
+
+		assertStreamed(myApi);
+	}
+
+	@Test
+	public void shouldStreamRequestBodyWithOkHttp() {
+		MyApi myApi = myApi(new OkHttpClientRequestFactory(new OkHttpClient(), Encoding.UTF_8.charset(), false));
+
+		assertStreamed(myApi);
+	}
+
+	@Test
+	public void shouldStreamRequestBodyWithNetty() {
+		MyApi myApi = myApi(new NettyHttpClientRequestFactory(new NettyHttpClientRequestConfiguration.Builder()
+				.bufferRequestBody(false)
+					.build()));
+
+		assertStreamed(myApi);
+	}
+
+	private void assertStreamed(MyApi myApi) {
+		assertEquals(BODY_SIZE + " chunked", myApi.upload(new GeneratedInputStream(BODY_SIZE)));
+		assertEquals(BODY_SIZE + " fixed", myApi.upload(new GeneratedInputStream(BODY_SIZE), BODY_SIZE));
+		assertEquals("1 fixed", myApi.upload(new GeneratedInputStream(1), 1));
+	}
+
+	private MyApi myApi(HttpClientRequestFactory httpClientRequestFactory) {
+		this.httpClientRequestFactory = httpClientRequestFactory;
+
+		return new RestifyProxyBuilder()
+				.client(httpClientRequestFactory)
+				.target(MyApi.class, "http://localhost:" + server.port())
+					.build();
+	}
+
+	interface MyApi {
+
+		@Path("/upload") @Post
+		@Header(name = "Content-Type", value = "application/octet-stream")
+		String upload(@BodyParameter InputStream body);
+
+		@Path("/upload") @Post
+		@Header(name = "Content-Type", value = "application/octet-stream")
+		@Header(name = "Content-Length", value = "{length}")
+		String upload(@BodyParameter InputStream body, @HeaderParameter("length") long length);
+	}
+
+	private class GeneratedInputStream extends InputStream {
+
+		private long remaining;
+
+		private GeneratedInputStream(long size) {
+			this.remaining = size;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining == 0) {
+				return -1;
+			}
+			remaining--;
+			return 'x';
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining == 0) {
+				return -1;
+			}
+
+			int size = (int) Math.min(len, remaining);
+			Arrays.fill(b, off, off + size, (byte) 'x');
+			remaining -= size;
+
+			return size;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.github.ljtfreitas.restify.http.client.request.apache.httpasyncclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.message.converter.InputStreamContent;
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Header;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.Post;
+
+public class ApacheAsyncHttpClientRequestTest {
+
+	private static final int REQUESTS = 500;
+
+	private ConnectionCountingServer server;
+
+	private ApacheAsyncHttpClientRequestFactory apacheAsyncHttpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+
+		apacheAsyncHttpClientRequestFactory = new ApacheAsyncHttpClientRequestFactory(new ApacheAsyncHttpClientRequestConfiguration.Builder()
+				.ioThreads(1)
+				.maxConnectionsPerRoute(1)
+				.responseBufferSize(1024 * 16)
+				.build());
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		apacheAsyncHttpClientRequestFactory.close();
+		server.close();
+	}
+
+	@Test
+	public void shouldExecuteConcurrentRequestsWithoutBlockingTheCaller() throws Exception {
+		URI endpoint = URI.create("http://localhost:" + server.port() + "/large");
+
+		Collection<CompletableFuture<Integer>> results = new ArrayList<>();
+
+		try (ApacheAsyncHttpClientRequestFactory pooledRequestFactory = new ApacheAsyncHttpClientRequestFactory(
+				new ApacheAsyncHttpClientRequestConfiguration.Builder()
+					.ioThreads(1)
+					.maxConnectionsPerRoute(4)
+					.build())) {
+
+			for (int i = 0; i < REQUESTS; i++) {
+				results.add(pooledRequestFactory.createOf(new EndpointRequest(endpoint, "GET"))
+						.executeAsync()
+							.thenApplyAsync(this::lengthOf));
+			}
+
+			CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get();
+		}
+
+		results.forEach(r -> assertEquals(1024, r.join().intValue()));
+
+		assertTrue("Accepted " + server.accepted() + " connections", server.accepted() <= 4);
+	}
+
+	@Test
+	public void shouldStreamResponseBodyLargerThanTheBuffer() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			try (HttpResponseMessage response = execute("GET", "/huge")) {
+				assertEquals(ConnectionCountingServer.HUGE_CONTENT_LENGTH, drain(response.body()));
+			}
+		}
+
+		assertEquals(1, server.accepted());
+	}
+
+	@Test
+	public void shouldCloseTheConnectionWhenResponseIsClosedBeforeTheEnd() throws Exception {
+		try (HttpResponseMessage response = execute("GET", "/huge")) {
+			assertEquals('x', response.body().read());
+		}
+
+		try (HttpResponseMessage response = execute("GET", "/large")) {
+			assertEquals(1024, drain(response.body()));
+		}
+
+		assertEquals(2, server.accepted());
+	}
+
+	@Test
+	public void shouldSendRequestBodyWithContentLength() throws Exception {
+		HttpClientRequest request = apacheAsyncHttpClientRequestFactory.createOf(new EndpointRequest(
+				URI.create("http://localhost:" + server.port() + "/upload"), "POST", new Headers(), String.class));
+
+		request.output().write("hello".getBytes(StandardCharsets.UTF_8));
+
+		try (HttpResponseMessage response = request.execute()) {
+			assertEquals("5 fixed", content(response));
+		}
+	}
+
+	@Test
+	public void shouldStreamRequestBodyWhenBufferingIsDisabled() throws Exception {
+		try (ApacheAsyncHttpClientRequestFactory streamingFactory = new ApacheAsyncHttpClientRequestFactory(
+				new ApacheAsyncHttpClientRequestConfiguration.Builder()
+					.ioThreads(1)
+					.bufferRequestBody(false)
+					.chunkSize(2)
+					.build())) {
+
+			HttpClientRequest request = streamingFactory.createOf(new EndpointRequest(
+					URI.create("http://localhost:" + server.port() + "/upload"), "POST", new Headers(), String.class));
+
+			request.output().write("hello".getBytes(StandardCharsets.UTF_8));
+
+			try (HttpResponseMessage response = request.execute()) {
+				assertEquals("5 chunked", content(response));
+			}
+		}
+	}
+
+	@Test
+	public void shouldReadErrorResponse() throws Exception {
+		try (HttpResponseMessage response = execute("GET", "/missing")) {
+			assertEquals(404, response.statusCode().value());
+			assertEquals("not found", content(response));
+		}
+	}
+
+	@Test
+	public void shouldExecuteProxyCalls() throws Exception {
+		MyApi myApi = new RestifyProxyBuilder()
+				.client(apacheAsyncHttpClientRequestFactory)
+				.target(MyApi.class, "http://localhost:" + server.port())
+				.build();
+
+		assertEquals("hello", myApi.hello());
+		assertEquals(1024, myApi.large().get().length());
+		assertEquals("5 fixed", myApi.upload("hello"));
+		assertEquals(404, myApi.missing().get().code().value());
+	}
+
+	private HttpResponseMessage execute(String method, String path) {
+		return apacheAsyncHttpClientRequestFactory.createOf(new EndpointRequest(URI.create("http://localhost:" + server.port() + path), method))
+				.execute();
+	}
+
+	private int lengthOf(HttpResponseMessage response) {
+		try (HttpResponseMessage r = response) {
+			return drain(r.body());
+
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private int drain(InputStream body) throws IOException {
+		byte[] buffer = new byte[4096];
+		int total = 0;
+		int count;
+
+		while ((count = body.read(buffer)) != -1) {
+			total += count;
+		}
+
+		return total;
+	}
+
+	private String content(HttpResponseMessage response) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new InputStreamContent(response.body()).transferTo(output);
+		return new String(output.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	interface MyApi {
+
+		@Path("/hello") @Get
+		String hello();
+
+		@Path("/large") @Get
+		CompletableFuture<String> large();
+
+		@Path("/upload") @Post
+		@Header(name = "Content-Type", value = "text/plain")
+		String upload(@BodyParameter String body);
+
+		@Path("/missing") @Get
+		CompletableFuture<EndpointResponse<String>> missing();
+	}
+}
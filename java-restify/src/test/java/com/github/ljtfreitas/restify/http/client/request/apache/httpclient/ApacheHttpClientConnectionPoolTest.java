@@ -0,0 +1,146 @@
+package com.github.ljtfreitas.restify.http.client.request.apache.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.http.HttpException;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class ApacheHttpClientConnectionPoolTest {
+
+	private static final int REQUESTS = 50;
+
+	private ConnectionCountingServer server;
+
+	private ApacheHttpClientRequestFactory apacheHttpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (apacheHttpClientRequestFactory != null) {
+			apacheHttpClientRequestFactory.close();
+		}
+		server.close();
+	}
+
+	@Test
+	public void shouldNotOpenMoreConnectionsThanTheMaxConnectionsPerRoute() throws Exception {
+		MyApi myApi = myApi(new ApacheHttpClientRequestConfiguration.Builder()
+				.maxConnectionsPerRoute(2)
+				.build());
+
+		sweep(8, myApi::large);
+
+		assertTrue("Accepted " + server.accepted() + " connections", server.accepted() <= 2);
+	}
+
+	@Test
+	public void shouldUseTheMaxConnectionsOfTheRouteOverride() throws Exception {
+		MyApi myApi = myApi(new ApacheHttpClientRequestConfiguration.Builder()
+				.maxConnectionsPerRoute(10)
+				.maxConnectionsPerRoute("http://localhost:" + server.port(), 1)
+				.build());
+
+		sweep(8, myApi::large);
+
+		assertEquals(1, server.accepted());
+	}
+
+	@Test
+	public void shouldUseTheMaxConnectionsOfTheSecureRouteOverride() throws Exception {
+		ApacheHttpClientRequestConfiguration configuration = new ApacheHttpClientRequestConfiguration.Builder()
+				.maxConnectionsPerRoute(10)
+				.maxConnectionsPerRoute("https://localhost:8443", 1)
+				.maxConnectionsPerRoute("https://my.api.com", 3)
+				.build();
+
+		PoolingHttpClientConnectionManager connectionManager = new ApacheHttpClientFactory(configuration).connectionManager();
+
+		try {
+			assertEquals(1, connectionManager.getMaxPerRoute(routeOf("https://localhost:8443/large")));
+			assertEquals(3, connectionManager.getMaxPerRoute(routeOf("https://my.api.com/api")));
+			assertEquals(10, connectionManager.getMaxPerRoute(routeOf("http://my.api.com/api")));
+
+		} finally {
+			connectionManager.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldOpenNewConnectionsWhenIdleConnectionsAreEvicted() throws Exception {
+		MyApi myApi = myApi(new ApacheHttpClientRequestConfiguration.Builder()
+				.idleTimeout(50)
+				.build());
+
+		myApi.large();
+
+		Thread.sleep(500);
+
+		myApi.large();
+
+		assertEquals(2, server.accepted());
+	}
+
+	private MyApi myApi(ApacheHttpClientRequestConfiguration configuration) {
+		apacheHttpClientRequestFactory = new ApacheHttpClientRequestFactory(configuration);
+
+		return new RestifyProxyBuilder()
+				.client(apacheHttpClientRequestFactory)
+				.target(MyApi.class, "http://localhost:" + server.port())
+					.build();
+	}
+
+	private HttpRoute routeOf(String endpoint) throws HttpException {
+		return new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE)
+				.determineRoute(URIUtils.extractHost(URI.create(endpoint)), new HttpGet(endpoint), HttpClientContext.create());
+	}
+
+	private void sweep(int concurrency, Runnable request) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+		try {
+			Collection<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				results.add(executor.submit(request));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	interface MyApi {
+
+		@Path("/large") @Get
+		String large();
+	}
+}
@@ -44,6 +44,8 @@ public class ApacheHttpClientRequestTest {
 
 	private MyApi myApi;
 
+	private ApacheHttpClientRequestFactory apacheHttpClientRequestFactory;
+
 	private MockServerClient mockServerClient;
 
 	@Before
@@ -54,7 +56,7 @@ public class ApacheHttpClientRequestTest {
 				.setSocketTimeout(2000)
 					.build();
 
-		ApacheHttpClientRequestFactory apacheHttpClientRequestFactory = new ApacheHttpClientRequestFactory(configuration);
+		apacheHttpClientRequestFactory = new ApacheHttpClientRequestFactory(configuration);
 
 		myApi = new RestifyProxyBuilder()
 				.client(apacheHttpClientRequestFactory)
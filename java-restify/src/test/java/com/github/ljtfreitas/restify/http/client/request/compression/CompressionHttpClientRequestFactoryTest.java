@@ -0,0 +1,172 @@
+package com.github.ljtfreitas.restify.http.client.request.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.response.SimpleHttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.response.StatusCode;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CompressionHttpClientRequestFactoryTest {
+
+	@Mock
+	private HttpClientRequestFactory delegate;
+
+	@Mock
+	private HttpClientRequest httpClientRequest;
+
+	private Headers requestHeaders;
+
+	private ByteArrayOutputStream requestBody;
+
+	private CompressionHttpClientRequestFactory factory;
+
+	@Before
+	public void setup() {
+		requestHeaders = new Headers();
+		requestBody = new ByteArrayOutputStream();
+
+		when(delegate.createOf(any())).then(invocation -> {
+			EndpointRequest endpointRequest = invocation.getArgumentAt(0, EndpointRequest.class);
+			endpointRequest.headers().all().forEach(requestHeaders::add);
+			return httpClientRequest;
+		});
+
+		when(httpClientRequest.headers()).thenReturn(requestHeaders);
+		when(httpClientRequest.output()).thenReturn(requestBody);
+
+		factory = new CompressionHttpClientRequestFactory(delegate, 1024);
+	}
+
+	@Test
+	public void shouldAdvertiseAcceptedContentEncodings() {
+		factory.createOf(new EndpointRequest(URI.create("http://localhost:8080"), "GET"));
+
+		assertEquals("gzip, deflate", requestHeaders.get(Headers.ACCEPT_ENCODING).get().value());
+	}
+
+	@Test
+	public void shouldDecompressGzipResponseBody() throws Exception {
+		byte[] content = content(4096);
+
+		Headers headers = new Headers();
+		headers.put(Headers.CONTENT_ENCODING, "gzip");
+
+		when(httpClientRequest.execute()).thenReturn(new SimpleHttpResponseMessage(StatusCode.ok(), headers,
+				new ByteArrayInputStream(gzip(content))));
+
+		HttpResponseMessage response = factory.createOf(new EndpointRequest(URI.create("http://localhost:8080"), "GET")).execute();
+
+		assertArrayEquals(content, read(response.body()));
+		assertFalse(response.headers().get(Headers.CONTENT_ENCODING).isPresent());
+
+		response.close();
+	}
+
+	@Test
+	public void shouldDecompressDeflateResponseBody() throws Exception {
+		byte[] content = content(4096);
+
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (OutputStream output = ContentEncoding.DEFLATE.encode(compressed)) {
+			output.write(content);
+		}
+
+		Headers headers = new Headers();
+		headers.put(Headers.CONTENT_ENCODING, "deflate");
+
+		when(httpClientRequest.execute()).thenReturn(new SimpleHttpResponseMessage(StatusCode.ok(), headers,
+				new ByteArrayInputStream(compressed.toByteArray())));
+
+		HttpResponseMessage response = factory.createOf(new EndpointRequest(URI.create("http://localhost:8080"), "GET")).execute();
+
+		assertArrayEquals(content, read(response.body()));
+		assertArrayEquals(content, read(new InflaterInputStream(new ByteArrayInputStream(compressed.toByteArray()))));
+	}
+
+	@Test
+	public void shouldCompressRequestBodyLargerThanThreshold() throws Exception {
+		byte[] content = content(8192);
+
+		HttpClientRequest request = factory.createOf(gzipRequest());
+
+		try (OutputStream output = request.output()) {
+			output.write(content);
+		}
+
+		assertEquals("gzip", requestHeaders.get(Headers.CONTENT_ENCODING).get().value());
+		assertArrayEquals(content, read(new GZIPInputStream(new ByteArrayInputStream(requestBody.toByteArray()))));
+	}
+
+	@Test
+	public void shouldNotCompressRequestBodySmallerThanThreshold() throws Exception {
+		byte[] content = content(512);
+
+		HttpClientRequest request = factory.createOf(gzipRequest());
+
+		try (OutputStream output = request.output()) {
+			output.write(content);
+		}
+
+		assertFalse(requestHeaders.get(Headers.CONTENT_ENCODING).isPresent());
+		assertArrayEquals(content, requestBody.toByteArray());
+	}
+
+	private EndpointRequest gzipRequest() {
+		Headers headers = new Headers();
+		headers.put(Headers.CONTENT_ENCODING, "gzip");
+
+		return new EndpointRequest(URI.create("http://localhost:8080"), "POST", headers, "body");
+	}
+
+	private byte[] content(int size) {
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		return content;
+	}
+
+	private byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+			output.write(content);
+		}
+		return compressed.toByteArray();
+	}
+
+	private byte[] read(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[1024];
+		int n;
+		while ((n = input.read(buffer)) != -1) {
+			output.write(buffer, 0, n);
+		}
+
+		return output.toByteArray();
+	}
+}
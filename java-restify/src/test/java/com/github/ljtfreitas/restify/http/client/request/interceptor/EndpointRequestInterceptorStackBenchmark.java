@@ -0,0 +1,76 @@
+package com.github.ljtfreitas.restify.http.client.request.interceptor;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.client.authentication.BasicAuthentication;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestTemplate;
+import com.github.ljtfreitas.restify.http.client.request.interceptor.authentication.AuthenticationEndpoinRequestInterceptor;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameters;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndpointRequestInterceptorStackBenchmark {
+
+	private EndpointRequestInterceptorStack stack;
+
+	private EndpointRequestTemplate template;
+
+	private EndpointRequestTemplate compiled;
+
+	private Object[] args;
+
+	@Setup
+	public void setup() throws Exception {
+		EndpointMethodParameters parameters = new EndpointMethodParameters();
+		parameters.put(new EndpointMethodParameter(0, "customer", String.class));
+
+		EndpointMethod endpointMethod = new EndpointMethod(TargetType.class.getMethod("customer", String.class),
+				"http://my.api.com/customers/{customer}", "GET", parameters, "v1");
+
+		stack = new EndpointRequestInterceptorStack(Arrays.asList(
+				new AcceptHeaderEndpointRequestInterceptor("application/json", "application/xml"),
+				new ContentTypeHeaderEndpointRequestInterceptor("application/json"),
+				new AcceptVersionHeaderEndpointRequestInterceptor(),
+				new AuthenticationEndpoinRequestInterceptor(new BasicAuthentication("user", "password"))));
+
+		template = new EndpointRequestTemplate(endpointMethod);
+
+		compiled = new EndpointRequestTemplate(endpointMethod, endpointMethod.returnType(), stack.compile(endpointMethod));
+
+		args = new Object[] { "tiago" };
+	}
+
+	@Benchmark
+	public EndpointRequest stack() {
+		return stack.apply(template.createWith(args));
+	}
+
+	@Benchmark
+	public EndpointRequest compiled() {
+		return compiled.createWith(args);
+	}
+
+	interface TargetType {
+
+		public String customer(String customer);
+	}
+}
@@ -0,0 +1,132 @@
+package com.github.ljtfreitas.restify.http.client.request.jdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.response.RestifyEndpointResponseException;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class JdkHttpClientKeepAliveTest {
+
+	private static final int REQUESTS = 50;
+
+	private ConnectionCountingServer server;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		server.close();
+	}
+
+	@Test
+	public void shouldReuseConnectionsWhenKeepAliveIsEnabled() throws Exception {
+		MyApi myApi = myApi(new HttpClientRequestConfiguration.Builder()
+				.keepAlive()
+					.enabled()
+					.and()
+				.build());
+
+		int concurrency = 0;
+
+		for (int level : Arrays.asList(1, 2, 4)) {
+			concurrency = level;
+			sweep(level, myApi::large);
+		}
+
+		assertTrue("Accepted " + server.accepted() + " connections", server.accepted() <= concurrency);
+	}
+
+	@Test
+	public void shouldReuseConnectionsAfterErrorResponsesWhenKeepAliveIsEnabled() throws Exception {
+		MyApi myApi = myApi(new HttpClientRequestConfiguration.Builder()
+				.keepAlive()
+					.enabled()
+					.and()
+				.build());
+
+		sweep(1, () -> {
+			try {
+				myApi.missing();
+			} catch (RestifyEndpointResponseException e) {
+				assertEquals(404, e.statusCode().value());
+			}
+		});
+
+		assertEquals(1, server.accepted());
+	}
+
+	@Test
+	public void shouldDisconnectWhenUnreadContentExceedsTheDrainLimit() throws Exception {
+		MyApi myApi = myApi(new HttpClientRequestConfiguration.Builder()
+				.keepAlive()
+					.enabled()
+					.drainLimit(16)
+					.and()
+				.build());
+
+		sweep(1, myApi::large);
+
+		assertEquals(REQUESTS, server.accepted());
+	}
+
+	@Test
+	public void shouldDisconnectWhenKeepAliveIsDisabled() throws Exception {
+		MyApi myApi = myApi(new HttpClientRequestConfiguration.Builder().build());
+
+		sweep(1, myApi::large);
+
+		assertEquals(REQUESTS, server.accepted());
+	}
+
+	private MyApi myApi(HttpClientRequestConfiguration configuration) {
+		return new RestifyProxyBuilder()
+				.client(new JdkHttpClientRequestFactory(configuration))
+				.target(MyApi.class, "http://localhost:" + server.port())
+					.build();
+	}
+
+	private void sweep(int concurrency, Runnable request) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+		try {
+			Collection<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				results.add(executor.submit(request));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	interface MyApi {
+
+		@Path("/large") @Get
+		void large();
+
+		@Path("/missing") @Get
+		String missing();
+	}
+}
@@ -0,0 +1,158 @@
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.response.RestifyEndpointResponseNotFoundException;
+import com.github.ljtfreitas.restify.http.contract.AcceptJson;
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.JsonContent;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.Post;
+
+public class LoopbackHttpClientRequestFactoryTest {
+
+	private LoopbackFixtures fixtures;
+
+	@Before
+	public void setup() {
+		fixtures = new LoopbackFixtures()
+				.on("GET", "/customers/1", LoopbackResponse.ok("{\"name\":\"Tiago\",\"age\":31}", "application/json"))
+				.on("GET", "/hello", LoopbackResponse.ok("hello", "text/plain"));
+	}
+
+	@Test
+	public void shouldAnswerProxyRequestsWithFixtures() {
+		MyApi myApi = myApi(new LoopbackHttpClientRequestFactory(fixtures));
+
+		Customer customer = myApi.customer("1");
+
+		assertEquals("Tiago", customer.name);
+		assertEquals(31, customer.age);
+
+		assertEquals("hello", myApi.hello());
+	}
+
+	@Test(expected = RestifyEndpointResponseNotFoundException.class)
+	public void shouldAnswerWithFallbackWhenThereIsNoFixtureToRequest() {
+		MyApi myApi = myApi(new LoopbackHttpClientRequestFactory(fixtures));
+
+		myApi.customer("2");
+	}
+
+	@Test
+	public void shouldDispatchRequestBodyToHandler() {
+		MyApi myApi = myApi(new LoopbackHttpClientRequestFactory(request -> new LoopbackResponse.Builder()
+				.header("Content-Type", "text/plain")
+				.body(request.method() + " " + request.path() + " " + request.bodyAsString())
+				.build()));
+
+		Customer customer = new Customer();
+		customer.name = "Tiago";
+		customer.age = 31;
+
+		assertEquals("POST /customers {\"name\":\"Tiago\",\"age\":31}", myApi.create(customer));
+	}
+
+	@Test
+	public void shouldNotShareHeadersBetweenResponsesOfTheSameBuilder() {
+		LoopbackResponse.Builder builder = new LoopbackResponse.Builder()
+				.header("Content-Type", "text/plain");
+
+		LoopbackResponse hello = builder.body("hello").build();
+		LoopbackResponse goodbye = builder.header("X-Custom", "goodbye").body("goodbye!").build();
+
+		assertEquals("5", hello.headers().get("Content-Length").get().value());
+		assertFalse(hello.headers().get("X-Custom").isPresent());
+
+		assertEquals("8", goodbye.headers().get("Content-Length").get().value());
+		assertEquals("goodbye", goodbye.headers().get("X-Custom").get().value());
+	}
+
+	@Test
+	public void shouldInjectLatency() throws Exception {
+		LoopbackHttpClientRequestFactory loopbackHttpClientRequestFactory = new LoopbackHttpClientRequestFactory(fixtures,
+				new LoopbackHttpClientRequestConfiguration.Builder()
+					.latency(Duration.ofMillis(50))
+					.build());
+
+		long start = System.nanoTime();
+
+		try (HttpResponseMessage response = loopbackHttpClientRequestFactory
+				.createOf(new EndpointRequest(URI.create("http://my.api.com/hello"), "GET"))
+					.execute()) {
+
+			assertEquals(200, response.statusCode().value());
+		}
+
+		assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+	}
+
+	@Test
+	public void shouldExecuteAsyncRequestsOnConfiguredExecutor() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "loopback"));
+
+		try {
+			LoopbackHttpClientRequestFactory loopbackHttpClientRequestFactory = new LoopbackHttpClientRequestFactory(
+					request -> LoopbackResponse.ok(Thread.currentThread().getName(), "text/plain"),
+					new LoopbackHttpClientRequestConfiguration.Builder()
+						.executor(executor)
+						.build());
+
+			HttpResponseMessage response = loopbackHttpClientRequestFactory
+					.createOf(new EndpointRequest(URI.create("http://my.api.com/hello"), "GET"))
+						.executeAsync()
+							.get();
+
+			byte[] body = new byte[8];
+			int read = response.body().read(body);
+
+			assertEquals("loopback", new String(body, 0, read));
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private MyApi myApi(LoopbackHttpClientRequestFactory loopbackHttpClientRequestFactory) {
+		return new RestifyProxyBuilder()
+				.client(loopbackHttpClientRequestFactory)
+				.target(MyApi.class, "http://my.api.com")
+				.build();
+	}
+
+	interface MyApi {
+
+		@Path("/customers/{id}") @Get
+		@AcceptJson
+		Customer customer(@PathParameter("id") String id);
+
+		@Path("/customers") @Post
+		@JsonContent
+		String create(@BodyParameter Customer customer);
+
+		@Path("/hello") @Get
+		String hello();
+	}
+
+	public static class Customer {
+
+		public String name;
+
+		public int age;
+	}
+}
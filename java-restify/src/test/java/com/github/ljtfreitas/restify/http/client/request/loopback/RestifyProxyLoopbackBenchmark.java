@@ -0,0 +1,93 @@
+package com.github.ljtfreitas.restify.http.client.request.loopback;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.contract.AcceptJson;
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.JsonContent;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.Post;
+
+/**
+ * Framework overhead of a proxy call (handler, request executor and converters) without network I/O.
+ * The benchmark profile runs it with the gc profiler, so "gc.alloc.rate.norm" tracks the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestifyProxyLoopbackBenchmark {
+
+	private MyApi myApi;
+
+	private Customer customer;
+
+	@Setup
+	public void setup() {
+		LoopbackFixtures fixtures = new LoopbackFixtures()
+				.on("GET", "/hello", LoopbackResponse.ok("hello", "text/plain"))
+				.on("GET", "/customers/1", LoopbackResponse.ok("{\"name\":\"Tiago\",\"age\":31}", "application/json"))
+				.on("POST", "/customers", LoopbackResponse.status(201));
+
+		myApi = new RestifyProxyBuilder()
+				.client(new LoopbackHttpClientRequestFactory(fixtures))
+				.target(MyApi.class, "http://my.api.com")
+				.build();
+
+		customer = new Customer();
+		customer.name = "Tiago";
+		customer.age = 31;
+	}
+
+	@Benchmark
+	public String text() {
+		return myApi.hello();
+	}
+
+	@Benchmark
+	public Customer json() {
+		return myApi.customer("1");
+	}
+
+	@Benchmark
+	public void post() {
+		myApi.create(customer);
+	}
+
+	public interface MyApi {
+
+		@Path("/hello") @Get
+		String hello();
+
+		@Path("/customers/{id}") @Get
+		@AcceptJson
+		Customer customer(@PathParameter("id") String id);
+
+		@Path("/customers") @Post
+		@JsonContent
+		void create(@BodyParameter Customer customer);
+	}
+
+	public static class Customer {
+
+		public String name;
+
+		public int age;
+	}
+}
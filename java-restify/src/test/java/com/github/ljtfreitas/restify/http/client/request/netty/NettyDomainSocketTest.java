@@ -0,0 +1,175 @@
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.ljtfreitas.restify.http.RestifyHttpException;
+import com.github.ljtfreitas.restify.http.client.message.converter.InputStreamContent;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+
+public class NettyDomainSocketTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldReadSocketPathFromEncodedAuthority() {
+		NettyDomainSocketEndpoint endpoint = NettyDomainSocketEndpoint.of(URI.create("unix://%2Fvar%2Frun%2Fenvoy.sock/api/users?page=1"));
+
+		assertEquals("/var/run/envoy.sock", endpoint.socket());
+		assertEquals("/api/users?page=1", endpoint.target());
+		assertEquals("localhost", endpoint.host());
+	}
+
+	@Test
+	public void shouldUseRootRequestTargetWhenUriHasNoPath() {
+		NettyDomainSocketEndpoint endpoint = NettyDomainSocketEndpoint.of(URI.create("unix://%2Fvar%2Frun%2Fenvoy.sock"));
+
+		assertEquals("/", endpoint.target());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectUnixUriWithoutSocketPathOnAuthority() {
+		NettyDomainSocketEndpoint.of(URI.create("unix:///var/run/envoy.sock/api/users"));
+	}
+
+	@Test
+	public void shouldRouteEndpointsToConfiguredSocket() {
+		NettyHttpClientRequestConfiguration configuration = new NettyHttpClientRequestConfiguration.Builder()
+				.domainSocket("/var/run/envoy.sock")
+				.build();
+
+		NettyDomainSocketEndpoint endpoint = NettyDomainSocketEndpoint.of(URI.create("http://my.api.com:8080/api/users"), configuration).get();
+
+		assertEquals("/var/run/envoy.sock", endpoint.socket());
+		assertEquals("/api/users", endpoint.target());
+		assertEquals("my.api.com:8080", endpoint.host());
+	}
+
+	@Test
+	public void shouldNotRouteEndpointsToSocketWhenItIsNotConfigured() {
+		assertFalse(NettyDomainSocketEndpoint.of(URI.create("http://my.api.com/api/users"), NettyHttpClientRequestConfiguration.useDefault())
+				.isPresent());
+	}
+
+	@Test(expected = RestifyHttpException.class)
+	public void shouldThrowExceptionWhenNativeTransportIsNotAvailable() throws IOException {
+		assumeFalse(NettyEpollTransport.available());
+
+		try (NettyHttpClientRequestFactory nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory()) {
+			nettyHttpClientRequestFactory.createOf(new EndpointRequest(URI.create("unix://%2Fvar%2Frun%2Fenvoy.sock/api"), "GET"));
+		}
+	}
+
+	@Test
+	public void shouldExecuteRequestsOverUnixDomainSocket() throws Exception {
+		assumeTrue(NettyEpollTransport.available());
+
+		File socket = new File(folder.getRoot(), "server.sock");
+
+		EventLoopGroup serverGroup = new EpollEventLoopGroup(1);
+
+		Channel server = new ServerBootstrap()
+				.group(serverGroup)
+				.channel(EpollServerDomainSocketChannel.class)
+				.childHandler(new ChannelInitializer<Channel>() {
+					@Override
+					protected void initChannel(Channel channel) throws Exception {
+						channel.pipeline()
+							.addLast(new HttpServerCodec())
+							.addLast(new HttpObjectAggregator(1024))
+							.addLast(new SimpleChannelInboundHandler<FullHttpRequest>() {
+								@Override
+								protected void channelRead0(ChannelHandlerContext context, FullHttpRequest request) throws Exception {
+									byte[] body = (request.getUri() + " " + request.headers().get(HttpHeaders.Names.HOST)).getBytes(StandardCharsets.UTF_8);
+
+									FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+											Unpooled.wrappedBuffer(body));
+									HttpHeaders.setContentLength(response, body.length);
+
+									context.writeAndFlush(response);
+								}
+							});
+					}
+				})
+				.bind(new DomainSocketAddress(socket))
+					.syncUninterruptibly()
+						.channel();
+
+		NettyHttpClientRequestConfiguration configuration = new NettyHttpClientRequestConfiguration.Builder()
+				.epoll()
+				.build();
+
+		NettyHttpClientRequestConfiguration configuredSocket = new NettyHttpClientRequestConfiguration.Builder()
+				.epoll()
+				.domainSocket(socket.getAbsolutePath())
+				.build();
+
+		try (NettyHttpClientRequestFactory nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(configuration);
+			 NettyHttpClientRequestFactory configuredSocketRequestFactory = new NettyHttpClientRequestFactory(configuredSocket)) {
+
+			String endpoint = "unix://" + URLEncoder.encode(socket.getAbsolutePath(), "UTF-8");
+
+			for (int i = 0; i < 2; i++) {
+				try (HttpResponseMessage response = nettyHttpClientRequestFactory
+						.createOf(new EndpointRequest(URI.create(endpoint + "/api?x=" + i), "GET"))
+							.execute()) {
+
+					assertEquals(200, response.statusCode().value());
+					assertEquals("/api?x=" + i + " localhost", content(response));
+				}
+			}
+
+			try (HttpResponseMessage response = configuredSocketRequestFactory
+					.createOf(new EndpointRequest(URI.create("http://my.api.com/api"), "GET"))
+						.execute()) {
+
+				assertEquals(200, response.statusCode().value());
+				assertEquals("/api my.api.com", content(response));
+			}
+
+		} finally {
+			server.close().syncUninterruptibly();
+			serverGroup.shutdownGracefully().syncUninterruptibly();
+		}
+	}
+
+	private String content(HttpResponseMessage response) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new InputStreamContent(response.body()).transferTo(output);
+		return new String(output.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
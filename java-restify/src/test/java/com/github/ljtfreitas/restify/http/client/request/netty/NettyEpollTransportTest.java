@@ -0,0 +1,65 @@
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+
+public class NettyEpollTransportTest {
+
+	private ConnectionCountingServer server;
+
+	private NettyHttpClientRequestConfiguration configuration;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+
+		configuration = new NettyHttpClientRequestConfiguration.Builder()
+				.epoll()
+				.tcpNoDelay(true)
+				.soKeepAlive(true)
+				.build();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		server.close();
+	}
+
+	@Test
+	public void shouldCreateEpollEventLoopGroupOnlyWhenNativeTransportIsAvailable() {
+		EventLoopGroup eventLoopGroup = new NettyEventLoopGroupFactory(configuration).create();
+
+		try {
+			assertEquals(NettyEpollTransport.available(), NettyEpollTransport.supports(eventLoopGroup));
+			assertTrue(NettyEpollTransport.available() || eventLoopGroup instanceof NioEventLoopGroup);
+
+		} finally {
+			eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+		}
+	}
+
+	@Test
+	public void shouldExecuteRequestsWithTheConfiguredTransport() throws Exception {
+		try (NettyHttpClientRequestFactory nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(configuration);
+			 HttpResponseMessage response = nettyHttpClientRequestFactory
+					 .createOf(new EndpointRequest(URI.create("http://localhost:" + server.port() + "/large"), "GET"))
+					 	.execute()) {
+
+			assertEquals(200, response.statusCode().value());
+		}
+	}
+}
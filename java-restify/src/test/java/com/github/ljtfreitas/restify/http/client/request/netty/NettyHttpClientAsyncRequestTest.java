@@ -0,0 +1,115 @@
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class NettyHttpClientAsyncRequestTest {
+
+	private static final int REQUESTS = 500;
+
+	private ConnectionCountingServer server;
+
+	private NettyHttpClientRequestFactory nettyHttpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+
+		nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(new NettyHttpClientRequestConfiguration.Builder()
+				.maxConnectionsPerHost(4)
+				.build());
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		nettyHttpClientRequestFactory.close();
+		server.close();
+	}
+
+	@Test
+	public void shouldExecuteConcurrentRequestsWithoutBlockingTheCaller() throws Exception {
+		URI endpoint = URI.create("http://localhost:" + server.port() + "/large");
+
+		Collection<CompletableFuture<Integer>> results = new ArrayList<>();
+
+		for (int i = 0; i < REQUESTS; i++) {
+			results.add(nettyHttpClientRequestFactory.createOf(new EndpointRequest(endpoint, "GET"))
+					.executeAsync()
+						.thenApply(this::statusOf));
+		}
+
+		CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get();
+
+		results.forEach(r -> assertEquals(200, r.join().intValue()));
+
+		assertTrue("Accepted " + server.accepted() + " connections", server.accepted() <= 4);
+	}
+
+	@Test
+	public void shouldExecuteProxyCompletableFutureCallsOnTheNettyTransport() throws Exception {
+		BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+		MyApi myApi = new RestifyProxyBuilder()
+				.client(nettyHttpClientRequestFactory)
+				.executables()
+					.async(tasks::add)
+					.and()
+				.target(MyApi.class, "http://localhost:" + server.port())
+				.build();
+
+		CompletableFuture<String> large = myApi.large();
+
+		Runnable reader = tasks.poll(10, TimeUnit.SECONDS);
+
+		assertEquals(1, server.accepted());
+
+		reader.run();
+
+		assertEquals(1024, large.get().length());
+
+		CompletableFuture<EndpointResponse<String>> missing = myApi.missing();
+
+		tasks.poll(10, TimeUnit.SECONDS).run();
+
+		assertEquals(404, missing.get().code().value());
+	}
+
+	private int statusOf(HttpResponseMessage response) {
+		try (HttpResponseMessage r = response) {
+			return r.statusCode().value();
+
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	interface MyApi {
+
+		@Path("/large") @Get
+		CompletableFuture<String> large();
+
+		@Path("/missing") @Get
+		CompletableFuture<EndpointResponse<String>> missing();
+	}
+}
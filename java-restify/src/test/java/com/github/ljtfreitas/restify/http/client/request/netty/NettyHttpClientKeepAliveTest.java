@@ -0,0 +1,143 @@
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.response.RestifyEndpointResponseException;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class NettyHttpClientKeepAliveTest {
+
+	private static final int REQUESTS = 50;
+
+	private ConnectionCountingServer server;
+
+	private NettyHttpClientRequestFactory nettyHttpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		nettyHttpClientRequestFactory.close();
+		server.close();
+	}
+
+	@Test
+	public void shouldReuseConnectionsWhenKeepAliveIsEnabled() throws Exception {
+		MyApi myApi = myApi(new NettyHttpClientRequestConfiguration.Builder().build());
+
+		int concurrency = 0;
+
+		for (int level : Arrays.asList(1, 2, 4)) {
+			concurrency = level;
+			sweep(level, myApi::large);
+		}
+
+		assertTrue("Accepted " + server.accepted() + " connections", server.accepted() <= concurrency);
+	}
+
+	@Test
+	public void shouldReuseConnectionsAfterErrorResponses() throws Exception {
+		MyApi myApi = myApi(new NettyHttpClientRequestConfiguration.Builder().build());
+
+		sweep(1, () -> {
+			try {
+				myApi.missing();
+			} catch (RestifyEndpointResponseException e) {
+				assertEquals(404, e.statusCode().value());
+			}
+		});
+
+		assertEquals(1, server.accepted());
+	}
+
+	@Test
+	public void shouldNotOpenMoreConnectionsThanTheMaxConnectionsPerHost() throws Exception {
+		MyApi myApi = myApi(new NettyHttpClientRequestConfiguration.Builder()
+				.maxConnectionsPerHost(2)
+				.build());
+
+		sweep(8, myApi::large);
+
+		assertTrue("Accepted " + server.accepted() + " connections", server.accepted() <= 2);
+	}
+
+	@Test
+	public void shouldOpenNewConnectionsWhenIdleConnectionsAreEvicted() throws Exception {
+		MyApi myApi = myApi(new NettyHttpClientRequestConfiguration.Builder()
+				.idleTimeout(50)
+				.build());
+
+		myApi.large();
+
+		Thread.sleep(500);
+
+		myApi.large();
+
+		assertEquals(2, server.accepted());
+	}
+
+	@Test
+	public void shouldCloseConnectionsWhenKeepAliveIsDisabled() throws Exception {
+		MyApi myApi = myApi(new NettyHttpClientRequestConfiguration.Builder()
+				.keepAlive(false)
+				.build());
+
+		sweep(1, myApi::large);
+
+		assertEquals(REQUESTS, server.accepted());
+	}
+
+	private MyApi myApi(NettyHttpClientRequestConfiguration configuration) {
+		nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(configuration);
+
+		return new RestifyProxyBuilder()
+				.client(nettyHttpClientRequestFactory)
+				.target(MyApi.class, "http://localhost:" + server.port())
+					.build();
+	}
+
+	private void sweep(int concurrency, Runnable request) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+		try {
+			Collection<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				results.add(executor.submit(request));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	interface MyApi {
+
+		@Path("/large") @Get
+		void large();
+
+		@Path("/missing") @Get
+		String missing();
+	}
+}
@@ -0,0 +1,93 @@
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * Loopback POST of a 4KB body. Run with "-prof gc" for allocation rates; syscall counts can be
+ * compared by attaching "strace -c -f" to the forked benchmark JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NettyHttpClientRequestBenchmark {
+
+	@Param({"nio", "epoll"})
+	private String transport;
+
+	@Param({"unpooled-heap", "pooled"})
+	private String allocator;
+
+	private ConnectionCountingServer server;
+
+	private NettyHttpClientRequestFactory nettyHttpClientRequestFactory;
+
+	private URI endpoint;
+
+	private byte[] body;
+
+	@Setup
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+
+		nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(new NettyHttpClientRequestConfiguration.Builder()
+				.epoll(transport.equals("epoll"))
+				.allocator(allocator.equals("pooled") ? PooledByteBufAllocator.DEFAULT : new UnpooledByteBufAllocator(false))
+				.build());
+
+		endpoint = URI.create("http://localhost:" + server.port() + "/echo");
+
+		body = new byte[4096];
+		Arrays.fill(body, (byte) 'x');
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		nettyHttpClientRequestFactory.close();
+		server.close();
+	}
+
+	@Benchmark
+	public int post() throws IOException {
+		HttpClientRequest request = nettyHttpClientRequestFactory.createOf(new EndpointRequest(endpoint, "POST"));
+		request.output().write(body);
+
+		try (HttpResponseMessage response = request.execute()) {
+			InputStream stream = response.body();
+
+			int count = 0;
+			while (stream.read() != -1) {
+				count++;
+			}
+
+			return count;
+		}
+	}
+}
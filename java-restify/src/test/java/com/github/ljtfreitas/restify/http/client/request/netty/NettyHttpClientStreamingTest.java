@@ -0,0 +1,81 @@
+package com.github.ljtfreitas.restify.http.client.request.netty;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+public class NettyHttpClientStreamingTest {
+
+	private ConnectionCountingServer server;
+
+	private NettyHttpClientRequestFactory nettyHttpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+
+		nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(new NettyHttpClientRequestConfiguration.Builder()
+				.streaming()
+				.streamingBufferSize(1024 * 16)
+				.build());
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		nettyHttpClientRequestFactory.close();
+		server.close();
+	}
+
+	@Test
+	public void shouldStreamResponseBodyLargerThanTheBuffer() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			try (HttpResponseMessage response = execute("/huge")) {
+				assertEquals(ConnectionCountingServer.HUGE_CONTENT_LENGTH, drain(response.body()));
+			}
+		}
+
+		assertEquals(1, server.accepted());
+	}
+
+	@Test
+	public void shouldCloseTheConnectionWhenResponseIsClosedBeforeTheEnd() throws Exception {
+		try (HttpResponseMessage response = execute("/huge")) {
+			InputStream body = response.body();
+
+			assertEquals('x', body.read());
+		}
+
+		try (HttpResponseMessage response = execute("/large")) {
+			assertEquals(1024, drain(response.body()));
+		}
+
+		assertEquals(2, server.accepted());
+	}
+
+	private HttpResponseMessage execute(String path) {
+		return nettyHttpClientRequestFactory.createOf(new EndpointRequest(URI.create("http://localhost:" + server.port() + path), "GET"))
+				.execute();
+	}
+
+	private int drain(InputStream body) throws IOException {
+		byte[] buffer = new byte[4096];
+		int total = 0;
+		int count;
+
+		while ((count = body.read(buffer)) != -1) {
+			total += count;
+		}
+
+		return total;
+	}
+}
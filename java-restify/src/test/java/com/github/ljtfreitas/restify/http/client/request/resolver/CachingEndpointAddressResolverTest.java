@@ -0,0 +1,217 @@
+package com.github.ljtfreitas.restify.http.client.request.resolver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachingEndpointAddressResolverTest {
+
+	private CountingEndpointAddressResolver hosts;
+
+	private MutableClock clock;
+
+	@Before
+	public void setup() {
+		hosts = new CountingEndpointAddressResolver(new HostsFileEndpointAddressResolver(
+				"# local stand-in\n" +
+				"127.0.0.1 my-service.local my-alias.local\n" +
+				"127.0.0.2 my-service.local\n" +
+				"127.0.0.3 my-service.local # third replica\n"));
+
+		clock = new MutableClock();
+	}
+
+	@Test
+	public void shouldCacheAddressesUntilTtlExpires() throws Exception {
+		CachingEndpointAddressResolver resolver = new CachingEndpointAddressResolver.Builder()
+				.delegate(hosts)
+				.ttl(Duration.ofSeconds(30))
+				.refreshAhead(1.0)
+				.clock(clock)
+				.build();
+
+		assertEquals(3, resolver.lookup("my-service.local").size());
+		assertEquals(3, resolver.lookup("MY-SERVICE.local").size());
+		assertEquals(1, hosts.count());
+
+		clock.advance(Duration.ofSeconds(30));
+
+		resolver.lookup("my-service.local");
+		assertEquals(2, hosts.count());
+	}
+
+	@Test
+	public void shouldRotateAddressesOnEachLookup() throws Exception {
+		CachingEndpointAddressResolver resolver = new CachingEndpointAddressResolver(hosts);
+
+		List<InetAddress> first = resolver.lookup("my-service.local");
+		List<InetAddress> second = resolver.lookup("my-service.local");
+		List<InetAddress> third = resolver.lookup("my-service.local");
+		List<InetAddress> fourth = resolver.lookup("my-service.local");
+
+		assertEquals("127.0.0.1", first.get(0).getHostAddress());
+		assertEquals("127.0.0.2", second.get(0).getHostAddress());
+		assertEquals("127.0.0.3", third.get(0).getHostAddress());
+		assertEquals("127.0.0.1", fourth.get(0).getHostAddress());
+
+		assertEquals("127.0.0.1", second.get(2).getHostAddress());
+	}
+
+	@Test
+	public void shouldCacheFailuresForNegativeTtl() {
+		CachingEndpointAddressResolver resolver = new CachingEndpointAddressResolver.Builder()
+				.delegate(hosts)
+				.negativeTtl(Duration.ofSeconds(5))
+				.clock(clock)
+				.build();
+
+		assertUnknown(resolver, "unknown.local");
+		assertUnknown(resolver, "unknown.local");
+		assertEquals(1, hosts.count());
+
+		clock.advance(Duration.ofSeconds(5));
+
+		assertUnknown(resolver, "unknown.local");
+		assertEquals(2, hosts.count());
+	}
+
+	@Test
+	public void shouldUseTtlOfEachHost() throws Exception {
+		CachingEndpointAddressResolver resolver = new CachingEndpointAddressResolver.Builder()
+				.delegate(hosts)
+				.ttl(Duration.ofSeconds(60))
+				.ttl("my-alias.local", Duration.ofSeconds(1))
+				.refreshAhead(1.0)
+				.clock(clock)
+				.build();
+
+		resolver.lookup("my-service.local");
+		resolver.lookup("my-alias.local");
+
+		clock.advance(Duration.ofSeconds(1));
+
+		resolver.lookup("my-service.local");
+		resolver.lookup("my-alias.local");
+
+		assertEquals(3, hosts.count());
+	}
+
+	@Test
+	public void shouldRefreshInBackgroundBeforeExpiry() throws Exception {
+		CachingEndpointAddressResolver resolver = new CachingEndpointAddressResolver.Builder()
+				.delegate(hosts)
+				.ttl(Duration.ofSeconds(10))
+				.refreshAhead(0.5)
+				.executor(Runnable::run)
+				.clock(clock)
+				.build();
+
+		resolver.lookup("my-service.local");
+
+		clock.advance(Duration.ofSeconds(6));
+
+		resolver.lookup("my-service.local");
+		assertEquals(2, hosts.count());
+
+		clock.advance(Duration.ofSeconds(4));
+
+		resolver.lookup("my-service.local");
+		assertEquals(2, hosts.count());
+	}
+
+	@Test
+	public void shouldRetryBackgroundRefreshAfterFailure() throws Exception {
+		AtomicBoolean unavailable = new AtomicBoolean();
+
+		CachingEndpointAddressResolver resolver = new CachingEndpointAddressResolver.Builder()
+				.delegate(host -> unavailable.get() ? hosts.resolve("unknown.local") : hosts.resolve(host))
+				.ttl(Duration.ofSeconds(10))
+				.negativeTtl(Duration.ofSeconds(1))
+				.refreshAhead(0.5)
+				.executor(Runnable::run)
+				.clock(clock)
+				.build();
+
+		resolver.lookup("my-service.local");
+
+		clock.advance(Duration.ofSeconds(6));
+		unavailable.set(true);
+
+		assertEquals(3, resolver.lookup("my-service.local").size());
+		assertEquals(3, resolver.lookup("my-service.local").size());
+		assertEquals(2, hosts.count());
+
+		clock.advance(Duration.ofSeconds(1));
+		unavailable.set(false);
+
+		resolver.lookup("my-service.local");
+		assertEquals(3, hosts.count());
+	}
+
+	private void assertUnknown(EndpointAddressResolver resolver, String host) {
+		try {
+			resolver.lookup(host);
+		} catch (UnknownHostException e) {
+			assertTrue(e.getMessage().contains(host));
+			return;
+		}
+		throw new AssertionError("UnknownHostException expected");
+	}
+
+	private class CountingEndpointAddressResolver implements EndpointAddressResolver {
+
+		private final EndpointAddressResolver delegate;
+		private final AtomicInteger count = new AtomicInteger();
+
+		private CountingEndpointAddressResolver(EndpointAddressResolver delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public CompletableFuture<List<InetAddress>> resolve(String host) {
+			count.incrementAndGet();
+			return delegate.resolve(host);
+		}
+
+		private int count() {
+			return count.get();
+		}
+	}
+
+	private class MutableClock extends Clock {
+
+		private Instant now = Instant.now();
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.systemDefault();
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
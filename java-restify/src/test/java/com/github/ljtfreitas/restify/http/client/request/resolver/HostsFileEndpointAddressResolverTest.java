@@ -0,0 +1,47 @@
+package com.github.ljtfreitas.restify.http.client.request.resolver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+public class HostsFileEndpointAddressResolverTest {
+
+	@Test
+	public void shouldParseOnlyLiteralAddresses() throws Exception {
+		HostsFileEndpointAddressResolver resolver = new HostsFileEndpointAddressResolver(
+				"10.0.0.1 ipv4.local\n" +
+				"::1 ipv6.local\n" +
+				"localhost hostname.local\n" +
+				"10.0.0.256 out-of-range.local\n" +
+				"10.1 short.local\n");
+
+		List<InetAddress> ipv4 = resolver.resolve("ipv4.local").get();
+		assertEquals(1, ipv4.size());
+		assertArrayEquals(new byte[] { 10, 0, 0, 1 }, ipv4.get(0).getAddress());
+
+		List<InetAddress> ipv6 = resolver.resolve("ipv6.local").get();
+		assertEquals(1, ipv6.size());
+		assertTrue(ipv6.get(0).isLoopbackAddress());
+
+		assertUnknown(resolver, "hostname.local");
+		assertUnknown(resolver, "out-of-range.local");
+		assertUnknown(resolver, "short.local");
+	}
+
+	private void assertUnknown(HostsFileEndpointAddressResolver resolver, String host) throws InterruptedException {
+		try {
+			resolver.resolve(host).get();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof UnknownHostException);
+			return;
+		}
+		throw new AssertionError("[" + host + "] should not be resolved.");
+	}
+}
@@ -109,4 +109,29 @@ public class ContentTypeTest {
 
 		assertFalse(xmlVendorContent.compatible(jsonVendorContent));
 	}
+
+	@Test
+	public void shouldReuseParsedContentTypeOfSameSource() {
+		ContentType first = ContentType.of("application/json; charset=UTF-8");
+		ContentType second = ContentType.of("application/json; charset=UTF-8");
+
+		assertSame(first, second);
+	}
+
+	@Test
+	public void shouldParseContentTypeIgnoringCaseAndWhitespaces() {
+		ContentType contentType = ContentType.of(" Application/JSON ;charset = UTF-8 ; ;invalid");
+
+		assertEquals("application/json", contentType.name());
+		assertEquals("UTF-8", contentType.parameter("charset").get());
+		assertFalse(contentType.parameter("invalid").isPresent());
+
+		assertTrue(contentType.is("application/json"));
+		assertEquals(ContentType.of("application/json").hashCode(), contentType.hashCode());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenContentTypeHasNoSubtype() {
+		ContentType.of("application");
+	}
 }
@@ -0,0 +1,63 @@
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndpointUriTemplateBenchmark {
+
+	private static final String PATH = "http://my.api.com/customers/{customer}/orders/{order}/items";
+
+	private EndpointMethodParameters parameters;
+
+	private EndpointUriTemplate template;
+
+	private Object[] args;
+
+	@Setup
+	public void setup() {
+		parameters = new EndpointMethodParameters();
+		parameters.put(new EndpointMethodParameter(0, "customer", String.class));
+		parameters.put(new EndpointMethodParameter(1, "order", Long.class));
+		parameters.put(new EndpointMethodParameter(2, "page", Integer.class, EndpointMethodParameterType.QUERY_STRING,
+				new EndpointMethodQueryParameterSerializer()));
+		parameters.put(new EndpointMethodParameter(3, "size", Integer.class, EndpointMethodParameterType.QUERY_STRING,
+				new EndpointMethodQueryParameterSerializer()));
+
+		template = new EndpointUriTemplate(PATH, parameters);
+
+		args = new Object[] { "tiago", 1234L, 1, 50 };
+	}
+
+	@Benchmark
+	public URI resolvers() throws URISyntaxException {
+		String endpoint = new EndpointPathParameterResolver(PATH, parameters).resolve(args);
+		String query = new EndpointQueryParameterResolver(parameters.ofQuery()).resolve(args);
+
+		return new URI(endpoint + query);
+	}
+
+	@Benchmark
+	public URI template() throws URISyntaxException {
+		return template.toURI(args);
+	}
+}
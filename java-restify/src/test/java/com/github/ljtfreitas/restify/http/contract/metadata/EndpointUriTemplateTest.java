@@ -0,0 +1,128 @@
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType;
+
+public class EndpointUriTemplateTest {
+
+	private EndpointMethodParameters parameters;
+
+	@Before
+	public void setup() {
+		parameters = new EndpointMethodParameters();
+	}
+
+	@Test
+	public void shouldExpandArgumentOnPath() {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/method/{first}", parameters);
+
+		assertEquals("http://my.api.com/method/arg", template.expand(new Object[] { "arg" }));
+	}
+
+	@Test
+	public void shouldExpandMultiplesArgumentsOnPath() {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+		parameters.put(new EndpointMethodParameter(1, "second-argument", String.class));
+		parameters.put(new EndpointMethodParameter(2, "third_argument", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first}/{second-argument}/{third_argument}/end", parameters);
+
+		Object[] args = new Object[] { "firstArg", "secondArg", "thirdArg" };
+
+		assertEquals("/method/firstArg/secondArg/thirdArg/end", template.expand(args));
+	}
+
+	@Test
+	public void shouldExpandSameArgumentMoreThanOnce() {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/{first}/method/{first}", parameters);
+
+		assertEquals("/arg/method/arg", template.expand(new Object[] { "arg" }));
+	}
+
+	@Test
+	public void shouldKeepPlaceholderWithoutPathArgument() {
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{unknown}", parameters);
+
+		assertEquals("/method/{unknown}", template.expand(new Object[0]));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenPathArgumentIsNull() {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first}", parameters);
+
+		template.expand(new Object[] { null });
+	}
+
+	@Test
+	public void shouldKeepQueryAndFragmentDelimitersOfPathArgument() throws Exception {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/method/{first}", parameters);
+
+		URI uri = template.toURI(new Object[] { "arg?name=value#section" });
+
+		assertEquals("http://my.api.com/method/arg?name=value#section", uri.toString());
+		assertEquals("/method/arg", uri.getPath());
+		assertEquals("name=value", uri.getQuery());
+		assertEquals("section", uri.getFragment());
+	}
+
+	@Test
+	public void shouldEncodeIllegalCharactersOfPathArgument() throws Exception {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/method/{first}", parameters);
+
+		URI uri = template.toURI(new Object[] { "my argument \u00e9 \"quoted\"" });
+
+		assertEquals("http://my.api.com/method/my%20argument%20%C3%A9%20%22quoted%22", uri.toString());
+		assertEquals("/method/my argument \u00e9 \"quoted\"", uri.getPath());
+	}
+
+	@Test
+	public void shouldNotEncodeLegalCharactersOfPathArgument() {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first}", parameters);
+
+		assertEquals("/method/a-b.c_d~e:f@g/h;i=j", template.expand(new Object[] { "a-b.c_d~e:f@g/h;i=j" }));
+	}
+
+	@Test
+	public void shouldExpandQueryParameters() {
+		parameters.put(new EndpointMethodParameter(0, "first", String.class));
+		parameters.put(new EndpointMethodParameter(1, "param1", String.class, EndpointMethodParameterType.QUERY_STRING,
+				new EndpointMethodQueryParameterSerializer()));
+		parameters.put(new EndpointMethodParameter(2, "param2", String.class, EndpointMethodParameterType.QUERY_STRING,
+				new EndpointMethodQueryParameterSerializer()));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first}", parameters);
+
+		assertEquals("/method/arg?param1=value1&param2=value+2", template.expand(new Object[] { "arg", "value1", "value 2" }));
+	}
+
+	@Test
+	public void shouldIgnoreNullQueryArguments() {
+		parameters.put(new EndpointMethodParameter(0, "param1", String.class, EndpointMethodParameterType.QUERY_STRING,
+				new EndpointMethodQueryParameterSerializer()));
+		parameters.put(new EndpointMethodParameter(1, "param2", String.class, EndpointMethodParameterType.QUERY_STRING,
+				new EndpointMethodQueryParameterSerializer()));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method", parameters);
+
+		assertEquals("/method?param2=value2", template.expand(new Object[] { null, "value2" }));
+		assertEquals("/method", template.expand(new Object[] { null, null }));
+	}
+}
@@ -0,0 +1,46 @@
+package com.github.ljtfreitas.restify.http.processor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+class JavaSourceCompiler {
+
+	private final File directory;
+
+	JavaSourceCompiler(File directory) {
+		this.directory = directory;
+	}
+
+	@SafeVarargs
+	final ClassLoader compile(String className, String source, Class<? extends Processor>... processors) throws Exception {
+		File sourceFile = new File(directory, className.replace('.', File.separatorChar) + ".java");
+		sourceFile.getParentFile().mkdirs();
+
+		Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+		File output = new File(directory, "classes");
+		output.mkdirs();
+
+		String processorNames = Arrays.stream(processors).map(Class::getName).collect(Collectors.joining(","));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		int result = compiler.run(null, null, null, "-parameters", "-classpath", System.getProperty("java.class.path"),
+				"-processor", processorNames, "-d", output.getAbsolutePath(), sourceFile.getAbsolutePath());
+
+		assertEquals(0, result);
+
+		return new URLClassLoader(new URL[] {output.toURI().toURL()}, getClass().getClassLoader());
+	}
+}
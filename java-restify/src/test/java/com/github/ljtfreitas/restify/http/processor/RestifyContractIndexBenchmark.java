@@ -0,0 +1,78 @@
+package com.github.ljtfreitas.restify.http.processor;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.contract.DefaultRestifyContract;
+import com.github.ljtfreitas.restify.http.contract.IndexedRestifyContract;
+import com.github.ljtfreitas.restify.http.contract.RestifyContract;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultRestifyContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
+import com.github.ljtfreitas.restify.http.contract.metadata.SimpleRestifyContractExpressionResolver;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestifyContractIndexBenchmark {
+
+	private static final int METHODS = 20;
+
+	private EndpointTarget target;
+
+	private RestifyContract reflective;
+
+	private RestifyContract indexed;
+
+	@Setup
+	public void setup() throws Exception {
+		String methods = IntStream.range(0, METHODS)
+				.mapToObj(i -> "  @Path(\"/customers/{customer}/orders/" + i + "\") @Get @JsonContent\n"
+						+ "  java.util.List<String> orders" + i + "(@PathParameter String customer, @QueryParameter(\"page\") int page, "
+						+ "@HeaderParameter(\"X-Tenant\") String tenant);\n")
+				.collect(Collectors.joining());
+
+		String source = ""
+				+ "package sample;\n"
+				+ "import com.github.ljtfreitas.restify.http.contract.*;\n"
+				+ "@Path(\"/api\") @Version(\"v1\") @Header(name = \"X-Client\", value = \"benchmark\")\n"
+				+ "public interface BenchmarkApi {\n"
+				+ methods
+				+ "}\n";
+
+		ClassLoader classLoader = new JavaSourceCompiler(Files.createTempDirectory("restify-benchmark").toFile())
+				.compile("sample.BenchmarkApi", source, RestifyContractIndexProcessor.class);
+
+		target = new EndpointTarget(classLoader.loadClass("sample.BenchmarkApi"), "http://my.api.com");
+
+		reflective = new DefaultRestifyContract(new DefaultRestifyContractReader());
+
+		indexed = new IndexedRestifyContract(new SimpleRestifyContractExpressionResolver(), reflective);
+	}
+
+	@Benchmark
+	public EndpointType reflective() {
+		return reflective.read(target);
+	}
+
+	@Benchmark
+	public EndpointType indexed() {
+		return indexed.read(target);
+	}
+}
@@ -0,0 +1,138 @@
+package com.github.ljtfreitas.restify.http.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.contract.DefaultRestifyContract;
+import com.github.ljtfreitas.restify.http.contract.IndexedRestifyContract;
+import com.github.ljtfreitas.restify.http.contract.RestifyContract;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultRestifyContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
+import com.github.ljtfreitas.restify.http.contract.metadata.SimpleRestifyContractExpressionResolver;
+import com.github.ljtfreitas.restify.http.contract.metadata.index.EndpointTypeIndex;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RestifyContractIndexProcessorTest {
+
+	private static final String SOURCE = ""
+			+ "package sample;\n"
+			+ "import java.util.*;\n"
+			+ "import com.github.ljtfreitas.restify.http.contract.*;\n"
+			+ "import com.github.ljtfreitas.restify.http.client.request.async.*;\n"
+			+ "@Path(\"/api/\")\n"
+			+ "@Header(name = \"X-Type\", value = \"type\")\n"
+			+ "@Version(\"v1\")\n"
+			+ "public interface MyIndexedApi extends Base {\n"
+			+ "  @Path(\"/{path}\") @Get @JsonContent\n"
+			+ "  List<MyIndexedApi.Model> get(@PathParameter String path, @QueryParameter(\"q\") String query, @HeaderParameter(\"X-Header\") String header);\n"
+			+ "  @Path(\"models\") @Post @Version(value = \"v2\", uri = false)\n"
+			+ "  Map<String, ? extends Number> post(@BodyParameter Model[] body, @QueryParameters Parameters parameters);\n"
+			+ "  @Path(\"/async\") @Get\n"
+			+ "  void async(@CallbackParameter EndpointCallSuccessCallback<List<String>> success, @CallbackParameter EndpointCallFailureCallback failure);\n"
+			+ "  class Model {}\n"
+			+ "}\n"
+			+ "@Path(\"/base\")\n"
+			+ "interface Base {\n"
+			+ "  @Path(\"/inherited\") @Delete\n"
+			+ "  Set<String>[] inherited(String name);\n"
+			+ "}\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Mock
+	private RestifyContract fallbackMock;
+
+	private Class<?> myApiType;
+
+	@Before
+	public void setup() throws Exception {
+		ClassLoader classLoader = new JavaSourceCompiler(folder.getRoot())
+				.compile("sample.MyIndexedApi", SOURCE, RestifyContractIndexProcessor.class);
+
+		myApiType = classLoader.loadClass("sample.MyIndexedApi");
+	}
+
+	@Test
+	public void shouldGenerateContractIndexOfPathInterface() throws Exception {
+		Class<?> indexType = myApiType.getClassLoader().loadClass(EndpointTypeIndex.nameOf(myApiType));
+
+		assertTrue(EndpointTypeIndex.class.isAssignableFrom(indexType));
+	}
+
+	@Test
+	public void shouldReadTheSameMetadataOfReflectiveContract() throws Exception {
+		EndpointTarget target = new EndpointTarget(myApiType, "http://my.api.com/");
+
+		EndpointType indexed = new IndexedRestifyContract(new SimpleRestifyContractExpressionResolver(), fallbackMock)
+				.read(target);
+
+		EndpointType reflected = new DefaultRestifyContract(new DefaultRestifyContractReader())
+				.read(target);
+
+		verify(fallbackMock, never()).read(any());
+
+		for (Method javaMethod : myApiType.getMethods()) {
+			EndpointMethod expected = reflected.find(javaMethod).get();
+			EndpointMethod actual = indexed.find(javaMethod).get();
+
+			assertEquals(expected.path(), actual.path());
+			assertEquals(expected.httpMethod(), actual.httpMethod());
+			assertEquals(expected.version(), actual.version());
+			assertEquals(expected.returnType(), actual.returnType());
+			assertEquals(new HashSet<>(expected.headers().all()), new HashSet<>(actual.headers().all()));
+
+			for (int position = 0; position < javaMethod.getParameterCount(); position++) {
+				EndpointMethodParameter expectedParameter = expected.parameters().get(position).get();
+				EndpointMethodParameter actualParameter = actual.parameters().get(position).get();
+
+				assertEquals(expectedParameter.name(), actualParameter.name());
+				assertEquals(expectedParameter.javaType(), actualParameter.javaType());
+				assertEquals(expectedParameter.path(), actualParameter.path());
+				assertEquals(expectedParameter.query(), actualParameter.query());
+				assertEquals(expectedParameter.header(), actualParameter.header());
+				assertEquals(expectedParameter.body(), actualParameter.body());
+				assertEquals(expectedParameter.callback(), actualParameter.callback());
+			}
+		}
+	}
+
+	@Test
+	public void shouldExpandIndexedEndpointPath() throws Exception {
+		EndpointType indexed = new IndexedRestifyContract(new SimpleRestifyContractExpressionResolver(), fallbackMock)
+				.read(new EndpointTarget(myApiType, "http://my.api.com/"));
+
+		Optional<EndpointMethod> endpointMethod = indexed.find(myApiType.getMethod("get", String.class, String.class, String.class));
+
+		assertTrue(endpointMethod.isPresent());
+		assertEquals("http://my.api.com/base/api/v1/sample?q=query", endpointMethod.get().expand(new Object[] {"sample", "query", "header"}));
+	}
+
+	@Test
+	public void shouldFallbackToReflectiveContractWhenIndexIsAbsent() {
+		EndpointTarget target = new EndpointTarget(Runnable.class);
+
+		new IndexedRestifyContract(new SimpleRestifyContractExpressionResolver(), fallbackMock)
+			.read(target);
+
+		verify(fallbackMock).read(target);
+	}
+}
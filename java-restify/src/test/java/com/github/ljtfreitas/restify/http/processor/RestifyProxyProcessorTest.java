@@ -0,0 +1,143 @@
+package com.github.ljtfreitas.restify.http.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.GeneratedRestifyProxy;
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutable;
+import com.github.ljtfreitas.restify.http.client.call.exec.EndpointCallExecutableFactory;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.client.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RestifyProxyProcessorTest {
+
+	private static final String SOURCE = ""
+			+ "package sample;\n"
+			+ "import com.github.ljtfreitas.restify.http.contract.*;\n"
+			+ "@Path(\"http://my.api.com\")\n"
+			+ "public interface MyApi {\n"
+			+ "  @Path(\"/{path}\") @Get String get(@PathParameter String path);\n"
+			+ "  @Path(\"/count\") @Get int count();\n"
+			+ "  @Path(\"/run\") @Post void run(@BodyParameter String body);\n"
+			+ "}\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Mock
+	private EndpointRequestExecutor endpointRequestExecutorMock;
+
+	private Class<?> myApiType;
+
+	@Before
+	public void setup() throws Exception {
+		ClassLoader classLoader = new JavaSourceCompiler(folder.getRoot())
+				.compile("sample.MyApi", SOURCE, RestifyProxyProcessor.class);
+
+		myApiType = classLoader.loadClass("sample.MyApi");
+	}
+
+	@Test
+	public void shouldGenerateProxyImplementationOfPathInterface() throws Exception {
+		Class<?> generatedType = myApiType.getClassLoader().loadClass("sample.MyApi" + GeneratedRestifyProxy.SUFFIX);
+
+		assertTrue(myApiType.isAssignableFrom(generatedType));
+		assertTrue(GeneratedRestifyProxy.class.isAssignableFrom(generatedType));
+		assertEquals(GeneratedRestifyProxy.nameOf(myApiType), generatedType.getName());
+	}
+
+	@Test
+	public void shouldUseGeneratedProxyWhenAvailable() throws Exception {
+		when(endpointRequestExecutorMock.execute(any(EndpointRequest.class)))
+			.then(invocation -> {
+				EndpointRequest request = invocation.getArgumentAt(0, EndpointRequest.class);
+
+				Object body = request.endpoint().getPath().equals("/count") ? 42
+						: request.endpoint().getPath().equals("/run") ? null
+								: request.endpoint().getPath();
+
+				return new EndpointResponse<>(StatusCode.ok(), new Headers(), body);
+			});
+
+		Object myApi = new RestifyProxyBuilder()
+				.executor(endpointRequestExecutorMock)
+					.target(myApiType)
+						.build();
+
+		assertFalse(Proxy.isProxyClass(myApi.getClass()));
+		assertTrue(myApi instanceof GeneratedRestifyProxy);
+
+		Method get = myApiType.getMethod("get", String.class);
+		assertEquals("/sample", get.invoke(myApi, "sample"));
+
+		Method count = myApiType.getMethod("count");
+		assertEquals(42, count.invoke(myApi));
+
+		Method run = myApiType.getMethod("run", String.class);
+		run.invoke(myApi, "body");
+
+		assertTrue(myApi.toString().contains("sample.MyApi"));
+		assertEquals(myApi.hashCode(), myApi.hashCode());
+		assertTrue(myApi.equals(myApi));
+	}
+
+	@Test
+	public void shouldResolveInvocationPlanOfGeneratedProxyOnFirstCall() throws Exception {
+		when(endpointRequestExecutorMock.execute(any(EndpointRequest.class)))
+			.then(invocation -> new EndpointResponse<>(StatusCode.ok(), new Headers(),
+					invocation.getArgumentAt(0, EndpointRequest.class).endpoint().getPath()));
+
+		Object myApi = new RestifyProxyBuilder()
+				.executor(endpointRequestExecutorMock)
+				.executables()
+					.add(new EndpointCallExecutableFactory<Object, Object>() {
+
+						@Override
+						public boolean supports(EndpointMethod endpointMethod) {
+							return endpointMethod.javaMethod().getName().equals("count");
+						}
+
+						@Override
+						public EndpointCallExecutable<Object, Object> create(EndpointMethod endpointMethod) {
+							throw new UnsupportedOperationException("count is not supported.");
+						}
+					})
+					.and()
+				.target(myApiType)
+					.build();
+
+		Method get = myApiType.getMethod("get", String.class);
+		assertEquals("/sample", get.invoke(myApi, "sample"));
+
+		Method count = myApiType.getMethod("count");
+		try {
+			count.invoke(myApi);
+			fail("count should not have an invocation plan.");
+
+		} catch (InvocationTargetException e) {
+			assertTrue(e.getCause() instanceof UnsupportedOperationException);
+		}
+	}
+}
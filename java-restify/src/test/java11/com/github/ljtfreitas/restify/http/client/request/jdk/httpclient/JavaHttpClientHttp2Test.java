@@ -0,0 +1,123 @@
+package com.github.ljtfreitas.restify.http.client.request.jdk.httpclient;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.converter.InputStreamContent;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.jdk.HttpClientRequestConfiguration;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+public class JavaHttpClientHttp2Test {
+
+	private static final String MAX_STREAMS = "jdk.httpclient.maxstreams";
+
+	private Server server;
+
+	private ServerConnector connector;
+
+	@Before
+	public void setup() throws Exception {
+		server = new Server();
+
+		HttpConfiguration configuration = new HttpConfiguration();
+
+		connector = new ServerConnector(server, new HttpConnectionFactory(configuration),
+				new HTTP2CServerConnectionFactory(configuration));
+
+		server.addConnector(connector);
+		server.setHandler(new AbstractHandler() {
+			@Override
+			public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+					throws IOException {
+				response.setContentType("text/plain");
+				response.getOutputStream().write(request.getProtocol().getBytes(StandardCharsets.UTF_8));
+				baseRequest.setHandled(true);
+			}
+		});
+
+		server.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		server.stop();
+		System.clearProperty(MAX_STREAMS);
+	}
+
+	@Test
+	public void shouldExchangeRequestsOverCleartextHttp2() throws IOException {
+		JavaHttpClientRequestFactory javaHttpClientRequestFactory = new JavaHttpClientRequestFactory();
+
+		// the first request carries the h2c upgrade and jetty reports it with its original protocol
+		assertEquals("HTTP/1.1", protocolOf(javaHttpClientRequestFactory));
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("HTTP/2.0", protocolOf(javaHttpClientRequestFactory));
+		}
+	}
+
+	@Test
+	public void shouldUseHttp1WhenHttp2IsDisabled() throws IOException {
+		JavaHttpClientRequestFactory javaHttpClientRequestFactory = new JavaHttpClientRequestFactory(
+				HttpClientRequestConfiguration.useDefault(), false);
+
+		assertEquals("HTTP/1.1", protocolOf(javaHttpClientRequestFactory));
+	}
+
+	@Test
+	public void shouldApplyProcessWideHttp2Settings() throws IOException {
+		JavaHttpClientRequestFactory.http2Settings(new JavaHttpClientHttp2Settings.Builder()
+				.maxConcurrentStreams(50)
+				.build());
+
+		assertEquals("50", System.getProperty(MAX_STREAMS));
+
+		JavaHttpClientRequestFactory.http2Settings(new JavaHttpClientHttp2Settings.Builder()
+				.maxConcurrentStreams(50)
+				.build());
+
+		JavaHttpClientRequestFactory javaHttpClientRequestFactory = new JavaHttpClientRequestFactory();
+
+		protocolOf(javaHttpClientRequestFactory);
+
+		assertEquals("HTTP/2.0", protocolOf(javaHttpClientRequestFactory));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectHttp2SettingsThatConflictWithTheProcessWideValue() {
+		System.setProperty(MAX_STREAMS, "50");
+
+		JavaHttpClientRequestFactory.http2Settings(new JavaHttpClientHttp2Settings.Builder()
+				.maxConcurrentStreams(100)
+				.build());
+	}
+
+	private String protocolOf(JavaHttpClientRequestFactory javaHttpClientRequestFactory) throws IOException {
+		URI endpoint = URI.create("http://localhost:" + connector.getLocalPort() + "/protocol");
+
+		try (HttpResponseMessage response = javaHttpClientRequestFactory.createOf(new EndpointRequest(endpoint, "GET")).execute()) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			new InputStreamContent(response.body()).transferTo(output);
+			return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.github.ljtfreitas.restify.http.client.request.jdk.httpclient;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.Headers;
+import com.github.ljtfreitas.restify.http.client.message.converter.InputStreamContent;
+import com.github.ljtfreitas.restify.http.client.request.AsyncHttpClientRequest;
+import com.github.ljtfreitas.restify.http.client.request.ConnectionCountingServer;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.HttpResponseMessage;
+
+public class JavaHttpClientRequestTest {
+
+	private ConnectionCountingServer server;
+
+	private JavaHttpClientRequestFactory javaHttpClientRequestFactory;
+
+	@Before
+	public void setup() throws IOException {
+		server = new ConnectionCountingServer();
+
+		javaHttpClientRequestFactory = new JavaHttpClientRequestFactory();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		server.close();
+	}
+
+	@Test
+	public void shouldExecuteRequest() throws IOException {
+		try (HttpResponseMessage response = javaHttpClientRequestFactory.createOf(new EndpointRequest(endpoint("/hello"), "GET"))
+				.execute()) {
+
+			assertEquals(200, response.statusCode().value());
+			assertEquals("hello", contentOf(response.body()));
+		}
+	}
+
+	@Test
+	public void shouldExecuteRequestAsync() throws Exception {
+		try (HttpResponseMessage response = javaHttpClientRequestFactory.createOf(new EndpointRequest(endpoint("/large"), "GET"))
+				.executeAsync()
+					.get()) {
+
+			assertEquals(1024, contentOf(response.body()).length());
+		}
+	}
+
+	@Test
+	public void shouldSendRequestBody() throws IOException {
+		AsyncHttpClientRequest request = javaHttpClientRequestFactory.createOf(new EndpointRequest(endpoint("/upload"), "POST",
+				new Headers(), String.class));
+
+		request.output().write("hello".getBytes(StandardCharsets.UTF_8));
+		request.output().flush();
+
+		try (HttpResponseMessage response = request.execute()) {
+			assertEquals("5 fixed", contentOf(response.body()));
+		}
+	}
+
+	@Test
+	public void shouldReadErrorResponse() throws IOException {
+		try (HttpResponseMessage response = javaHttpClientRequestFactory.createOf(new EndpointRequest(endpoint("/missing"), "GET"))
+				.execute()) {
+
+			assertEquals(404, response.statusCode().value());
+			assertEquals("not found", contentOf(response.body()));
+		}
+	}
+
+	private URI endpoint(String path) {
+		return URI.create("http://localhost:" + server.port() + path);
+	}
+
+	private String contentOf(InputStream body) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new InputStreamContent(body).transferTo(output);
+		return new String(output.toByteArray(), StandardCharsets.UTF_8);
+	}
+}